@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
 
 /**
  * Database configuration class that creates a singleton DataSource bean
@@ -27,7 +28,10 @@ public class DatabaseConfig {
     private String driverClassName;
 
     /**
-     * Creates a singleton DataSource bean that will be shared across all repositories
+     * Creates a singleton DataSource bean that will be shared across all repositories.
+     * The pool is wrapped so that repositories calling getConnection() inside a
+     * {@code @Transactional} service method all get the transaction's connection,
+     * and so each request's statement count can be tracked.
      * @return configured DataSource
      */
     @Bean
@@ -37,6 +41,6 @@ public class DatabaseConfig {
         dataSourceBuilder.url(url + "?useSSL=false&serverTimezone=Australia/Melbourne");
         dataSourceBuilder.username(username);
         dataSourceBuilder.password(password);
-        return dataSourceBuilder.build();
+        return new TransactionAwareDataSourceProxy(new StatementCountingDataSource(dataSourceBuilder.build()));
     }
 }
@@ -0,0 +1,124 @@
+package au.edu.rmit.sept.webapp.config;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Token buckets per client IP and per account in front of the endpoints that run BCrypt
+ * (login and sign-up), so one client hammering the form can't fill the hashing pool.
+ */
+@Component
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottleFilter.class);
+
+    private static final long IDLE_EVICT_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+
+    @Value("${app.security.login.ip-capacity:20}")
+    private int ipCapacity;
+
+    @Value("${app.security.login.ip-refill-per-minute:20}")
+    private int ipRefillPerMinute;
+
+    @Value("${app.security.login.user-capacity:5}")
+    private int userCapacity;
+
+    @Value("${app.security.login.user-refill-per-minute:5}")
+    private int userRefillPerMinute;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.equals("/users/login") && !path.equals("/sign-up");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String ip = request.getRemoteAddr();
+        if (!ipBuckets.computeIfAbsent(ip, k -> new TokenBucket(ipCapacity, ipRefillPerMinute)).tryConsume()) {
+            reject(response, "ip " + ip);
+            return;
+        }
+
+        String email = request.getParameter("email");
+        if (email != null && !email.isBlank()) {
+            String key = email.trim().toLowerCase(Locale.ROOT);
+            if (!userBuckets.computeIfAbsent(key, k -> new TokenBucket(userCapacity, userRefillPerMinute)).tryConsume()) {
+                reject(response, "account " + key);
+                return;
+            }
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, String who) throws IOException {
+        logger.warn("Too many sign-in attempts from {}", who);
+        response.setHeader("Retry-After", "60");
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many sign-in attempts. Please wait a minute and try again.");
+    }
+
+    // Forget buckets nobody has used for a while, so the maps don't grow forever
+    @Scheduled(fixedDelay = 300_000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        ipBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+        userBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    static final class TokenBucket {
+
+        private final int capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+        private long lastUse;
+
+        TokenBucket(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+            this.lastUse = lastRefill;
+        }
+
+        synchronized boolean tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            lastUse = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized boolean isIdle(long now) {
+            return now - lastUse >= IDLE_EVICT_NANOS;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package au.edu.rmit.sept.webapp.config;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Logs how many JDBC statements and connection checkouts each request needed, and
+ * warns when a request goes over app.jdbc.statement-budget. Keeps N+1 loops visible.
+ */
+@Component
+public class RequestStatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestStatementBudgetFilter.class);
+
+    @Value("${app.jdbc.statement-budget:25}")
+    private int statementBudget;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.endsWith(".css") || path.endsWith(".js") || path.startsWith("/images/")
+            || path.startsWith("/event_photos/") || path.startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            StatementCounter.Counts counts = StatementCounter.stop();
+            if (counts.statements() > statementBudget) {
+                logger.warn("{} {} ran {} SQL statements on {} connection(s), over the budget of {}",
+                            request.getMethod(), request.getRequestURI(),
+                            counts.statements(), counts.connections(), statementBudget);
+            } else if (logger.isDebugEnabled() && counts.statements() > 0) {
+                logger.debug("{} {} ran {} SQL statements on {} connection(s)",
+                             request.getMethod(), request.getRequestURI(),
+                             counts.statements(), counts.connections());
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package au.edu.rmit.sept.webapp.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import au.edu.rmit.sept.webapp.repository.SessionRepository;
+import au.edu.rmit.sept.webapp.session.SessionRepositoryFilter;
+import au.edu.rmit.sept.webapp.session.SessionStore;
+
+/**
+ * Shared MySQL-backed sessions, switched on with app.session.jdbc.enabled=true
+ * when running more than one replica.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.session.jdbc", name = "enabled", havingValue = "true")
+public class SessionConfig {
+
+    @Bean
+    public SessionStore sessionStore(SessionRepository sessionRepository,
+                                     @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+                                     @Value("${app.session.jdbc.near-cache-ttl-ms:2000}") long nearCacheTtlMillis,
+                                     @Value("${app.session.jdbc.touch-interval-ms:30000}") long touchIntervalMillis,
+                                     @Value("${app.session.jdbc.cleanup-batch-size:1000}") int cleanupBatchSize) {
+        return new SessionStore(sessionRepository, (int) timeout.getSeconds(),
+                                nearCacheTtlMillis, touchIntervalMillis, cleanupBatchSize);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SessionRepositoryFilter> sessionRepositoryFilter(
+            SessionStore sessionStore,
+            @Value("${app.session.jdbc.cookie-name:JSESSIONID}") String cookieName) {
+        FilterRegistrationBean<SessionRepositoryFilter> registration =
+            new FilterRegistrationBean<>(new SessionRepositoryFilter(sessionStore, cookieName));
+        // Must wrap the request before anything else asks for the session
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 50);
+        return registration;
+    }
+}
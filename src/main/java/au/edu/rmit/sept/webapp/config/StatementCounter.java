@@ -0,0 +1,77 @@
+package au.edu.rmit.sept.webapp.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-thread tally of JDBC work, switched on for the duration of a web request by
+ * {@link RequestStatementBudgetFilter}. Threads that never call {@link #start()}
+ * (schedulers, background pools) are not counted, unless their task was wrapped with
+ * {@link #carryOver(Callable)} by a counted request thread.
+ */
+public final class StatementCounter {
+
+    public record Counts(int statements, int connections) {}
+
+    // Atomic because a request's tally can be shared with the workers it hands tasks to
+    private static final class MutableCounts {
+        final AtomicInteger statements = new AtomicInteger();
+        final AtomicInteger connections = new AtomicInteger();
+    }
+
+    private static final ThreadLocal<MutableCounts> COUNTS = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static void start() {
+        COUNTS.set(new MutableCounts());
+    }
+
+    /**
+     * Stop counting on this thread and return what was seen since {@link #start()}.
+     */
+    public static Counts stop() {
+        MutableCounts counts = COUNTS.get();
+        COUNTS.remove();
+        return counts == null ? new Counts(0, 0) : new Counts(counts.statements.get(), counts.connections.get());
+    }
+
+    /**
+     * Wrap a task so JDBC work it does on another thread is added to the calling thread's tally.
+     * Returns the task unchanged when the calling thread is not being counted.
+     */
+    public static <T> Callable<T> carryOver(Callable<T> task) {
+        MutableCounts counts = COUNTS.get();
+        if (counts == null) {
+            return task;
+        }
+        return () -> {
+            MutableCounts previous = COUNTS.get();
+            COUNTS.set(counts);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    COUNTS.remove();
+                } else {
+                    COUNTS.set(previous);
+                }
+            }
+        };
+    }
+
+    static void statementPrepared() {
+        MutableCounts counts = COUNTS.get();
+        if (counts != null) {
+            counts.statements.incrementAndGet();
+        }
+    }
+
+    static void connectionAcquired() {
+        MutableCounts counts = COUNTS.get();
+        if (counts != null) {
+            counts.connections.incrementAndGet();
+        }
+    }
+}
@@ -8,7 +8,10 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${app.upload.dir:mysql_data/event_photos}")
+    /** Where photos are written, reclaimed and served from; every user of the directory injects this. */
+    public static final String UPLOAD_DIR = "${app.upload.dir:mysql_data/event_photos}";
+
+    @Value(UPLOAD_DIR)
     private String uploadDir;
 
     @Override
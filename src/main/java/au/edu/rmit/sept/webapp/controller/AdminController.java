@@ -18,10 +18,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import au.edu.rmit.sept.webapp.model.DeletedEventLog;
 import au.edu.rmit.sept.webapp.model.Event;
-import au.edu.rmit.sept.webapp.model.Student_Profile;
+import au.edu.rmit.sept.webapp.model.EventSummary;
 import au.edu.rmit.sept.webapp.model.User;
 import au.edu.rmit.sept.webapp.service.AdminService;
-import au.edu.rmit.sept.webapp.service.UserService;
 import jakarta.servlet.http.HttpSession;
 
 @Controller
@@ -31,11 +30,9 @@ public class AdminController {
     private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
 
     private final AdminService adminService;
-    private final UserService userService;
 
-    public AdminController(AdminService adminService, UserService userService) {
+    public AdminController(AdminService adminService) {
         this.adminService = adminService;
-        this.userService = userService;
     }
 
     // Role check for Admin-only access
@@ -49,8 +46,6 @@ public class AdminController {
         User user = (User) session.getAttribute("user");
         model.addAttribute("user", user);
         model.addAttribute("authenticated", true);
-        Optional<Student_Profile> profileOpt = userService.getProfileByUserId(user.user_id());
-        profileOpt.ifPresent(profile -> model.addAttribute("user_name", profile.name()));
     }
 
     //  View all events (Admin only)
@@ -61,7 +56,7 @@ public class AdminController {
         }
         addAdminAttributesToModel(session, model);
         logger.info("Admin requested to view all events");
-        List<Event> events = adminService.getAllEvents();
+        List<EventSummary> events = adminService.getAllEvents();
         model.addAttribute("events", events);
         return "admin/events";
     }
@@ -76,10 +71,18 @@ public class AdminController {
         logger.info("Admin requested details for event ID: {}", id);
         Optional<Event> event = adminService.getEventById(id);
         if (event.isEmpty()) {
-            model.addAttribute("error", "Event not found");
-            return "error";
+            // Long-finished events live in the archive tables and are read-only
+            Optional<Event> archived = adminService.getArchivedEventById(id);
+            if (archived.isEmpty()) {
+                model.addAttribute("error", "Event not found");
+                return "error";
+            }
+            model.addAttribute("event", archived.get());
+            model.addAttribute("archived", true);
+            return "admin/event_detail";
         }
         model.addAttribute("event", event.get());
+        adminService.getWaitingRoomRate(id).ifPresent(rate -> model.addAttribute("waitingRoomRate", rate));
         return "admin/event_detail";
     }
 
@@ -198,6 +201,34 @@ public String saveEventEdit(@PathVariable Long id,
         return "redirect:/admin/events/deleted";
     }
 
+    //  Queue RSVPs for a high-demand event (Admin only)
+    @PostMapping("/{id}/waiting-room")
+    public String openWaitingRoom(@PathVariable Long id,
+                                  @RequestParam("admitPerSecond") int admitPerSecond,
+                                  HttpSession session,
+                                  Model model) {
+        if (!isAdmin(session)) {
+            return "redirect:/access-denied";
+        }
+        if (admitPerSecond < 1) {
+            addAdminAttributesToModel(session, model);
+            model.addAttribute("error", "Admission rate must be at least 1 per second.");
+            return "error";
+        }
+        adminService.openWaitingRoom(id, admitPerSecond);
+        return "redirect:/admin/events/" + id;
+    }
+
+    //  Send RSVPs straight through again (Admin only)
+    @PostMapping("/{id}/waiting-room/close")
+    public String closeWaitingRoom(@PathVariable Long id, HttpSession session) {
+        if (!isAdmin(session)) {
+            return "redirect:/access-denied";
+        }
+        adminService.closeWaitingRoom(id);
+        return "redirect:/admin/events/" + id;
+    }
+
     //  View deleted events (Admin only)
     @GetMapping("/deleted")
     public String viewDeletedEvents(HttpSession session, Model model) {
@@ -206,7 +237,7 @@ public String saveEventEdit(@PathVariable Long id,
         }
         addAdminAttributesToModel(session, model);
         logger.info("Admin requested list of deleted events");
-        List<Event> deletedEvents = adminService.getDeletedEvents();
+        List<EventSummary> deletedEvents = adminService.getDeletedEvents();
         List<DeletedEventLog> logs = adminService.getDeletedEventLogs();
         model.addAttribute("events", deletedEvents);
         model.addAttribute("logs", logs);
@@ -1,9 +1,7 @@
 package au.edu.rmit.sept.webapp.controller;
 
-import au.edu.rmit.sept.webapp.model.Student_Profile;
 import au.edu.rmit.sept.webapp.model.User;
 import au.edu.rmit.sept.webapp.service.AdminUserService;
-import au.edu.rmit.sept.webapp.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
@@ -21,11 +19,9 @@ public class AdminUserController {
 
     private static final Logger logger = LoggerFactory.getLogger(AdminUserController.class);
     private final AdminUserService adminUserService;
-    private final UserService userService;
 
-    public AdminUserController(AdminUserService adminUserService, UserService userService) {
+    public AdminUserController(AdminUserService adminUserService) {
         this.adminUserService = adminUserService;
-        this.userService = userService;
     }
 
     // Role check for Admin-only access
@@ -39,8 +35,6 @@ public class AdminUserController {
         User user = (User) session.getAttribute("user");
         model.addAttribute("user", user);
         model.addAttribute("authenticated", true);
-        Optional<Student_Profile> profileOpt = userService.getProfileByUserId(user.user_id());
-        profileOpt.ifPresent(profile -> model.addAttribute("user_name", profile.name()));
     }
 
     //  View all users
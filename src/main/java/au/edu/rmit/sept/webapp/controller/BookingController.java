@@ -3,7 +3,6 @@ package au.edu.rmit.sept.webapp.controller;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,11 +14,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import au.edu.rmit.sept.webapp.model.Event;
 import au.edu.rmit.sept.webapp.model.Event_Photos;
-import au.edu.rmit.sept.webapp.model.Student_Profile;
 import au.edu.rmit.sept.webapp.model.User;
 import au.edu.rmit.sept.webapp.service.EventService;
 import au.edu.rmit.sept.webapp.service.PhotoService;
-import au.edu.rmit.sept.webapp.service.UserService;
 import jakarta.servlet.http.HttpSession;
 
 @Controller
@@ -27,12 +24,10 @@ public class BookingController {
 
     private static final Logger logger = LoggerFactory.getLogger(BookingController.class);
     private final EventService eventService;
-    private final UserService userService;
     private final PhotoService photoService;
 
-    public BookingController(EventService eventService, PhotoService photoService, UserService userService) {
+    public BookingController(EventService eventService, PhotoService photoService) {
         this.eventService = eventService;
-        this.userService = userService;
         this.photoService = photoService;
     }
 
@@ -58,10 +53,6 @@ public class BookingController {
         model.addAttribute("eventThumbnails", eventThumbnails);
         model.addAttribute("user", user);
         model.addAttribute("authenticated", true);
-        Optional<Student_Profile> profileOpt = userService.getProfileByUserId(user.user_id());
-        if (profileOpt.isPresent()) {
-            model.addAttribute("user_name", profileOpt.get().name());
-        }
 
         return "my-bookings";
     }
@@ -18,16 +18,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import au.edu.rmit.sept.webapp.dto.EventPage;
 import au.edu.rmit.sept.webapp.dto.RsvpUserDetail;
+import au.edu.rmit.sept.webapp.dto.WaitingRoomStatus;
 import au.edu.rmit.sept.webapp.model.Event;
 import au.edu.rmit.sept.webapp.model.Event_Photos;
-import au.edu.rmit.sept.webapp.model.Student_Profile;
+import au.edu.rmit.sept.webapp.model.Tags;
 import au.edu.rmit.sept.webapp.model.User;
 import au.edu.rmit.sept.webapp.repository.UserRepository;
 import au.edu.rmit.sept.webapp.service.EventService;
 import au.edu.rmit.sept.webapp.service.NotificationService;
+import au.edu.rmit.sept.webapp.service.PageLoader;
 import au.edu.rmit.sept.webapp.service.PhotoService;
-import au.edu.rmit.sept.webapp.service.UserService;
+import au.edu.rmit.sept.webapp.service.RsvpWaitingRoom;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
@@ -36,19 +39,23 @@ import jakarta.servlet.http.HttpSession;
 public class EventController {
 
     private static final Logger logger = LoggerFactory.getLogger(EventController.class);
+    private static final int PAST_PAGE_SIZE = 12;
     private final EventService eventService;
     private final UserRepository userRepository;
     private final PhotoService photoService;
-    private final UserService userService;
     private final NotificationService notificationService;
+    private final PageLoader pageLoader;
+    private final RsvpWaitingRoom waitingRoom;
 
-    public EventController(UserService userService, EventService eventService, UserRepository userRepository, 
-                          PhotoService photoService, NotificationService notificationService) {
-        this.userService = userService;
+    public EventController(EventService eventService, UserRepository userRepository, 
+                          PhotoService photoService, NotificationService notificationService,
+                          PageLoader pageLoader, RsvpWaitingRoom waitingRoom) {
         this.eventService = eventService;
         this.userRepository = userRepository;
         this.photoService = photoService;
         this.notificationService = notificationService;
+        this.pageLoader = pageLoader;
+        this.waitingRoom = waitingRoom;
     }
 
     @PostMapping("/rsvp")
@@ -65,6 +72,19 @@ public class EventController {
         }
         Long userId = (long) user.user_id();
 
+        // High-demand events queue the RSVP and admit it at a steady rate instead of writing it now
+        if (waitingRoom.admitRate(eventId.intValue()).isPresent()) {
+            Optional<WaitingRoomStatus> ticket = waitingRoom.enqueue(
+                    eventId.intValue(), userId, user.email(), getUserName(user.user_id()));
+            if (ticket.isEmpty()) {
+                attributes.addFlashAttribute("flashMessage", "The queue for this event is full. Please try again shortly.");
+                return "redirect:/browse";
+            }
+            logger.info("RSVP for event ID: {} from user ID: {} queued at position {}",
+                        eventId, userId, ticket.get().position());
+            return "redirect:/rsvp/queue/" + ticket.get().token();
+        }
+
         eventService.rsvp(eventId, userId);
         logger.info("RSVP received for event ID: " + eventId + " from user ID: " + userId);
 
@@ -122,23 +142,36 @@ public class EventController {
             @RequestParam(value = "query", required = false) String query,
             @RequestParam(value = "tag", required = false) String tag,
             @RequestParam(value = "date", required = false) String date,
+            @RequestParam(value = "sort", required = false) String sort,
             HttpServletRequest request,
             Model model
     ) {
         try {
-            List<Event> upcomingEvents;
-            List<Event> pastEvents;
             HttpSession session = request.getSession(false);
-            if (session != null && session.getAttribute("user") != null) {
-                User user = (User) session.getAttribute("user");
+            User user = session != null ? (User) session.getAttribute("user") : null;
+            PageLoader.Page page = pageLoader.begin();
+
+            PageLoader.Part<List<Integer>> rsvpedEventIds = user != null
+                    ? page.fork("rsvpedEventIds", () -> eventService.getRsvpedEventIds(user.getUserId()), List.of())
+                    : null;
+            PageLoader.Part<List<Event>> upcomingPart;
+            PageLoader.Part<EventPage> pastPart;
+            if (query != null || tag != null || date != null) {
+                upcomingPart = page.fork("upcomingEvents", () -> eventService.searchEvents(query, tag, date, true));
+                pastPart = page.fork("pastEvents",
+                        () -> new EventPage(eventService.searchEvents(query, tag, date, false), null));
+            } else {
+                upcomingPart = page.fork("upcomingEvents", eventService::getUpcomingEvents);
+                // Only the first page of the archive; "Load more" pulls the rest from /api/events/past
+                pastPart = page.fork("pastEvents", () -> eventService.getPastEventsPage(null, null, null, PAST_PAGE_SIZE));
+            }
+            PageLoader.Part<List<Tags>> allTags = page.fork("allTags", eventService::getAllTags, List.of());
+            page.join();
+
+            if (user != null) {
                 model.addAttribute("user", user);
                 model.addAttribute("authenticated", true);
-                Optional<Student_Profile> profileOpt = userService.getProfileByUserId((int) session.getAttribute("userId"));
-                if (profileOpt.isPresent()) {
-                    model.addAttribute("user_name", profileOpt.get().name());
-                }
-                List<Integer> rsvpedEventIds = eventService.getRsvpedEventIds(user.getUserId());
-                model.addAttribute("rsvpedEventIds", rsvpedEventIds);
+                model.addAttribute("rsvpedEventIds", rsvpedEventIds.get());
                 logger.info("User is logged in, added to model");
             } else {
                 model.addAttribute("authenticated", false);
@@ -146,29 +179,34 @@ public class EventController {
                 logger.info("No user logged in");
             }
 
-            if (query != null || tag != null || date != null) {
-                upcomingEvents = eventService.searchEvents(query, tag, date, true);
-                pastEvents = eventService.searchEvents(query, tag, date, false);
-            } else {
-                upcomingEvents = eventService.getUpcomingEvents();
-                pastEvents = eventService.getPastEvents();
+            List<Event> upcomingEvents = upcomingPart.get();
+            List<Event> pastEvents = pastPart.get().events();
+            String pastNextCursor = pastPart.get().nextCursor();
+
+            if ("trending".equals(sort)) {
+                upcomingEvents = eventService.sortByTrending(upcomingEvents);
             }
 
-            model.addAttribute("allTags", eventService.getAllTags());
+            model.addAttribute("allTags", allTags.get());
 
-            // Create thumbnails map for past events
-            Map<Integer, List<Event_Photos>> eventThumbnails = new HashMap<>();
+            // Thumbnails depend on which past events came back, so they are a second round on the same deadline
+            Map<Integer, PageLoader.Part<List<Event_Photos>>> thumbnailParts = new HashMap<>();
             for (Event event : pastEvents) {
-                List<Event_Photos> thumbnails = photoService.getEventPhotoThumbnails(event.event_id(), 3);
-                eventThumbnails.put(event.event_id(), thumbnails);
+                thumbnailParts.put(event.event_id(), page.fork("thumbnails:" + event.event_id(),
+                        () -> photoService.getEventPhotoThumbnails(event.event_id(), 3), List.of()));
             }
+            page.join();
+            Map<Integer, List<Event_Photos>> eventThumbnails = new HashMap<>();
+            thumbnailParts.forEach((eventId, part) -> eventThumbnails.put(eventId, part.get()));
 
             model.addAttribute("upcomingEvents", upcomingEvents);
             model.addAttribute("pastEvents", pastEvents);
+            model.addAttribute("pastNextCursor", pastNextCursor);
             model.addAttribute("eventThumbnails", eventThumbnails);
             model.addAttribute("query", query);
             model.addAttribute("tag", tag);
             model.addAttribute("date", date);
+            model.addAttribute("sort", sort);
 
             return "browse";
         } catch (Exception e) {
@@ -248,7 +286,8 @@ public class EventController {
     ) {
         try {
             final List<Event> upcoming = eventService.getUpcomingFiltered(q, page, size);
-            final List<Event> past = eventService.getPastEvents();
+            final EventPage pastPage = eventService.getPastEventsPage(null, null, null, PAST_PAGE_SIZE);
+            final List<Event> past = pastPage.events();
 
             // Create thumbnails map for past events
             Map<Integer, List<Event_Photos>> eventThumbnails = new HashMap<>();
@@ -263,10 +302,6 @@ public class EventController {
                 User user = (User) session.getAttribute("user");
                 model.addAttribute("user", user);
                 model.addAttribute("authenticated", true);
-                Optional<Student_Profile> profileOpt = userService.getProfileByUserId((int) session.getAttribute("userId"));
-                if (profileOpt.isPresent()) {
-                    model.addAttribute("user_name", profileOpt.get().name());
-                }
                 List<Integer> rsvpedEventIds = eventService.getRsvpedEventIds(user.getUserId());
                 model.addAttribute("rsvpedEventIds", rsvpedEventIds);
             } else {
@@ -276,6 +311,7 @@ public class EventController {
 
             model.addAttribute("upcomingEvents", upcoming);
             model.addAttribute("pastEvents", past);
+            model.addAttribute("pastNextCursor", pastPage.nextCursor());
             model.addAttribute("eventThumbnails", eventThumbnails);
             model.addAttribute("query", q);
             model.addAttribute("page", page);
@@ -303,15 +339,22 @@ public class EventController {
             if (user != null) {
                 model.addAttribute("user", user);
                 model.addAttribute("authenticated", true);
-                Optional<Student_Profile> profileOpt = userService.getProfileByUserId(user.user_id());
-                if (profileOpt.isPresent()) {
-                    model.addAttribute("user_name", profileOpt.get().name());
-                }
             } else {
                 model.addAttribute("authenticated", false);
             }
             
-            Optional<Event> eventOpt = eventService.getEventById(eventId);
+            // The event, its tags and the organiser check don't depend on each other
+            PageLoader.Page page = pageLoader.begin();
+            PageLoader.Part<Optional<Event>> eventPart = page.fork("event", () -> eventService.getEventById(eventId));
+            PageLoader.Part<List<Tags>> eventTags = page.fork("eventTags",
+                    () -> eventService.getTagsByEventId(eventId.intValue()), List.of());
+            PageLoader.Part<Boolean> organiser = page.fork("isOrganiser",
+                    () -> user != null && OrganisedEventIds.get(session, userRepository, user.user_id())
+                            .contains(eventId.intValue()),
+                    false);
+            page.join();
+
+            Optional<Event> eventOpt = eventPart.get();
 
             if (eventOpt.isEmpty()) {
                 logger.warn("Event not found with ID: {}", eventId);
@@ -320,13 +363,10 @@ public class EventController {
             }
 
             model.addAttribute("event", eventOpt.get());
-            model.addAttribute("eventTags", eventService.getTagsByEventId(eventId.intValue()));
+            model.addAttribute("eventTags", eventTags.get());
 
             // Organizer Check
-            boolean isOrganiser = false;
-            if (user != null) {
-                isOrganiser = userRepository.isOrganiserForEvent(user.user_id(), eventId.intValue());
-            }
+            boolean isOrganiser = organiser.get();
 
             model.addAttribute("isOrganiser", isOrganiser);
             logger.info("Event {} organizer status for user {}: {}",
@@ -368,4 +408,40 @@ class ApiEventController {
     
     // All methods that follow (getUpcomingEvents, getEventById, createEvent, updateEvent, deleteEvent)
     // must be placed within these braces.
+
+    /** "Load more" for the past-events archive: the page after {@code cursor}, optionally by club or tag. */
+    @GetMapping("/past")
+    public org.springframework.http.ResponseEntity<EventPage> getPastEvents(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "clubId", required = false) Long clubId,
+            @RequestParam(value = "tag", required = false) String tag,
+            @RequestParam(value = "size", defaultValue = "12") int size) {
+        try {
+            return org.springframework.http.ResponseEntity.ok(
+                    eventService.getPastEventsPage(cursor, clubId, tag, size));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected past-events page request: {}", e.getMessage());
+            return org.springframework.http.ResponseEntity.badRequest().build();
+        }
+    }
+
+    /** Upcoming events ranked by recent RSVP and check-in activity, best first. */
+    @GetMapping("/trending")
+    public List<Event> getTrendingEvents(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return eventService.getTrendingEvents(limit);
+    }
+
+    /** Upcoming events within {@code radius} km of the given point, nearest first. */
+    @GetMapping("/nearby")
+    public org.springframework.http.ResponseEntity<List<au.edu.rmit.sept.webapp.dto.NearbyEvent>> getNearbyEvents(
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng,
+            @RequestParam(value = "radius", defaultValue = "5") double radius) {
+        try {
+            return org.springframework.http.ResponseEntity.ok(eventService.getNearbyEvents(lat, lng, radius));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected nearby-events request: {}", e.getMessage());
+            return org.springframework.http.ResponseEntity.badRequest().build();
+        }
+    }
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 package au.edu.rmit.sept.webapp.controller;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +13,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -21,15 +24,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import au.edu.rmit.sept.webapp.dto.EventForm;
 import au.edu.rmit.sept.webapp.dto.EventFormMapper;
+import au.edu.rmit.sept.webapp.dto.SessionIdentity;
 import au.edu.rmit.sept.webapp.model.Event;
-import au.edu.rmit.sept.webapp.model.Organiser_Profile;
-import au.edu.rmit.sept.webapp.model.Student_Profile;
 import au.edu.rmit.sept.webapp.service.EventService;
-import au.edu.rmit.sept.webapp.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
@@ -40,10 +42,9 @@ public class EventPageController {
 
     private static final Logger log = LoggerFactory.getLogger(EventPageController.class);
     private final EventService eventService;
-    private final UserService userService;
 
-    public EventPageController(EventService eventService, UserService userService) {
-        this.eventService = eventService;this.userService = userService;
+    public EventPageController(EventService eventService) {
+        this.eventService = eventService;
     }
 
     // Access control with the emojis from helper
@@ -107,10 +108,6 @@ public class EventPageController {
                 if (session != null && session.getAttribute("user") != null) {
                     model.addAttribute("user", session.getAttribute("user"));
                     model.addAttribute("authenticated", true);
-                    Optional<Student_Profile> profileOpt = userService.getProfileByUserId((int) session.getAttribute("userId"));
-                    if (profileOpt.isPresent()) {
-                        model.addAttribute("user_name", profileOpt.get().name());
-                    }
                 }
 
                  return "organiser/events_list";
@@ -143,7 +140,6 @@ public String create(@Valid @ModelAttribute("form") EventForm form,
     Long clubId = null;
 
     String role = (String) session.getAttribute("role");
-    Integer userId = (Integer) session.getAttribute("userId");
 
     if ("ADMIN".equals(role)) {
         // Admin event context
@@ -151,20 +147,23 @@ public String create(@Valid @ModelAttribute("form") EventForm form,
         clubId = null;    // adjust if needed
     } else {
         // Organiser context
-        Optional<Organiser_Profile> organiserOpt = userService.findOrganiserById(userId);
-        if (organiserOpt.isPresent()) {
-            Organiser_Profile organiser = organiserOpt.get();
-            organiserId = (long) organiser.organiser_id();
-            clubId = (long) organiser.club_id();
+        SessionIdentity identity = SessionIdentity.from(session);
+        if (identity != null && identity.isOrganiser()) {
+            organiserId = identity.organiserId().longValue();
+            clubId = identity.clubId().longValue();
         }
     }
 
     // ✅ Create event once
     if (organiserId != null) {
+        String clashWarning = venueClashWarning(form, null);
         Event entity = EventFormMapper.toNewEntity(form, organiserId, clubId);
-        Event createdEvent = eventService.createEvent(entity);
-        eventService.updateEventTags(createdEvent.event_id(), form.getTags());
+        eventService.createEvent(entity, form.getTags());
+        OrganisedEventIds.invalidate(session);
         ra.addFlashAttribute("flash", "Event created successfully!");
+        if (clashWarning != null) {
+            ra.addFlashAttribute("warning", clashWarning);
+        }
     } else {
         ra.addFlashAttribute("flash", "Failed to identify organiser/admin for event creation.");
     }
@@ -192,10 +191,6 @@ public String create(@Valid @ModelAttribute("form") EventForm form,
         if (session != null && session.getAttribute("user") != null) {
             model.addAttribute("user", session.getAttribute("user"));
             model.addAttribute("authenticated", true);
-            Optional<Student_Profile> profileOpt = userService.getProfileByUserId((int) session.getAttribute("userId"));
-            if (profileOpt.isPresent()) {
-                model.addAttribute("user_name", profileOpt.get().name());
-            }
         }
         model.addAttribute("formMode", "edit");
         model.addAttribute("eventId", id);
@@ -225,10 +220,14 @@ public String create(@Valid @ModelAttribute("form") EventForm form,
                 .orElseThrow(() -> new RuntimeException("Event not found"));
 
         Event merged = EventFormMapper.applyToEntity(form, existing);
+        String clashWarning = venueClashWarning(form, id);
         eventService.updateEvent(id, merged);
         eventService.updateEventTags(id.intValue(), form.getTags());
 
         ra.addFlashAttribute("flash", "Event updated successfully.");
+        if (clashWarning != null) {
+            ra.addFlashAttribute("warning", clashWarning);
+        }
         return "redirect:/organiser/events?updated=1";
     }
 
@@ -244,6 +243,23 @@ public String create(@Valid @ModelAttribute("form") EventForm form,
         return "redirect:/organiser/events?cancelled=1";
     }
 
+    // Live clash check for the event form; a warning only, saving is never blocked
+    @GetMapping("/clashes")
+    @ResponseBody
+    public ResponseEntity<List<Event>> clashes(@RequestParam("location") String location,
+                                               @RequestParam("date") LocalDate date,
+                                               @RequestParam("start") LocalTime start,
+                                               @RequestParam("end") LocalTime end,
+                                               @RequestParam(value = "excludeId", required = false) Long excludeId,
+                                               HttpSession session) {
+        if (!isOrganizerOrAdmin(session)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        LocalDateTime startAt = date.atTime(start);
+        LocalDateTime endAt = date.atTime(end);
+        return ResponseEntity.ok(eventService.getVenueClashes(location, startAt, endAt, excludeId));
+    }
+
     @GetMapping("/new")
     public String newForm(HttpSession session, Model model) {
         if (!isOrganizerOrAdmin(session)) {
@@ -253,10 +269,6 @@ public String create(@Valid @ModelAttribute("form") EventForm form,
         if (session != null && session.getAttribute("user") != null) {
             model.addAttribute("user", session.getAttribute("user"));
             model.addAttribute("authenticated", true);
-            Optional<Student_Profile> profileOpt = userService.getProfileByUserId((int) session.getAttribute("userId"));
-            if (profileOpt.isPresent()) {
-                model.addAttribute("user_name", profileOpt.get().name());
-            }
         }
 
         if (!model.containsAttribute("form")) {
@@ -269,6 +281,19 @@ public String create(@Valid @ModelAttribute("form") EventForm form,
 
 
 
+private String venueClashWarning(EventForm f, Long excludeId) {
+    if (f.getEventDate() == null || f.getStartTime() == null || f.getEndTime() == null) {
+        return null;
+    }
+    List<Event> clashes = eventService.getVenueClashes(f.getLocation(),
+            f.getEventDate().atTime(f.getStartTime()), f.getEventDate().atTime(f.getEndTime()), excludeId);
+    if (clashes.isEmpty()) {
+        return null;
+    }
+    String titles = clashes.stream().map(Event::title).collect(java.util.stream.Collectors.joining(", "));
+    return "Heads up: " + f.getLocation() + " is already booked at that time for " + titles + ".";
+}
+
 private void validateTimeOrder(EventForm f, BindingResult result) {
     LocalTime s = f.getStartTime();
     LocalTime e = f.getEndTime();
@@ -1,8 +1,12 @@
 package au.edu.rmit.sept.webapp.controller;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import au.edu.rmit.sept.webapp.dto.SessionIdentity;
 import au.edu.rmit.sept.webapp.model.Event;
 import au.edu.rmit.sept.webapp.model.Event_Photos;
 import au.edu.rmit.sept.webapp.model.User;
@@ -24,6 +29,7 @@ import au.edu.rmit.sept.webapp.repository.UserRepository;
 import au.edu.rmit.sept.webapp.service.EventService;
 import au.edu.rmit.sept.webapp.service.PhotoService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 
 @Controller
@@ -71,7 +77,7 @@ public class GalleryViewController {
             selectedEvent.ifPresent(event -> model.addAttribute("selectedEvent", event));
             
             // Check if current user can upload photos to this event
-            boolean canUpload = canUploadToEvent(sessionUser, eventId);
+            boolean canUpload = canUploadToEvent(session, sessionUser, eventId);
             model.addAttribute("canUpload", canUpload);
             logger.info("Gallery authorization: User {} {} upload/delete permissions for event {}", 
                        userEmail != null ? userEmail : "anonymous", 
@@ -100,6 +106,23 @@ public class GalleryViewController {
         }
     }
 
+    @GetMapping("/event/{eventId}/download.zip")
+    public void downloadEventAlbum(@PathVariable int eventId, HttpServletResponse response) throws IOException {
+        List<Event_Photos> photos = photoService.getEventPhotos(eventId);
+        if (photos.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "This event has no photos to download.");
+            return;
+        }
+
+        String filename = "event_" + eventId + "_photos.zip";
+        response.setContentType("application/zip");
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
+
+        // Streamed straight from disk, so memory use does not grow with album size
+        int written = photoService.writePhotosZip(photos, response.getOutputStream());
+        logger.info("Streamed {} of {} photos for event {} as ZIP", written, photos.size(), eventId);
+    }
+
     @GetMapping
     public String viewGallery(
             @RequestParam(value = "eventId", required = false) Integer eventId,
@@ -127,7 +150,7 @@ public class GalleryViewController {
                 selectedEvent.ifPresent(event -> model.addAttribute("selectedEvent", event));
                 
                 // Check if current user can upload photos to this event
-                boolean canUpload = canUploadToEvent(sessionUser, eventId);
+                boolean canUpload = canUploadToEvent(session, sessionUser, eventId);
                 model.addAttribute("canUpload", canUpload);
             } else {
                 photos = photoService.getAllPhotos();
@@ -169,7 +192,7 @@ public class GalleryViewController {
                        sessionUser != null ? sessionUser.email() : "anonymous");
             
             // Check if user is authorized to upload to this event
-            if (!canUploadToEvent(sessionUser, eventId)) {
+            if (!canUploadToEvent(session, sessionUser, eventId)) {
                 logger.warn("Unauthorized photo upload attempt by user {} for event {}", 
                            sessionUser != null ? sessionUser.email() : "anonymous", eventId);
                 redirectAttributes.addFlashAttribute("errorMessage", 
@@ -178,7 +201,7 @@ public class GalleryViewController {
             }
 
             // Get the organiser ID for this user
-            Optional<Integer> organiserIdOpt = getOrganiserIdForUser(sessionUser);
+            Optional<Integer> organiserIdOpt = getOrganiserIdForUser(session, sessionUser);
             if (organiserIdOpt.isEmpty()) {
                 redirectAttributes.addFlashAttribute("errorMessage", "Unable to determine organiser permissions.");
                 return "redirect:/gallery/event/" + eventId;
@@ -221,7 +244,7 @@ public class GalleryViewController {
                        sessionUser != null ? sessionUser.email() : "anonymous", files.size());
             
             // Check if user is authorized to upload to this event
-            if (!canUploadToEvent(sessionUser, eventId)) {
+            if (!canUploadToEvent(session, sessionUser, eventId)) {
                 logger.warn("Unauthorized multiple photo upload attempt by user {} for event {}", 
                            sessionUser != null ? sessionUser.email() : "anonymous", eventId);
                 redirectAttributes.addFlashAttribute("errorMessage", 
@@ -230,7 +253,7 @@ public class GalleryViewController {
             }
 
             // Get the organiser ID for this user
-            Optional<Integer> organiserIdOpt = getOrganiserIdForUser(sessionUser);
+            Optional<Integer> organiserIdOpt = getOrganiserIdForUser(session, sessionUser);
             if (organiserIdOpt.isEmpty()) {
                 redirectAttributes.addFlashAttribute("errorMessage", "Unable to determine organiser permissions.");
                 return "redirect:/gallery/event/" + eventId;
@@ -292,7 +315,7 @@ public class GalleryViewController {
             int targetEventId = eventId != null ? eventId : photo.get().event_id();
             
             // Check if user is authorized to delete photos from this event
-            if (!canUploadToEvent(sessionUser, targetEventId)) {
+            if (!canUploadToEvent(session, sessionUser, targetEventId)) {
                 logger.warn("Unauthorized photo delete attempt by user {} for event {}", 
                            sessionUser.email(), targetEventId);
                 redirectAttributes.addFlashAttribute("errorMessage", 
@@ -350,30 +373,29 @@ public class GalleryViewController {
                 return eventId != null ? "redirect:/gallery/event/" + eventId : "redirect:/gallery";
             }
             
-            // Validate that all photos belong to events the user can manage
-            // and get the event ID if not provided
-            int targetEventId = eventId != null ? eventId : -1;
-            
-            for (Integer photoId : photoIds) {
-                Optional<Event_Photos> photo = photoService.getPhotoById(photoId);
-                if (photo.isEmpty()) {
-                    logger.warn("Photo not found: {}", photoId);
-                    redirectAttributes.addFlashAttribute("errorMessage", "One or more selected photos were not found.");
-                    return eventId != null ? "redirect:/gallery/event/" + eventId : "redirect:/gallery";
-                }
-                
-                // Set targetEventId from first photo if not provided
-                if (targetEventId == -1) {
-                    targetEventId = photo.get().event_id();
-                }
-                
-                // Verify user can delete from this event
-                if (!canUploadToEvent(sessionUser, photo.get().event_id())) {
+            // Load every selected photo in one query
+            List<Event_Photos> photos = photoService.getPhotosByIds(photoIds);
+            if (photos.size() < new HashSet<>(photoIds).size()) {
+                logger.warn("One or more photos not found: {}", photoIds);
+                redirectAttributes.addFlashAttribute("errorMessage", "One or more selected photos were not found.");
+                return eventId != null ? "redirect:/gallery/event/" + eventId : "redirect:/gallery";
+            }
+
+            // Set targetEventId from first photo if not provided
+            int targetEventId = eventId != null ? eventId : photos.get(0).event_id();
+
+            // Verify the user can manage each distinct event once, not once per photo
+            Set<Integer> eventIds = new LinkedHashSet<>();
+            for (Event_Photos photo : photos) {
+                eventIds.add(photo.event_id());
+            }
+            for (Integer photoEventId : eventIds) {
+                if (!canUploadToEvent(session, sessionUser, photoEventId)) {
                     logger.warn("Unauthorized bulk photo delete attempt by user {} for event {}", 
-                               sessionUser.email(), photo.get().event_id());
+                               sessionUser.email(), photoEventId);
                     redirectAttributes.addFlashAttribute("errorMessage", 
                         "You are not authorized to delete photos from this event. Only the event organiser can delete photos.");
-                    return "redirect:/gallery/event/" + photo.get().event_id();
+                    return "redirect:/gallery/event/" + photoEventId;
                 }
             }
             
@@ -383,7 +405,7 @@ public class GalleryViewController {
             redirectAttributes.addFlashAttribute("flashMessage", 
                 photoIds.size() + " photo(s) deleted successfully!");
             
-            return targetEventId != -1 ? "redirect:/gallery/event/" + targetEventId : "redirect:/gallery";
+            return "redirect:/gallery/event/" + targetEventId;
             
         } catch (Exception e) {
             logger.error("Error deleting multiple photos: ", e);
@@ -407,7 +429,7 @@ public class GalleryViewController {
      * Helper method to check if the current user can upload photos to a specific event.
      * Only the organiser of the event can upload photos.
      */
-    private boolean canUploadToEvent(User user, int eventId) {
+    private boolean canUploadToEvent(HttpSession session, User user, int eventId) {
         if (user == null) {
             logger.debug("canUploadToEvent: No user (not logged in) for event {}", eventId);
             return false;
@@ -419,7 +441,7 @@ public class GalleryViewController {
             logger.debug("canUploadToEvent: Found user with ID {} for email {}", user.user_id(), user.email());
 
             // Check if user has an organiser profile
-            Optional<Integer> organiserIdOpt = userRepository.getOrganiserIdByUserId(user.user_id());
+            Optional<Integer> organiserIdOpt = getOrganiserIdForUser(session, user);
             if (organiserIdOpt.isEmpty()) {
                 logger.debug("canUploadToEvent: User {} (ID: {}) is not an organiser", user.email(), user.user_id());
                 return false;
@@ -443,12 +465,19 @@ public class GalleryViewController {
 
     /**
      * Helper method to get the organiser ID for the current user.
+     * Uses the identity cached at login and only falls back to the database
+     * for sessions that don't carry one.
      */
-    private Optional<Integer> getOrganiserIdForUser(User user) {
+    private Optional<Integer> getOrganiserIdForUser(HttpSession session, User user) {
         if (user == null) {
             return Optional.empty();
         }
 
+        SessionIdentity identity = SessionIdentity.from(session);
+        if (identity != null && identity.userId() == user.user_id()) {
+            return Optional.ofNullable(identity.organiserId());
+        }
+
         try {
             return userRepository.getOrganiserIdByUserId(user.user_id());
             
@@ -5,6 +5,9 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
+import au.edu.rmit.sept.webapp.dto.SessionIdentity;
+import jakarta.servlet.http.HttpServletRequest;
+
 @ControllerAdvice
 public class GlobalControllerAdvice {
 
@@ -12,7 +15,12 @@ public class GlobalControllerAdvice {
     private String GOOGLE_API_KEY;
 
     @ModelAttribute
-    public void addGlobalAttributes(Model model) {
+    public void addGlobalAttributes(Model model, HttpServletRequest request) {
         model.addAttribute("GOOGLE_API_KEY", GOOGLE_API_KEY);
+        // Display name comes from the identity cached at login, not a profile query per page
+        SessionIdentity identity = SessionIdentity.from(request.getSession(false));
+        if (identity != null && identity.displayName() != null) {
+            model.addAttribute("user_name", identity.displayName());
+        }
     }
 }
\ No newline at end of file
@@ -2,12 +2,16 @@ package au.edu.rmit.sept.webapp.controller;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import au.edu.rmit.sept.webapp.service.PasswordHashingBusyException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * Global exception handler to provide better error messages for file upload issues
@@ -42,4 +46,25 @@ public class GlobalExceptionHandler {
         
         return "redirect:/gallery";
     }
-}
\ No newline at end of file
+
+    /**
+     * Handle a saturated password hashing pool during login bursts.
+     * Answers 503 straight away so the browser can retry instead of holding a request thread.
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public String handlePasswordHashingBusy(
+            PasswordHashingBusyException exc,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Model model) {
+
+        logger.warn("Rejected {} {}: {}", request.getMethod(), request.getRequestURI(), exc.getMessage());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "2");
+        model.addAttribute("error", "We're handling a lot of sign-ins right now. Please try again in a few seconds.");
+        model.addAttribute("authenticated", false);
+
+        return request.getRequestURI().endsWith("sign-up") ? "signup" : "login";
+    }
+}
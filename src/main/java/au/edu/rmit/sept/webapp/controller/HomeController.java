@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,7 +17,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import au.edu.rmit.sept.webapp.model.Clubs;
 import au.edu.rmit.sept.webapp.model.Event;
-import au.edu.rmit.sept.webapp.model.Student_Profile;
 import au.edu.rmit.sept.webapp.model.User;
 import au.edu.rmit.sept.webapp.repository.UserRepository;
 import au.edu.rmit.sept.webapp.service.ClubService;
@@ -84,10 +84,6 @@ public class HomeController {
             if (session != null && session.getAttribute("user") != null) {
                 model.addAttribute("user", session.getAttribute("user"));
                 model.addAttribute("authenticated", true);
-                Optional<Student_Profile> profileOpt = userService.getProfileByUserId((int) session.getAttribute("userId"));
-                if (profileOpt.isPresent()) {
-                    model.addAttribute("user_name", profileOpt.get().name());
-                }
                 if(session.getAttribute("is_organiser") != null) {
                     model.addAttribute("organiser", true);
                 }
@@ -131,12 +127,8 @@ public class HomeController {
             userIdLong = user.getUserId();
             model.addAttribute("user", user);
             model.addAttribute("authenticated", true);
-            Optional<Student_Profile> profileOpt = userService.getProfileByUserId((int) session.getAttribute("userId"));
-            if (profileOpt.isPresent()) {
-                model.addAttribute("user_name", profileOpt.get().name());
-                if(session.getAttribute("is_organiser") != null) {
-                    model.addAttribute("organiser", true);
-                }
+            if(session.getAttribute("is_organiser") != null) {
+                model.addAttribute("organiser", true);
             }
             logger.info("User is logged in, userId: {}", userIdLong);
         } else {
@@ -160,10 +152,10 @@ public class HomeController {
         List<Integer> organisedEventIds = new ArrayList<>();
 
         if (user != null) {
-            int userIdInt = user.user_id();
+            // One cached set per session instead of a query per event
+            Set<Integer> organised = OrganisedEventIds.get(session, userRepository, user.user_id());
             for (Event event : events) {
-                // Check if the current user is the organizer for this event
-                if (userRepository.isOrganiserForEvent(userIdInt, event.event_id())) {
+                if (organised.contains(event.event_id())) {
                     organisedEventIds.add(event.event_id());
                 }
             }
@@ -255,6 +247,8 @@ public class HomeController {
         // 3. Add necessary data to the model for the rsvp_confirm.html template
         model.addAttribute("event", event);
         model.addAttribute("userId", userId);
+        // Overlapping events the user is already going to; a warning only, the RSVP is still allowed
+        model.addAttribute("clashes", eventService.getRsvpClashes(userId, eventId));
 
         logger.info("Showing RSVP confirmation for User {} to Event {}", userId, eventId);
         return "organiser/rsvp_confirm"; // maps to templates/rsvp_confirm.html
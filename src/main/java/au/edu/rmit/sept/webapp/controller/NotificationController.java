@@ -1,6 +1,7 @@
 package au.edu.rmit.sept.webapp.controller;
 
 import au.edu.rmit.sept.webapp.dto.NotificationDTO;
+import au.edu.rmit.sept.webapp.dto.NotificationPage;
 import au.edu.rmit.sept.webapp.model.Notification;
 import au.edu.rmit.sept.webapp.service.NotificationService;
 import org.springframework.http.HttpStatus;
@@ -26,6 +27,19 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    /** Newest-first page of the user's notifications; pass the returned cursor back for the next page. */
+    @GetMapping("/{userId}/page")
+    public ResponseEntity<NotificationPage> getNotificationPage(@PathVariable int userId,
+                                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                                @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                @RequestParam(value = "unread", defaultValue = "false") boolean unreadOnly) {
+        try {
+            return ResponseEntity.ok(notificationService.getNotificationPage(userId, unreadOnly, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{userId}/unread")
     public ResponseEntity<List<Notification>> getUnreadNotifications(@PathVariable int userId) {
         List<Notification> notifications = notificationService.getUnreadNotifications(userId);
@@ -50,6 +64,17 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    @PutMapping("/{userId}/read-selected")
+    public ResponseEntity<Map<String, Integer>> markSelectedAsRead(@PathVariable int userId,
+                                                                   @RequestBody List<Integer> notificationIds) {
+        try {
+            int updated = notificationService.markAsRead(userId, notificationIds);
+            return ResponseEntity.ok(Map.of("updated", updated));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @DeleteMapping("/{notificationId}")
     public ResponseEntity<Void> deleteNotification(@PathVariable int notificationId) {
         notificationService.deleteNotification(notificationId);
@@ -0,0 +1,37 @@
+package au.edu.rmit.sept.webapp.controller;
+
+import java.util.Set;
+
+import au.edu.rmit.sept.webapp.repository.UserRepository;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Per-session cache of the event ids the logged-in user organises, so pages that
+ * authorise a whole list of events do one set lookup per card instead of one query.
+ * Dropped whenever the user creates an event.
+ */
+final class OrganisedEventIds {
+
+    static final String SESSION_KEY = "organisedEventIds";
+
+    private record Cached(int userId, Set<Integer> eventIds) {}
+
+    private OrganisedEventIds() {
+    }
+
+    static Set<Integer> get(HttpSession session, UserRepository userRepository, int userId) {
+        Object cached = session.getAttribute(SESSION_KEY);
+        if (cached instanceof Cached c && c.userId() == userId) {
+            return c.eventIds();
+        }
+        Set<Integer> eventIds = Set.copyOf(userRepository.findOrganisedEventIds(userId));
+        session.setAttribute(SESSION_KEY, new Cached(userId, eventIds));
+        return eventIds;
+    }
+
+    static void invalidate(HttpSession session) {
+        if (session != null) {
+            session.removeAttribute(SESSION_KEY);
+        }
+    }
+}
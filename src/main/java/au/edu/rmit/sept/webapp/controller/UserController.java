@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import au.edu.rmit.sept.webapp.dto.SessionIdentity;
 import au.edu.rmit.sept.webapp.model.Organiser_Profile;
 import au.edu.rmit.sept.webapp.model.Student_Profile;
 import au.edu.rmit.sept.webapp.model.User;
@@ -90,18 +91,12 @@ public class UserController {
             HttpSession session = request.getSession(true); // true = create if doesn't exist
             session.setAttribute("user", user);            // store the user object
             session.setAttribute("userId", user.user_id());
-            Optional<Organiser_Profile> organiserOpt = userService.findOrganiserById(user.user_id());
             logger.info("User id found: {}", user.user_id());
-            if (organiserOpt.isPresent()) {
-                logger.info("Organiser id: {}", organiserOpt.get().organiser_id());
-                session.setAttribute("organiser", organiserOpt.get());
-                session.setAttribute("is_organiser", true);
-                session.setAttribute("organiserId", organiserOpt.get().organiser_id());
+            SessionIdentity identity = refreshIdentity(session, user);
+            if (identity.isOrganiser()) {
+                logger.info("Organiser id: {}", identity.organiserId());
                 model.addAttribute("is_organiser", true);
             }
-            //  Fetch and store role
-            String role = userService.getUserRoleById(user.user_id());
-            session.setAttribute("role", role);
 
             model.addAttribute("user", user);
             model.addAttribute("authenticated", true);
@@ -156,6 +151,10 @@ public class UserController {
             session.setAttribute("role", "STUDENT");
         }
 
+        User user = (User) session.getAttribute("user");
+        if (user != null) {
+            refreshIdentity(session, user);
+        }
 
         return "redirect:/";
     }
@@ -168,6 +167,7 @@ public class UserController {
                                 @RequestParam(required = false) String currentPassword,
                                 @RequestParam(required = false) String newPassword,
                                 @RequestParam(required = false) String confirmPassword,
+                                @RequestParam(required = false) Boolean emailDigest,
                                 Model model, HttpSession session, RedirectAttributes redirectAttrs) {
 
         // Merge profile fields: if a field is blank, keep existing value
@@ -192,6 +192,10 @@ public class UserController {
             }
         }
 
+        if (emailDigest != null) {
+            userService.setEmailDigest(id, emailDigest);
+        }
+
         // Handle password change if requested
         if (newPassword != null && !newPassword.isBlank()) {
             // Basic confirmation check
@@ -225,6 +229,12 @@ public class UserController {
             }
         }
 
+        // Keep the cached display name in step with the edited profile
+        User sessionUser = (User) session.getAttribute("user");
+        if (sessionUser != null && sessionUser.user_id() == id) {
+            refreshIdentity(session, sessionUser);
+        }
+
         redirectAttrs.addFlashAttribute("successMessage", "Profile updated successfully");
         return "redirect:/";
     }
@@ -260,6 +270,7 @@ public class UserController {
         User user = userOpt.get();
         model.addAttribute("user", user);
         model.addAttribute("authenticated", true);
+        model.addAttribute("emailDigest", userService.isEmailDigest(id));
         // If there's an organiser record in session, expose it and available clubs to the template
         Object organiserObj = session.getAttribute("organiser");
         if (organiserObj != null) {
@@ -274,6 +285,31 @@ public class UserController {
         return "edit-profile";
     }
 
+    /**
+     * Looks up the profile name, organiser record and role once and caches them in the
+     * session, both as a {@link SessionIdentity} and as the individual attributes the
+     * templates already read.
+     */
+    private SessionIdentity refreshIdentity(HttpSession session, User user) {
+        int id = user.user_id();
+        String name = userService.getProfileByUserId(id).map(Student_Profile::name).orElse(null);
+        Optional<Organiser_Profile> organiserOpt = userService.findOrganiserById(id);
+        String role = userService.getUserRoleById(id);
+
+        if (organiserOpt.isPresent()) {
+            session.setAttribute("organiser", organiserOpt.get());
+            session.setAttribute("is_organiser", true);
+            session.setAttribute("organiserId", organiserOpt.get().organiser_id());
+        }
+        session.setAttribute("role", role);
+
+        SessionIdentity identity = new SessionIdentity(id, user.email(), name, role,
+                organiserOpt.map(Organiser_Profile::organiser_id).orElse(null),
+                organiserOpt.map(Organiser_Profile::club_id).orElse(null));
+        session.setAttribute(SessionIdentity.SESSION_KEY, identity);
+        return identity;
+    }
+
     @DeleteMapping("delete")
     @ResponseBody
     public String deleteAccount(@RequestParam int id) {
@@ -0,0 +1,105 @@
+package au.edu.rmit.sept.webapp.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import au.edu.rmit.sept.webapp.dto.WaitingRoomStatus;
+import au.edu.rmit.sept.webapp.model.User;
+import au.edu.rmit.sept.webapp.service.EventService;
+import au.edu.rmit.sept.webapp.service.RsvpWaitingRoom;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * The waiting page for RSVPs queued by {@link RsvpWaitingRoom}, plus the status poll and the
+ * server-sent event stream it uses to learn its place in line and the final result.
+ */
+@Controller
+public class WaitingRoomController {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitingRoomController.class);
+
+    private final RsvpWaitingRoom waitingRoom;
+    private final EventService eventService;
+    private final long streamTimeoutMillis;
+
+    public WaitingRoomController(RsvpWaitingRoom waitingRoom, EventService eventService,
+                                 @Value("${app.waiting-room.stream-timeout-ms:300000}") long streamTimeoutMillis) {
+        this.waitingRoom = waitingRoom;
+        this.eventService = eventService;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+    }
+
+    @GetMapping("/rsvp/queue/{token}")
+    public String waitingPage(@PathVariable("token") String token, HttpSession session, Model model) {
+        User user = (User) session.getAttribute("user");
+        if (user == null) {
+            return "redirect:/login";
+        }
+        Optional<WaitingRoomStatus> status = waitingRoom.status(token, user.getUserId());
+        if (status.isEmpty()) {
+            // Unknown or expired ticket: whatever happened is visible from the bookings page
+            return "redirect:/my-bookings";
+        }
+        model.addAttribute("user", user);
+        model.addAttribute("authenticated", true);
+        model.addAttribute("status", status.get());
+        eventService.getEventById((long) status.get().eventId())
+                .ifPresent(event -> model.addAttribute("event", event));
+        return "rsvp_queue";
+    }
+
+    @GetMapping("/rsvp/queue/{token}/status")
+    @ResponseBody
+    public ResponseEntity<WaitingRoomStatus> status(@PathVariable("token") String token, HttpSession session) {
+        User user = (User) session.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.of(waitingRoom.status(token, user.getUserId()));
+    }
+
+    @GetMapping("/rsvp/queue/{token}/stream")
+    public ResponseEntity<SseEmitter> stream(@PathVariable("token") String token, HttpSession session) {
+        User user = (User) session.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        // Anything sent before the emitter is returned is buffered and flushed once the response starts
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Consumer<WaitingRoomStatus> listener = status -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(status.isFinished() ? "result" : "position")
+                        .data(status));
+                if (status.isFinished()) {
+                    emitter.complete();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        Runnable unsubscribe = () -> waitingRoom.stopListening(token, listener);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        if (!waitingRoom.listen(token, user.getUserId(), listener)) {
+            return ResponseEntity.notFound().build();
+        }
+        logger.debug("User {} subscribed to waiting room ticket {}", user.getUserId(), token);
+        return ResponseEntity.ok(emitter);
+    }
+}
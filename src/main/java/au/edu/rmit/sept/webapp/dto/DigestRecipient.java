@@ -0,0 +1,5 @@
+package au.edu.rmit.sept.webapp.dto;
+
+/** A user with notifications waiting for their digest email; name is null without a student profile. */
+public record DigestRecipient(long userId, String email, String name) {
+}
@@ -0,0 +1,13 @@
+package au.edu.rmit.sept.webapp.dto;
+
+import java.util.List;
+
+import au.edu.rmit.sept.webapp.model.Event;
+
+/** One page of events plus the cursor for the next page (null on the last page). */
+public record EventPage(List<Event> events, String nextCursor) {
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,6 @@
+package au.edu.rmit.sept.webapp.dto;
+
+/** An attendee of a finished event who has not rated it yet, with what is needed to ask them. */
+public record FeedbackPrompt(int eventId, String eventTitle, long userId, String email, String name,
+                             boolean emailDigest) {
+}
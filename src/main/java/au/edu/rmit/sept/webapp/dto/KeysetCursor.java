@@ -0,0 +1,36 @@
+package au.edu.rmit.sept.webapp.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.BiFunction;
+
+/**
+ * Token format shared by the keyset-page cursors, which each mark a row by its sort timestamp
+ * and id. Sent to the browser as an opaque "timestamp_id" string.
+ */
+final class KeysetCursor {
+
+    private KeysetCursor() {
+    }
+
+    static String encode(LocalDateTime at, int id) {
+        return at + "_" + id;
+    }
+
+    /** @return null for a blank token; throws IllegalArgumentException for a malformed one */
+    static <C> C decode(String token, BiFunction<LocalDateTime, Integer, C> cursor) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        int sep = token.lastIndexOf('_');
+        if (sep <= 0) {
+            throw new IllegalArgumentException("Malformed cursor: " + token);
+        }
+        try {
+            return cursor.apply(LocalDateTime.parse(token.substring(0, sep)),
+                                Integer.parseInt(token.substring(sep + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+    }
+}
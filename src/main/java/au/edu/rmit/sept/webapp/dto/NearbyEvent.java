@@ -0,0 +1,7 @@
+package au.edu.rmit.sept.webapp.dto;
+
+import au.edu.rmit.sept.webapp.model.Event;
+
+/** An upcoming event and how far it is from the point the caller searched around. */
+public record NearbyEvent(Event event, double distanceKm) {
+}
@@ -0,0 +1,26 @@
+package au.edu.rmit.sept.webapp.dto;
+
+import java.time.LocalDateTime;
+
+import au.edu.rmit.sept.webapp.model.Notification;
+
+/**
+ * Position in a user's notifications, which are listed newest first by created_at DESC,
+ * notification_id DESC. The next page holds the notifications strictly after this one in
+ * that order. Sent to the browser as an opaque "createdAt_notificationId" token.
+ */
+public record NotificationCursor(LocalDateTime createdAt, int notificationId) {
+
+    public static NotificationCursor after(Notification last) {
+        return new NotificationCursor(last.created_at(), last.notification_id());
+    }
+
+    public String encode() {
+        return KeysetCursor.encode(createdAt, notificationId);
+    }
+
+    /** @return null for a blank token; throws IllegalArgumentException for a malformed one */
+    public static NotificationCursor decode(String token) {
+        return KeysetCursor.decode(token, NotificationCursor::new);
+    }
+}
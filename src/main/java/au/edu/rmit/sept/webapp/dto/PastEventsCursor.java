@@ -0,0 +1,32 @@
+package au.edu.rmit.sept.webapp.dto;
+
+import java.time.LocalDateTime;
+
+import au.edu.rmit.sept.webapp.model.Event;
+
+/**
+ * Position in the past-events archive, which is ordered by start_at DESC, event_id DESC.
+ * The next page holds the events strictly after this one in that order. Sent to the browser
+ * as an opaque "startAt_eventId" token.
+ */
+public record PastEventsCursor(LocalDateTime startAt, int eventId) {
+
+    public static PastEventsCursor after(Event last) {
+        return new PastEventsCursor(last.startAt(), last.event_id());
+    }
+
+    /** True when {@code (start, id)} sorts after this cursor, i.e. belongs on a later page. */
+    public boolean isBefore(LocalDateTime start, int id) {
+        int cmp = start.compareTo(startAt);
+        return cmp < 0 || (cmp == 0 && id < eventId);
+    }
+
+    public String encode() {
+        return KeysetCursor.encode(startAt, eventId);
+    }
+
+    /** @return null for a blank token; throws IllegalArgumentException for a malformed one */
+    public static PastEventsCursor decode(String token) {
+        return KeysetCursor.decode(token, PastEventsCursor::new);
+    }
+}
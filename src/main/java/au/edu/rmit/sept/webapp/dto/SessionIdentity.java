@@ -0,0 +1,35 @@
+package au.edu.rmit.sept.webapp.dto;
+
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Snapshot of who is logged in, built once at login and kept in the session so
+ * controllers don't have to look the profile, role and organiser up on every request.
+ * Replace it (never mutate) whenever the profile or role changes.
+ */
+public record SessionIdentity(
+    int userId,
+    String email,
+    String displayName,
+    String role,
+    Integer organiserId,
+    Integer clubId
+) {
+    public static final String SESSION_KEY = "identity";
+
+    public boolean isOrganiser() {
+        return organiserId != null;
+    }
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
+    }
+
+    public static SessionIdentity from(HttpSession session) {
+        if (session == null) {
+            return null;
+        }
+        Object identity = session.getAttribute(SESSION_KEY);
+        return identity instanceof SessionIdentity ? (SessionIdentity) identity : null;
+    }
+}
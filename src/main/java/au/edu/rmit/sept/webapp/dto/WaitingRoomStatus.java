@@ -0,0 +1,12 @@
+package au.edu.rmit.sept.webapp.dto;
+
+/**
+ * Where a queued RSVP stands: WAITING with its place in line (1 = next), or ADMITTED / FAILED
+ * once the waiting room has processed it.
+ */
+public record WaitingRoomStatus(String token, int eventId, String state, long position) {
+
+    public boolean isFinished() {
+        return !"WAITING".equals(state);
+    }
+}
@@ -2,6 +2,7 @@ package au.edu.rmit.sept.webapp.model;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
 public record Event(
@@ -20,6 +21,24 @@ public record Event(
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
+    /** The canonical start instant stored in Events.start_at: the event date at its start time of day. */
+    public LocalDateTime startAt() {
+        if (date == null || start_time == null) {
+            return null;
+        }
+        return date.atTime(start_time.toLocalTime());
+    }
+
+    /** The canonical end instant stored in Events.end_at; a finish before the start runs past midnight. */
+    public LocalDateTime endAt() {
+        LocalDateTime startAt = startAt();
+        if (startAt == null || finish_time == null || finish_time.isBlank()) {
+            return null;
+        }
+        LocalDateTime endAt = date.atTime(LocalTime.parse(finish_time.trim()));
+        return endAt.isBefore(startAt) ? endAt.plusDays(1) : endAt;
+    }
+
     public String formattedStartDateTime() {
         LocalDate today = LocalDate.now();
         LocalDate tomorrow = today.plusDays(1);
@@ -0,0 +1,11 @@
+package au.edu.rmit.sept.webapp.model;
+
+import java.time.LocalDateTime;
+
+/** The three Events columns the in-memory calendar index is built from. */
+public record EventCalendarEntry(
+        int event_id,
+        LocalDateTime start_at,
+        String status
+    ) {
+}
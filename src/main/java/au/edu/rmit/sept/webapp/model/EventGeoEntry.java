@@ -0,0 +1,11 @@
+package au.edu.rmit.sept.webapp.model;
+
+import java.time.LocalDateTime;
+
+/** The Events columns the in-memory "near me" index is built from. */
+public record EventGeoEntry(
+        int event_id,
+        GeoPoint point,
+        LocalDateTime start_at
+    ) {
+}
@@ -0,0 +1,12 @@
+package au.edu.rmit.sept.webapp.model;
+
+import java.time.LocalDateTime;
+
+/** Where and when an event runs; what the schedule-clash index is built from. */
+public record EventSlot(
+        int event_id,
+        String location,
+        LocalDateTime start_at,
+        LocalDateTime end_at
+    ) {
+}
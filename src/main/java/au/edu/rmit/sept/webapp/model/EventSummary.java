@@ -0,0 +1,22 @@
+package au.edu.rmit.sept.webapp.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * List-view projection of an Events row. Same fields as {@link Event} minus the
+ * description TEXT column, which list pages never render.
+ */
+public record EventSummary(
+        int event_id,
+        Long organiser_id,
+        Long club_id,
+        String title,
+        String location,
+        LocalDate date,
+        LocalDateTime start_time,
+        String finish_time,
+        String status,
+        int capacity
+    ) {
+}
@@ -0,0 +1,10 @@
+package au.edu.rmit.sept.webapp.model;
+
+import java.time.LocalDateTime;
+
+public record Event_Trending_Score(
+        int event_id,
+        double score,
+        LocalDateTime scored_at
+    )
+{}
@@ -0,0 +1,10 @@
+package au.edu.rmit.sept.webapp.model;
+
+import java.time.LocalDateTime;
+
+public record Event_Waiting_Room(
+        int event_id,
+        int admit_per_second,
+        LocalDateTime opened_at
+    )
+{}
@@ -0,0 +1,11 @@
+package au.edu.rmit.sept.webapp.model;
+
+public record Http_Session(
+        String session_id,
+        long creation_time,
+        long last_access_time,
+        int max_inactive_interval,
+        long expiry_time,
+        byte[] attributes
+    )
+{}
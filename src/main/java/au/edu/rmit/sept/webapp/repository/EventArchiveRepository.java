@@ -0,0 +1,20 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventArchiveRepository {
+
+    /**
+     * Up to {@code limit} ids above {@code afterId}, in id order, of COMPLETED or CANCELLED events
+     * that ended before {@code endedBefore} and that no photo, feedback, keyword or deletion log
+     * still refers to.
+     */
+    List<Integer> findArchivableIds(LocalDateTime endedBefore, int afterId, int limit);
+
+    /**
+     * Moves the events with their tag links, RSVPs and check-ins to the archive tables in one
+     * transaction. @return events moved
+     */
+    int archive(List<Integer> eventIds);
+}
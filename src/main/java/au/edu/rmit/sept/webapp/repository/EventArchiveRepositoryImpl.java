@@ -0,0 +1,117 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class EventArchiveRepositoryImpl implements EventArchiveRepository {
+
+    // Named on both sides of each copy rather than relying on matching column order, so a column
+    // added to a table or its archive can't shift values into the wrong place. A new column is
+    // only archived once it is added to the archive table and listed here.
+    private static final String EVENT_COLUMNS = """
+        event_id, organiser_id, club_id, title, description, location, `date`, start_time, \
+        finish_time, status, capacity, start_at, end_at, lat, lng""";
+
+    private final DataSource dataSource;
+
+    public EventArchiveRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public List<Integer> findArchivableIds(LocalDateTime endedBefore, int afterId, int limit) {
+        List<Integer> ids = new ArrayList<>();
+        // Photos, feedback, keywords and the deletion log stay in the hot tables and keep their
+        // foreign keys to Events, so events they point at are not moved
+        String sql = """
+            SELECT e.event_id
+            FROM Events e
+            WHERE e.event_id > ?
+            AND e.status IN ('COMPLETED', 'CANCELLED')
+            AND e.end_at < ?
+            AND NOT EXISTS (SELECT 1 FROM Event_Photos p WHERE p.event_id = e.event_id)
+            AND NOT EXISTS (SELECT 1 FROM Event_Feedback f WHERE f.event_id = e.event_id)
+            AND NOT EXISTS (SELECT 1 FROM Event_Keywords k WHERE k.event_id = e.event_id)
+            AND NOT EXISTS (SELECT 1 FROM Deleted_Events_Log d WHERE d.event_id = e.event_id)
+            ORDER BY e.event_id
+            LIMIT ?
+            """;
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(sql)
+        ) {
+            stm.setInt(1, afterId);
+            stm.setTimestamp(2, Timestamp.valueOf(endedBefore));
+            stm.setInt(3, limit);
+            try (ResultSet rs = stm.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+            return ids;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in findArchivableIds", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int archive(List<Integer> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        String in = " WHERE event_id IN (" + String.join(", ", Collections.nCopies(eventIds.size(), "?")) + ")";
+        // Copies are INSERT IGNORE so a batch that failed after copying can simply run again
+        List<String> copies = List.of(
+            "INSERT IGNORE INTO Events_Archive (" + EVENT_COLUMNS + ", archived_at) SELECT "
+                + EVENT_COLUMNS + ", NOW() FROM Events" + in,
+            copy("Event_Tags", "event_id, tag_id") + in,
+            copy("RSVP", "event_id, user_id, rsvp_date, qr_code") + in,
+            copy("Attendance", "event_id, user_id, checkin_time") + in
+        );
+        // Children first; trending scores and waiting rooms go with the event (ON DELETE CASCADE)
+        List<String> deletes = List.of(
+            "DELETE FROM Event_Tags" + in,
+            "DELETE FROM RSVP" + in,
+            "DELETE FROM Attendance" + in
+        );
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : copies) {
+                execute(connection, sql, eventIds);
+            }
+            for (String sql : deletes) {
+                execute(connection, sql, eventIds);
+            }
+            return execute(connection, "DELETE FROM Events" + in, eventIds);
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error archiving events " + eventIds, e);
+        }
+    }
+
+    private static String copy(String table, String columns) {
+        return "INSERT IGNORE INTO " + table + "_Archive (" + columns + ") SELECT " + columns + " FROM " + table;
+    }
+
+    private static int execute(Connection connection, String sql, List<Integer> eventIds) throws SQLException {
+        try (PreparedStatement stm = connection.prepareStatement(sql)) {
+            for (int i = 0; i < eventIds.size(); i++) {
+                stm.setInt(i + 1, eventIds.get(i));
+            }
+            return stm.executeUpdate();
+        }
+    }
+}
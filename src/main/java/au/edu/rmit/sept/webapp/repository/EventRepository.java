@@ -2,24 +2,63 @@ package au.edu.rmit.sept.webapp.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import au.edu.rmit.sept.webapp.dto.PastEventsCursor;
 import au.edu.rmit.sept.webapp.dto.RsvpUserDetail;
 import au.edu.rmit.sept.webapp.model.DeletedEventLog;
 import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventCalendarEntry;
+import au.edu.rmit.sept.webapp.model.EventGeoEntry;
+import au.edu.rmit.sept.webapp.model.EventSlot;
+import au.edu.rmit.sept.webapp.model.EventSummary;
+import au.edu.rmit.sept.webapp.model.GeoPoint;
 import au.edu.rmit.sept.webapp.model.Tags;
 
 public interface EventRepository {
 
     List<Event> listAllEvents();
 
+    /** Every event that is not DELETED, newest first; archived events are listed with status ARCHIVED. */
+    List<EventSummary> listEventSummaries();
+
+    /** id, start_at and status of every event that has a start_at; feeds the calendar index. */
+    List<EventCalendarEntry> findCalendarEntries();
+
+    /** Coordinates and start of ACTIVE events starting at or after {@code from}; feeds the "near me" index. */
+    List<EventGeoEntry> findGeoEntries(LocalDateTime from);
+
+    /** Store the geocoded position of an event; {@code point} null clears it. */
+    int updateEventCoordinates(int eventId, GeoPoint point);
+
+    /** Location and start/end of ACTIVE events that have not finished by {@code from}; feeds the clash index. */
+    List<EventSlot> findUpcomingSlots(LocalDateTime from);
+
+    /** user_id -> RSVPed event ids, for ACTIVE events that have not finished by {@code from}. */
+    Map<Long, List<Integer>> findUpcomingRsvpEventIds(LocalDateTime from);
+
+    /** Up to {@code limit} ACTIVE events that ended at or before {@code endedBy}, earliest end first. */
+    List<Integer> findFinishedActiveIds(LocalDateTime endedBy, int limit);
+
+    /** Moves the given events from ACTIVE to COMPLETED; events in any other status are left alone. */
+    int markCompleted(List<Integer> eventIds);
+
+    /** Full rows for the given ids, returned in the order of the ids. Unknown ids are skipped. */
+    List<Event> findByIds(List<Integer> eventIds);
+
     List<Event> findRecommendedBySimilarity(Long userId, LocalDateTime now, int limit);
 
     List<Integer> findRsvpedEventIds(Long userId);
 
     int rsvp(Long eventId, Long userId);
 
+    // One batched insert for users admitted together from the waiting room; returns the users
+    // who did not already have an RSVP
+    List<Long> rsvpAll(Long eventId, List<Long> userIds);
+
     int cancelRsvp(Long eventId, Long userId);
 
     boolean checkInUser(Long eventId, Long userId);
@@ -29,20 +68,30 @@ public interface EventRepository {
     List<RsvpUserDetail> findRsvpDetailsByEventId(Long eventId);
     List<Event> findPastEvents(LocalDateTime currentDate);
 
+    /**
+     * One page of the past-events archive (start_at DESC, event_id DESC), resuming after
+     * {@code after} when given. clubId and tag are optional filters.
+     */
+    List<Event> findPastEventsPage(LocalDateTime before, PastEventsCursor after, Long clubId, String tag, int limit);
+
     List<Event> searchEvents(String query, String tag, LocalDate date, boolean isUpcoming, LocalDateTime now);
 
     List<Event> findRsvpedEventsByUserId(Long userId);
 
+    /** Past RSVPed events, most recent first, including ones moved to the archive tables. */
     List<Event> findPastEventsAttendedByUser(Long userId, LocalDateTime currentDate);
 
+    /** An event that {@code EventArchiver} has moved out of Events. */
+    Optional<Event> findArchivedById(int eventId);
+
     // === ADD-ONLY: Enhanced upcoming search (default method to keep existing impls safe) ===
 
 /**
  * Enhanced upcoming search that mirrors legacy "Pageable" behaviour without exposing Pageable.
- * - Upcoming gate: (date > today) OR (date = today AND start_time >= now)
+ * - Upcoming gate: start_at >= now (today is unused and kept for callers)
  * - Excludes CANCELLED (case-insensitive)
  * - Case-insensitive match over title/description/location when q is non-blank
- * - Default ordering: date ASC, start_time ASC, title ASC
+ * - Default ordering: start_at ASC, title ASC
  * - Optional LIMIT/OFFSET via nullable limit/offset (apply in repo impl only if both provided)
  *
  * NOTE: Default implementation delegates to existing searchEvents(...)
@@ -80,17 +129,18 @@ int updateEvent(au.edu.rmit.sept.webapp.model.Event event);
 int cancelEventById(java.lang.Long id);
 
 int deleteEventById(int eventId, Long adminId, String reason);
-List<Event> findDeletedEvents();
+List<EventSummary> findDeletedEvents();
 
 List<DeletedEventLog> findDeletedLogs();
 
-void clearTagsForEvent(int eventId);
-
-Optional<Integer> findTagByName(String tagName);
+/** Id of the tag with this name, inserting it first if needed; commits on its own, outside any caller transaction. */
+int findOrCreateTag(String tagName);
 
-int createTag(String tagName);
+/** Adds the given links in one statement; links that already exist are left alone. */
+void linkTagsToEvent(int eventId, Collection<Integer> tagIds);
 
-void linkTagToEvent(int eventId, int tagId);
+/** Removes the given links in one statement. */
+void unlinkTagsFromEvent(int eventId, Collection<Integer> tagIds);
 
 List<Tags> findAllTags();
 
@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.sql.DataSource;
@@ -21,15 +25,31 @@ import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import static au.edu.rmit.sept.webapp.repository.EventRowMappers.ARCHIVED_SUMMARY_COLUMNS;
+import static au.edu.rmit.sept.webapp.repository.EventRowMappers.EVENT_COLUMNS;
+import static au.edu.rmit.sept.webapp.repository.EventRowMappers.SUMMARY_COLUMNS;
+import static au.edu.rmit.sept.webapp.repository.EventRowMappers.mapEvent;
+import static au.edu.rmit.sept.webapp.repository.EventRowMappers.mapSummary;
+
+import au.edu.rmit.sept.webapp.dto.PastEventsCursor;
 import au.edu.rmit.sept.webapp.dto.RsvpUserDetail;
 import au.edu.rmit.sept.webapp.model.DeletedEventLog;
 import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventCalendarEntry;
+import au.edu.rmit.sept.webapp.model.EventGeoEntry;
+import au.edu.rmit.sept.webapp.model.EventSlot;
+import au.edu.rmit.sept.webapp.model.EventSummary;
+import au.edu.rmit.sept.webapp.model.GeoPoint;
 import au.edu.rmit.sept.webapp.model.Tags;
 
 @Repository
 public class EventRepositoryImpl implements EventRepository {
 
+    private static final int ID_BATCH_SIZE = 500;
+
     private final DataSource dataSource;
     private final JdbcTemplate jdbcTemplate;
     public EventRepositoryImpl(DataSource dataSource, JdbcTemplate jdbcTemplate) {
@@ -40,7 +60,7 @@ public class EventRepositoryImpl implements EventRepository {
     @Override
     public List<Event> findRsvpedEventsByUserId(Long userId) {
         List<Event> events = new ArrayList<>();
-        String sql = "SELECT e.* FROM Events e JOIN RSVP r ON e.event_id = r.event_id WHERE r.user_id = ?";
+        String sql = "SELECT " + EVENT_COLUMNS + " FROM Events e JOIN RSVP r ON e.event_id = r.event_id WHERE r.user_id = ?";
 
         try (Connection connection = dataSource.getConnection();
              PreparedStatement stm = connection.prepareStatement(sql)) {
@@ -49,7 +69,7 @@ public class EventRepositoryImpl implements EventRepository {
             ResultSet rs = stm.executeQuery();
 
             while (rs.next()) {
-                events.add(mapEventRowCompat(rs));
+                events.add(mapEvent(rs));
             }
         } catch (SQLException e) {
             throw new DataAccessResourceFailureException("Error finding RSVP'd events for user " + userId, e);
@@ -60,25 +80,31 @@ public class EventRepositoryImpl implements EventRepository {
     @Override
     public List<Event> findPastEventsAttendedByUser(Long userId, LocalDateTime currentDate) {
         List<Event> events = new ArrayList<>();
-        String sql = """
-            SELECT e.*
+        // Archived events all ended long before today, so that side needs no date filter
+        String sql = "SELECT " + EVENT_COLUMNS + ", e.start_at AS sort_at " + """
             FROM Events e
             JOIN RSVP r ON e.event_id = r.event_id
-            WHERE e.date < ?
-            AND r.user_id = ?
+            WHERE r.user_id = ?
+            AND e.start_at < ?
             AND e.status <> 'DELETED'
-            ORDER BY e.date DESC
+            UNION ALL
+            SELECT """ + EVENT_COLUMNS + ", e.start_at " + """
+            FROM Events_Archive e
+            JOIN RSVP_Archive r ON e.event_id = r.event_id
+            WHERE r.user_id = ?
+            ORDER BY sort_at DESC
             """;
 
         try (Connection connection = dataSource.getConnection();
              PreparedStatement stm = connection.prepareStatement(sql)) {
 
-            stm.setObject(1, currentDate.toLocalDate());
-            stm.setLong(2, userId);
+            stm.setLong(1, userId);
+            stm.setTimestamp(2, startOfDay(currentDate));
+            stm.setLong(3, userId);
             ResultSet rs = stm.executeQuery();
 
             while (rs.next()) {
-                events.add(mapEventRowCompat(rs));
+                events.add(mapEvent(rs));
             }
         } catch (SQLException e) {
             throw new DataAccessResourceFailureException("Error finding past events attended by user " + userId, e);
@@ -86,6 +112,22 @@ public class EventRepositoryImpl implements EventRepository {
         return events;
     }
 
+    @Override
+    public Optional<Event> findArchivedById(int eventId) {
+        String sql = "SELECT " + EVENT_COLUMNS + " FROM Events_Archive e WHERE e.event_id = ?";
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(sql)
+        ) {
+            stm.setInt(1, eventId);
+            try (ResultSet rs = stm.executeQuery()) {
+                return rs.next() ? Optional.of(mapEvent(rs)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in findArchivedById", e);
+        }
+    }
+
     @Override
     public boolean checkInUser(Long eventId, Long userId) {
         //check if the user has RSVP'd
@@ -152,30 +194,11 @@ public class EventRepositoryImpl implements EventRepository {
         List<Event> events = new ArrayList<>();
         try (
             Connection connection = dataSource.getConnection();
-            PreparedStatement stm = connection.prepareStatement("SELECT * FROM Events WHERE status <> 'DELETED';");
+            PreparedStatement stm = connection.prepareStatement("SELECT " + EVENT_COLUMNS + " FROM Events e WHERE e.status <> 'DELETED'");
             ResultSet rs = stm.executeQuery()
         ) {
             while (rs.next()) {
-                LocalDate eventDate = rs.getDate("date").toLocalDate();
-                LocalTime startTime = rs.getTime("start_time").toLocalTime();
-                LocalDateTime startDateTime = LocalDateTime.of(eventDate, startTime);
-                Long organiserId   = rs.getObject("organiser_id", Long.class);
-                Long clubId   = rs.getObject("club_id", Long.class);
-
-                Event e = new Event(
-                    rs.getInt("event_id"),
-                    organiserId,
-                    clubId,
-                    rs.getString("title"),
-                    rs.getString("description"),
-                    rs.getString("location"),
-                    eventDate,
-                    startDateTime,
-                    rs.getTime("finish_time").toString(),
-                    rs.getString("status"),
-                    rs.getInt("capacity")
-                );
-                events.add(e);
+                events.add(mapEvent(rs));
             }
             return events;
         } catch (SQLException e) {
@@ -183,6 +206,234 @@ public class EventRepositoryImpl implements EventRepository {
         }
     }
 
+    @Override
+    public List<EventSummary> listEventSummaries() {
+        List<EventSummary> events = new ArrayList<>();
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(
+                "SELECT " + SUMMARY_COLUMNS + ", e.start_at AS sort_at FROM Events e WHERE e.status <> 'DELETED'"
+                + " UNION ALL SELECT " + ARCHIVED_SUMMARY_COLUMNS + ", e.start_at FROM Events_Archive e"
+                + " ORDER BY sort_at DESC");
+            ResultSet rs = stm.executeQuery()
+        ) {
+            while (rs.next()) {
+                events.add(mapSummary(rs));
+            }
+            return events;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in listEventSummaries", e);
+        }
+    }
+
+    @Override
+    public List<EventCalendarEntry> findCalendarEntries() {
+        List<EventCalendarEntry> entries = new ArrayList<>();
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(
+                "SELECT event_id, start_at, status FROM Events WHERE start_at IS NOT NULL");
+            ResultSet rs = stm.executeQuery()
+        ) {
+            while (rs.next()) {
+                entries.add(new EventCalendarEntry(
+                    rs.getInt(1),
+                    rs.getTimestamp(2).toLocalDateTime(),
+                    rs.getString(3)
+                ));
+            }
+            return entries;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in findCalendarEntries", e);
+        }
+    }
+
+    @Override
+    public List<EventGeoEntry> findGeoEntries(LocalDateTime from) {
+        List<EventGeoEntry> entries = new ArrayList<>();
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement("""
+                SELECT event_id, lat, lng, start_at
+                FROM Events
+                WHERE status = 'ACTIVE' AND start_at >= ? AND lat IS NOT NULL AND lng IS NOT NULL
+                """)
+        ) {
+            stm.setTimestamp(1, Timestamp.valueOf(from));
+            try (ResultSet rs = stm.executeQuery()) {
+                while (rs.next()) {
+                    entries.add(new EventGeoEntry(
+                        rs.getInt(1),
+                        new GeoPoint(rs.getDouble(2), rs.getDouble(3)),
+                        rs.getTimestamp(4).toLocalDateTime()
+                    ));
+                }
+            }
+            return entries;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in findGeoEntries", e);
+        }
+    }
+
+    @Override
+    public int updateEventCoordinates(int eventId, GeoPoint point) {
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(
+                "UPDATE Events SET lat = ?, lng = ? WHERE event_id = ?")
+        ) {
+            if (point != null) {
+                stm.setDouble(1, point.lat());
+                stm.setDouble(2, point.lng());
+            } else {
+                stm.setNull(1, Types.DOUBLE);
+                stm.setNull(2, Types.DOUBLE);
+            }
+            stm.setInt(3, eventId);
+            return stm.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in updateEventCoordinates", e);
+        }
+    }
+
+    @Override
+    public List<EventSlot> findUpcomingSlots(LocalDateTime from) {
+        List<EventSlot> slots = new ArrayList<>();
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement("""
+                SELECT event_id, location, start_at, end_at
+                FROM Events
+                WHERE status = 'ACTIVE' AND end_at > ? AND start_at IS NOT NULL
+                """)
+        ) {
+            stm.setTimestamp(1, Timestamp.valueOf(from));
+            try (ResultSet rs = stm.executeQuery()) {
+                while (rs.next()) {
+                    slots.add(new EventSlot(
+                        rs.getInt(1),
+                        rs.getString(2),
+                        rs.getTimestamp(3).toLocalDateTime(),
+                        rs.getTimestamp(4).toLocalDateTime()
+                    ));
+                }
+            }
+            return slots;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in findUpcomingSlots", e);
+        }
+    }
+
+    @Override
+    public Map<Long, List<Integer>> findUpcomingRsvpEventIds(LocalDateTime from) {
+        Map<Long, List<Integer>> byUser = new HashMap<>();
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement("""
+                SELECT r.user_id, r.event_id
+                FROM RSVP r
+                JOIN Events e ON e.event_id = r.event_id
+                WHERE e.status = 'ACTIVE' AND e.end_at > ?
+                """)
+        ) {
+            stm.setTimestamp(1, Timestamp.valueOf(from));
+            try (ResultSet rs = stm.executeQuery()) {
+                while (rs.next()) {
+                    byUser.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getInt(2));
+                }
+            }
+            return byUser;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in findUpcomingRsvpEventIds", e);
+        }
+    }
+
+    @Override
+    public List<Integer> findFinishedActiveIds(LocalDateTime endedBy, int limit) {
+        List<Integer> ids = new ArrayList<>();
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement("""
+                SELECT event_id
+                FROM Events
+                WHERE status = 'ACTIVE' AND end_at <= ?
+                ORDER BY end_at, event_id
+                LIMIT ?
+                """)
+        ) {
+            stm.setTimestamp(1, Timestamp.valueOf(endedBy));
+            stm.setInt(2, limit);
+            try (ResultSet rs = stm.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+            return ids;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in findFinishedActiveIds", e);
+        }
+    }
+
+    @Override
+    public int markCompleted(List<Integer> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        // The status guard keeps a cancel (or another instance's run) that got there first
+        String sql = "UPDATE Events SET status = 'COMPLETED' WHERE status = 'ACTIVE' AND event_id IN ("
+                   + String.join(", ", Collections.nCopies(eventIds.size(), "?")) + ")";
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(sql)
+        ) {
+            for (int i = 0; i < eventIds.size(); i++) {
+                stm.setInt(i + 1, eventIds.get(i));
+            }
+            return stm.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in markCompleted", e);
+        }
+    }
+
+    @Override
+    public List<Event> findByIds(List<Integer> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, Event> byId = new HashMap<>();
+        for (int from = 0; from < eventIds.size(); from += ID_BATCH_SIZE) {
+            List<Integer> batch = eventIds.subList(from, Math.min(from + ID_BATCH_SIZE, eventIds.size()));
+            String sql = "SELECT " + EVENT_COLUMNS + " FROM Events e WHERE e.event_id IN ("
+                       + String.join(", ", Collections.nCopies(batch.size(), "?")) + ")";
+            try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement stm = connection.prepareStatement(sql)
+            ) {
+                for (int i = 0; i < batch.size(); i++) {
+                    stm.setInt(i + 1, batch.get(i));
+                }
+                try (ResultSet rs = stm.executeQuery()) {
+                    while (rs.next()) {
+                        Event event = mapEvent(rs);
+                        byId.put(event.event_id(), event);
+                    }
+                }
+            } catch (SQLException e) {
+                throw new DataAccessResourceFailureException("Error in findByIds", e);
+            }
+        }
+
+        // Primary-key lookups come back in index order; put them back in the caller's order
+        List<Event> events = new ArrayList<>(byId.size());
+        for (Integer id : eventIds) {
+            Event event = byId.get(id);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
     // In au.edu.rmit.sept.webapp.repository.EventRepositoryImpl.java
 
    // In your EventRepositoryImpl.java
@@ -224,21 +475,18 @@ public class EventRepositoryImpl implements EventRepository {
                 OR utn.tag_name LIKE CONCAT('%', etn.tag_name, '%') 
                 GROUP BY etn.event_id
             )
-            SELECT e.*,
-                    COALESCE(i.shared_count / SQRT(utc.c * etc.c), 0) AS similarity_score
+            SELECT """ + EVENT_COLUMNS + """
+                  , COALESCE(i.shared_count / SQRT(utc.c * etc.c), 0) AS similarity_score
             FROM events e
             LEFT JOIN event_tag_counts etc ON etc.event_id = e.event_id
             LEFT JOIN intersections i      ON i.event_id   = e.event_id
             CROSS JOIN user_tag_count utc
             LEFT JOIN RSVP rself ON rself.event_id = e.event_id AND rself.user_id = ?
             WHERE rself.event_id IS NULL
-            AND LOWER(e.status) = 'active'
-            AND (
-                e.date > DATE(?)
-                OR (e.date = DATE(?) AND e.start_time >= TIME(?))
-            )
+            AND e.status = 'ACTIVE'
+            AND e.start_at >= ?
             AND COALESCE(i.shared_count, 0) > 0 
-            ORDER BY similarity_score DESC, e.date ASC, e.start_time ASC
+            ORDER BY similarity_score DESC, e.start_at ASC
             LIMIT ?
             """;
 
@@ -250,34 +498,12 @@ public class EventRepositoryImpl implements EventRepository {
             stm.setLong(1, userId);
             stm.setLong(2, userId);
             stm.setLong(3, userId);
-            stm.setObject(4, now.toLocalDate());
-            stm.setObject(5, now.toLocalDate());
-            stm.setObject(6, now.toLocalTime());
-            stm.setInt(7, limit);
+            stm.setTimestamp(4, Timestamp.valueOf(now));
+            stm.setInt(5, limit);
                 
             try (ResultSet rs = stm.executeQuery()) {
                 while (rs.next()) {
-                    LocalDate eventDate = rs.getDate("date").toLocalDate();
-                    LocalTime startTime = rs.getTime("start_time").toLocalTime();
-                    LocalDateTime startDateTime = LocalDateTime.of(eventDate, startTime);
-                    
-                    Long organiserId = rs.getObject("organiser_id", Long.class);
-                    Long clubId = rs.getObject("club_id", Long.class);
-
-                    Event e = new Event(
-                        rs.getInt("event_id"), 
-                        organiserId,
-                        clubId,
-                        rs.getString("title"),
-                        rs.getString("description"),
-                        rs.getString("location"),
-                        eventDate,
-                        startDateTime,
-                        rs.getTime("finish_time").toString(),
-                        rs.getString("status"),
-                        rs.getInt("capacity")
-                    );
-                    events.add(e);
+                    events.add(mapEvent(rs));
                 }
             }
             return events;
@@ -330,6 +556,40 @@ public class EventRepositoryImpl implements EventRepository {
         }
     }
 
+    @Override
+    public List<Long> rsvpAll(Long eventId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = """
+            INSERT INTO RSVP (event_id, user_id, rsvp_date, qr_code)
+            VALUES (?, ?, NOW(), UUID())
+            ON DUPLICATE KEY UPDATE rsvp_date = VALUES(rsvp_date)
+            """;
+
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(sql)
+        ) {
+            for (Long userId : userIds) {
+                stm.setLong(1, eventId);
+                stm.setLong(2, userId);
+                stm.addBatch();
+            }
+            int[] counts = stm.executeBatch();
+            // 1 is a new row; 2 means the user already had an RSVP and only its date moved
+            List<Long> inserted = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 1) {
+                    inserted.add(userIds.get(i));
+                }
+            }
+            return inserted;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in rsvpAll", e);
+        }
+    }
+
     @Override
     public int cancelRsvp(Long eventId, Long userId) {
         String sql = "DELETE FROM RSVP WHERE event_id = ? AND user_id = ?";
@@ -348,42 +608,22 @@ public class EventRepositoryImpl implements EventRepository {
     @Override
     public List<Event> findUpcomingEvents(LocalDateTime currentDate) {
         List<Event> events = new ArrayList<>();
-        String sql = """
-            SELECT *
-            FROM Events
-            WHERE date >= ?
-            AND status = 'ACTIVE'
-            ORDER BY date ASC
+        String sql = "SELECT " + EVENT_COLUMNS + """
+            FROM Events e
+            WHERE e.status = 'ACTIVE'
+            AND e.start_at >= ?
+            ORDER BY e.start_at ASC
             """;
 
         try (
             Connection connection = dataSource.getConnection();
             PreparedStatement stm = connection.prepareStatement(sql)
         ) {
-            stm.setObject(1, currentDate.toLocalDate()); // or setTimestamp if column is DATETIME
+            stm.setTimestamp(1, startOfDay(currentDate));
 
             try (ResultSet rs = stm.executeQuery()) {
                 while (rs.next()) {
-                    LocalDate eventDate = rs.getDate("date").toLocalDate();
-                    LocalTime startTime = rs.getTime("start_time").toLocalTime();
-                    LocalDateTime startDateTime = LocalDateTime.of(eventDate, startTime);
-                    Long organiserId   = rs.getObject("organiser_id", Long.class);
-                    Long clubId   = rs.getObject("club_id", Long.class);
-
-                    Event e = new Event(
-                        rs.getInt("event_id"),
-                        organiserId,
-                        clubId,
-                        rs.getString("title"),
-                        rs.getString("description"),
-                        rs.getString("location"),
-                        eventDate,
-                        startDateTime,
-                        rs.getTime("finish_time").toString(),
-                        rs.getString("status"),
-                        rs.getInt("capacity")
-                    );
-                    events.add(e);
+                    events.add(mapEvent(rs));
                 }
             }
             return events;
@@ -395,42 +635,22 @@ public class EventRepositoryImpl implements EventRepository {
     @Override
     public List<Event> findPastEvents(LocalDateTime currentDate) {
         List<Event> events = new ArrayList<>();
-        String sql = """
-            SELECT *
-            FROM Events
-            WHERE date < ?
-            AND status <> 'DELETED'
-            ORDER BY date DESC
+        String sql = "SELECT " + EVENT_COLUMNS + """
+            FROM Events e
+            WHERE e.start_at < ?
+            AND e.status <> 'DELETED'
+            ORDER BY e.start_at DESC
             """;
 
         try (
             Connection connection = dataSource.getConnection();
             PreparedStatement statementCon = connection.prepareStatement(sql)
         ) {
-            statementCon.setObject(1, currentDate.toLocalDate());
+            statementCon.setTimestamp(1, startOfDay(currentDate));
 
             try (ResultSet rs = statementCon.executeQuery()) {
                 while (rs.next()) {
-                    LocalDate eventDate = rs.getDate("date").toLocalDate();
-                    LocalTime startTime = rs.getTime("start_time").toLocalTime();
-                    LocalDateTime startDateTime = LocalDateTime.of(eventDate, startTime);
-                    Long organiserId   = rs.getObject("organiser_id", Long.class);
-                    Long clubId   = rs.getObject("club_id", Long.class);
-
-                    Event e = new Event(
-                        rs.getInt("event_id"),
-                        organiserId,
-                        clubId,
-                        rs.getString("title"),
-                        rs.getString("description"),
-                        rs.getString("location"),
-                        eventDate,
-                        startDateTime,
-                        rs.getTime("finish_time").toString(),
-                        rs.getString("status"),
-                        rs.getInt("capacity")
-                    );
-                    events.add(e);
+                    events.add(mapEvent(rs));
                 }
             }
             return events;
@@ -439,14 +659,65 @@ public class EventRepositoryImpl implements EventRepository {
         }
     }
 
+    @Override
+    public List<Event> findPastEventsPage(LocalDateTime before, PastEventsCursor after,
+                                          Long clubId, String tag, int limit) {
+        List<Event> events = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        // Keyset page over idx_events_start_at: (start_at, event_id) DESC, resuming below the cursor
+        StringBuilder sql = new StringBuilder("SELECT " + EVENT_COLUMNS + """
+            FROM Events e
+            WHERE e.start_at < ?
+            AND e.status <> 'DELETED'
+            """);
+        params.add(Timestamp.valueOf(before));
+
+        if (after != null) {
+            sql.append(" AND (e.start_at, e.event_id) < (?, ?)");
+            params.add(Timestamp.valueOf(after.startAt()));
+            params.add(after.eventId());
+        }
+        if (clubId != null) {
+            sql.append(" AND e.club_id = ?");
+            params.add(clubId);
+        }
+        if (tag != null && !tag.isBlank()) {
+            sql.append("""
+                 AND EXISTS (SELECT 1 FROM Event_Tags et JOIN Tags t ON t.tag_id = et.tag_id
+                             WHERE et.event_id = e.event_id AND t.tag_name = ?)
+                """);
+            params.add(tag.trim());
+        }
+        sql.append(" ORDER BY e.start_at DESC, e.event_id DESC LIMIT ?");
+        params.add(limit);
+
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(sql.toString())
+        ) {
+            for (int i = 0; i < params.size(); i++) {
+                stm.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = stm.executeQuery()) {
+                while (rs.next()) {
+                    events.add(mapEvent(rs));
+                }
+            }
+            return events;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in findPastEventsPage", e);
+        }
+    }
+
     @Override
     public List<Event> searchEvents(String query, String tag, LocalDate date, boolean isUpcoming, LocalDateTime now) {
         List<Event> events = new ArrayList<>();
         List<Object> params = new ArrayList<>();
 
         //Sql queries assited by LLM
-        StringBuilder sqlQuery = new StringBuilder("""
-            SELECT e.* FROM Events e
+        StringBuilder sqlQuery = new StringBuilder("SELECT " + EVENT_COLUMNS + """
+            FROM Events e
             LEFT JOIN Event_Tags et ON e.event_id = et.event_id
             LEFT JOIN Tags t ON et.tag_id = t.tag_id
             WHERE 1=1
@@ -463,19 +734,19 @@ public class EventRepositoryImpl implements EventRepository {
         }
 
         if (date != null) {
-            sqlQuery.append(" AND e.date = ?");
-            params.add(date);
+            sqlQuery.append(" AND e.start_at >= ? AND e.start_at < ?");
+            params.add(Timestamp.valueOf(date.atStartOfDay()));
+            params.add(Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
         }
 
         if (isUpcoming) {
-            sqlQuery.append(" AND e.date >= ?");
-            params.add(now.toLocalDate());
+            sqlQuery.append(" AND e.start_at >= ?");
         } else {
-            sqlQuery.append(" AND e.date < ?");
-            params.add(now.toLocalDate());
+            sqlQuery.append(" AND e.start_at < ?");
         }
+        params.add(startOfDay(now));
         sqlQuery.append(" AND e.status <> 'DELETED' ");
-        sqlQuery.append(" GROUP BY e.event_id ORDER BY e.date DESC");
+        sqlQuery.append(" GROUP BY e.event_id ORDER BY e.start_at DESC");
 
         try (
             Connection connection = dataSource.getConnection();
@@ -487,26 +758,7 @@ public class EventRepositoryImpl implements EventRepository {
 
             try (ResultSet rs = stm.executeQuery()) {
                 while (rs.next()) {
-                    LocalDate eventDate = rs.getDate("date").toLocalDate();
-                    LocalTime startTime = rs.getTime("start_time").toLocalTime();
-                    LocalDateTime startDateTime = LocalDateTime.of(eventDate, startTime);
-                    Long organiserId   = rs.getObject("organiser_id", Long.class);
-                    Long clubId   = rs.getObject("club_id", Long.class);
-
-                    Event e = new Event(
-                        rs.getInt("event_id"),
-                        organiserId,
-                        clubId,
-                        rs.getString("title"),
-                        rs.getString("description"),
-                        rs.getString("location"),
-                        eventDate,
-                        startDateTime,
-                        rs.getTime("finish_time").toString(),
-                        rs.getString("status"),
-                        rs.getInt("capacity")
-                    );
-                    events.add(e);
+                    events.add(mapEvent(rs));
                 }
             }
             return events;
@@ -526,26 +778,15 @@ public java.util.List<au.edu.rmit.sept.webapp.model.Event> searchUpcomingEnhance
         java.lang.Integer limit,
         java.lang.Integer offset
 ) {
-    final java.time.LocalDate useToday = (today != null ? today : java.time.LocalDate.now());
     final java.time.LocalDateTime useNow = (now != null ? now : java.time.LocalDateTime.now());
 
-    // Build WHERE with your legacy semantics:
-    //   (date > today) OR (date = today AND start_time >= now)
-    //   AND (status IS NULL OR UPPER(status) <> 'CANCELLED')
-    //   AND q-match across title/description/location (if q provided)
+    // Upcoming = ACTIVE and starting at or after now (a range scan on idx_events_status_start_at),
+    // plus a q-match across title/description/location when q is provided
     final StringBuilder sb = new StringBuilder();
-    sb.append("""
-        SELECT e.event_id
+    sb.append("SELECT ").append(EVENT_COLUMNS).append("""
           FROM Events e
-        """);
-
-    // If your main repo's search joins tags, you can add JOINs here as well.
-    // For minimal blast radius, we keep it simple and consistent with your legacy behaviour.
-
-    sb.append("""
-        WHERE
-          (e.`date` > ? OR (e.`date` = ? AND e.start_time >= ?))
-          AND e.status = 'ACTIVE'
+        WHERE e.status = 'ACTIVE'
+          AND e.start_at >= ?
         """);
 
     final boolean hasQ = (q != null && !q.isBlank());
@@ -560,22 +801,19 @@ public java.util.List<au.edu.rmit.sept.webapp.model.Event> searchUpcomingEnhance
     }
 
     // Ordering: upcoming first by date/time/title (ASC)
-    sb.append(" ORDER BY e.`date` ASC, e.start_time ASC, e.title ASC ");
+    sb.append(" ORDER BY e.start_at ASC, e.title ASC ");
 
     final boolean doPage = (limit != null && offset != null && limit > 0 && offset >= 0);
     if (doPage) {
         sb.append(" LIMIT ? OFFSET ? ");
     }
 
-    final java.util.List<Long> ids = new java.util.ArrayList<>();
+    final java.util.List<au.edu.rmit.sept.webapp.model.Event> out = new java.util.ArrayList<>();
 
-    // Run the ID query with try-with-resources (manual JDBC)
     try (java.sql.Connection con = this.dataSource.getConnection();
          java.sql.PreparedStatement ps = con.prepareStatement(sb.toString())) {
 
         int i = 1;
-        ps.setDate(i++, java.sql.Date.valueOf(useToday));
-        ps.setDate(i++, java.sql.Date.valueOf(useToday));
         ps.setTimestamp(i++, java.sql.Timestamp.valueOf(useNow));
 
         if (hasQ) {
@@ -589,103 +827,27 @@ public java.util.List<au.edu.rmit.sept.webapp.model.Event> searchUpcomingEnhance
 
         try (java.sql.ResultSet rs = ps.executeQuery()) {
             while (rs.next()) {
-                // event_id assumed BIGINT/INT compatible
-                long id = rs.getLong(1);
-                ids.add(id);
+                out.add(mapEvent(rs));
             }
         }
     } catch (java.sql.SQLException e) {
         throw new RuntimeException("searchUpcomingEnhanced query failed", e);
     }
 
-    if (ids.isEmpty()) return java.util.List.of();
-
-    // Load full Event rows using existing mapping the class already uses.
-    // This avoids duplicating/guessing the main repo's constructor mapping.
-    final java.util.List<au.edu.rmit.sept.webapp.model.Event> out = new java.util.ArrayList<>(ids.size());
-    final String fetchSql = """
-        SELECT event_id, organiser_id, club_id, title, description, location,
-               `date`, start_time, finish_time, status, capacity
-          FROM Events
-         WHERE event_id = ?
-        """;
-
-    for (Long id : ids) {
-        try (java.sql.Connection con = this.dataSource.getConnection();
-             java.sql.PreparedStatement ps = con.prepareStatement(fetchSql)) {
-
-            ps.setLong(1, id);
-            try (java.sql.ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    // Reuse the same mapping logic already present in this impl.
-                    // If your impl has a private mapRow(ResultSet) method, call it here.
-                    out.add(mapEventRowCompat(rs));
-                }
-            }
-        } catch (java.sql.SQLException e) {
-            // Skip individual bad rows but keep others (or rethrow if you prefer strict)
-            throw new RuntimeException("Failed to fetch Event id=" + id, e);
-        }
-    }
-
     return out;
 }
 
-/**
- * Compatibility row-mapper: adjust to the exact mapping this class already uses.
- * If you already have a private mapRow(ResultSet) in this class, you can delete
- * this method and call that instead.
- */
-private au.edu.rmit.sept.webapp.model.Event mapEventRowCompat(java.sql.ResultSet rs) throws java.sql.SQLException {
-    // --- If the main repo uses an Event constructor, mirror it here:
-    // Example below assumes:
-    // new Event(int eventId, int organiserId, int clubId, String title, String description,
-    //           String location, LocalDate date, LocalDateTime startTime, String finishTime,
-    //           String status, int capacity)
-
-    final int eventId = rs.getInt("event_id");
-    Long organiserId = rs.getObject("organiser_id", Long.class); // Handle nullable organiser_id
-    final Long clubId = rs.getObject("organiser_id", Long.class); // Handle nullable organiser_id
-    final String title = rs.getString("title");
-    final String description = rs.getString("description");
-    final String location = rs.getString("location");
-
-    final java.sql.Date d = rs.getDate("date");
-    final java.time.LocalDate eventDate = (d == null ? null : d.toLocalDate());
-
-    final java.sql.Timestamp st = rs.getTimestamp("start_time");
-    final java.time.LocalDateTime startDateTime = (st == null ? null : st.toLocalDateTime());
-
-    final String finishTime = (rs.getString("finish_time"));
-
-    final String status = rs.getString("status");
-    final int capacity = rs.getInt("capacity");
-
-    // If your Event is a record or builder, replace the constructor accordingly.
-    return new au.edu.rmit.sept.webapp.model.Event(
-            eventId, organiserId, clubId, title, description, location,
-            eventDate, startDateTime, finishTime, status, capacity
-    );
-
-
-}
-
 // ==== ADD-ONLY: CRUD for organiser flows ====
 
 @Override
 public java.util.Optional<au.edu.rmit.sept.webapp.model.Event> findById(java.lang.Long id) {
-    final String sql = """
-        SELECT event_id, organiser_id, club_id, title, description, location,
-               `date`, start_time, finish_time, status, capacity
-          FROM Events
-         WHERE event_id = ?
-        """;
+    final String sql = "SELECT " + EVENT_COLUMNS + " FROM Events e WHERE e.event_id = ?";
     try (java.sql.Connection con = this.dataSource.getConnection();
          java.sql.PreparedStatement ps = con.prepareStatement(sql)) {
         ps.setLong(1, id);
         try (java.sql.ResultSet rs = ps.executeQuery()) {
             if (rs.next()) {
-                return java.util.Optional.of(mapEventRowCompat(rs));
+                return java.util.Optional.of(mapEvent(rs));
             }
             return java.util.Optional.empty();
         }
@@ -699,8 +861,9 @@ public java.util.Optional<au.edu.rmit.sept.webapp.model.Event> findById(java.lan
 public int insertEvent(au.edu.rmit.sept.webapp.model.Event e) {
     final String sql = """
         INSERT INTO Events
-          (organiser_id, club_id, title, description, location, `date`, start_time, finish_time, status, capacity)
-        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+          (organiser_id, club_id, title, description, location, `date`, start_time, finish_time, status, capacity,
+           start_at, end_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
         """;
     try (java.sql.Connection con = this.dataSource.getConnection();
          java.sql.PreparedStatement ps = con.prepareStatement(sql, java.sql.Statement.RETURN_GENERATED_KEYS)) {
@@ -733,6 +896,7 @@ public int insertEvent(au.edu.rmit.sept.webapp.model.Event e) {
         setFinishDateTime(ps, 8, e.date(), e.finish_time());
         ps.setString(9, e.status());
         ps.setInt(10, e.capacity());
+        setStartEndAt(ps, 11, e);
 
         ps.executeUpdate();
         try (java.sql.ResultSet keys = ps.getGeneratedKeys()) {
@@ -761,7 +925,9 @@ public int updateEvent(au.edu.rmit.sept.webapp.model.Event e) {
                start_time   = ?,
                finish_time  = ?,
                status       = ?,
-               capacity     = ?
+               capacity     = ?,
+               start_at     = ?,
+               end_at       = ?
          WHERE event_id    = ?
         """;
     try (java.sql.Connection con = this.dataSource.getConnection();
@@ -789,7 +955,8 @@ public int updateEvent(au.edu.rmit.sept.webapp.model.Event e) {
         setFinishDateTime(ps, 8, e.date(), e.finish_time());
         ps.setString(9, e.status());
         ps.setInt(10, e.capacity());
-        ps.setInt(11, e.event_id());
+        setStartEndAt(ps, 11, e);
+        ps.setInt(13, e.event_id());
 
         return ps.executeUpdate();
     } catch (java.sql.SQLException ex) {
@@ -834,16 +1001,40 @@ private void setFinishDateTime(java.sql.PreparedStatement ps, int index,
         ps.setNull(index, Types.TIMESTAMP);
         return;
     }
-    LocalTime t;
+    LocalDateTime ldt = date.atTime(parseFinishTime(finishStr));
+    ps.setTimestamp(index, Timestamp.valueOf(ldt));
+}
+
+private static LocalTime parseFinishTime(String finishStr) {
     try {
         // form sends HH:mm
-        t = LocalTime.parse(finishStr.trim(), HH_MM);
+        return LocalTime.parse(finishStr.trim(), HH_MM);
     } catch (Exception ignored) {
         // fallback if it already includes seconds (HH:mm:ss)
-        t = LocalTime.parse(finishStr.trim());
+        return LocalTime.parse(finishStr.trim());
     }
-    LocalDateTime ldt = date.atTime(t);
-    ps.setTimestamp(index, Timestamp.valueOf(ldt));
+}
+
+/** Binds start_at and end_at ({@link Event#startAt()}, {@link Event#endAt()}) at index and index + 1. */
+private static void setStartEndAt(java.sql.PreparedStatement ps, int index, Event e) throws java.sql.SQLException {
+    LocalDateTime startAt = e.startAt();
+    if (startAt == null) {
+        ps.setNull(index, Types.TIMESTAMP);
+        ps.setNull(index + 1, Types.TIMESTAMP);
+        return;
+    }
+    ps.setTimestamp(index, Timestamp.valueOf(startAt));
+    LocalDateTime endAt = e.endAt();
+    if (endAt == null) {
+        ps.setNull(index + 1, Types.TIMESTAMP);
+    } else {
+        ps.setTimestamp(index + 1, Timestamp.valueOf(endAt));
+    }
+}
+
+// Listing pages treat everything on today's date as current, so day-level filters start at midnight
+private static Timestamp startOfDay(LocalDateTime now) {
+    return Timestamp.valueOf(now.toLocalDate().atStartOfDay());
 }
 
 
@@ -873,16 +1064,16 @@ public int deleteEventById(int eventId, Long adminId, String reason) {
 }
 
 @Override
-public List<Event> findDeletedEvents() {
-    List<Event> events = new ArrayList<>();
-    String sql = "SELECT * FROM Events WHERE status = 'DELETED' ORDER BY date DESC";
+public List<EventSummary> findDeletedEvents() {
+    List<EventSummary> events = new ArrayList<>();
+    String sql = "SELECT " + SUMMARY_COLUMNS + " FROM Events e WHERE e.status = 'DELETED' ORDER BY e.date DESC";
 
     try (Connection con = dataSource.getConnection();
          PreparedStatement ps = con.prepareStatement(sql);
          ResultSet rs = ps.executeQuery()) {
 
         while (rs.next()) {
-            events.add(mapEventRowCompat(rs));
+            events.add(mapSummary(rs));
         }
     } catch (SQLException e) {
         throw new DataAccessResourceFailureException("Error fetching deleted events", e);
@@ -915,66 +1106,70 @@ public List<DeletedEventLog> findDeletedLogs() {
 }
 
 @Override
-public void clearTagsForEvent(int eventId) {
-    String sql = "DELETE FROM Event_Tags WHERE event_id = ?";
-    try (Connection connection = dataSource.getConnection();
-         PreparedStatement stm = connection.prepareStatement(sql)) {
-        stm.setInt(1, eventId);
-        stm.executeUpdate();
-    } catch (SQLException e) {
-        throw new DataAccessResourceFailureException("Error clearing tags for event " + eventId, e);
-    }
-}
-
-@Override
-public Optional<Integer> findTagByName(String tagName) {
-    String sql = "SELECT tag_id FROM Tags WHERE tag_name = ?";
-    try (Connection connection = dataSource.getConnection();
-         PreparedStatement stm = connection.prepareStatement(sql)) {
-        stm.setString(1, tagName);
-        try (ResultSet rs = stm.executeQuery()) {
-            if (rs.next()) {
-                return Optional.of(rs.getInt("tag_id"));
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public int findOrCreateTag(String tagName) {
+    // Its own short transaction: the insert's unique-key lock is released straight away instead
+    // of being held until the caller's event save commits, and the SELECT below starts a fresh
+    // snapshot that sees a row another request committed first
+    String insertSql = "INSERT IGNORE INTO Tags (tag_name) VALUES (?)";
+    String selectSql = "SELECT tag_id FROM Tags WHERE tag_name = ?";
+    try (Connection connection = dataSource.getConnection()) {
+        try (PreparedStatement stm = connection.prepareStatement(insertSql)) {
+            stm.setString(1, tagName);
+            stm.executeUpdate();
+        }
+        try (PreparedStatement stm = connection.prepareStatement(selectSql)) {
+            stm.setString(1, tagName);
+            try (ResultSet rs = stm.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+                throw new SQLException("Tag " + tagName + " missing after insert");
             }
         }
     } catch (SQLException e) {
-        throw new DataAccessResourceFailureException("Error finding tag by name " + tagName, e);
+        throw new DataAccessResourceFailureException("Error creating tag " + tagName, e);
     }
-    return Optional.empty();
 }
 
 @Override
-public int createTag(String tagName) {
-    String sql = "INSERT INTO Tags (tag_name) VALUES (?)";
+public void linkTagsToEvent(int eventId, Collection<Integer> tagIds) {
+    if (tagIds.isEmpty()) {
+        return;
+    }
+    // One multi-row statement; IGNORE skips links another request already added
+    String sql = "INSERT IGNORE INTO Event_Tags (event_id, tag_id) VALUES "
+               + String.join(", ", Collections.nCopies(tagIds.size(), "(?, ?)"));
     try (Connection connection = dataSource.getConnection();
-         PreparedStatement stm = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-        stm.setString(1, tagName);
-        stm.executeUpdate();
-        try (ResultSet generatedKeys = stm.getGeneratedKeys()) {
-            if (generatedKeys.next()) {
-                return generatedKeys.getInt(1);
-            } else {
-                throw new SQLException("Creating tag failed, no ID obtained.");
-            }
+         PreparedStatement stm = connection.prepareStatement(sql)) {
+        int i = 1;
+        for (int tagId : tagIds) {
+            stm.setInt(i++, eventId);
+            stm.setInt(i++, tagId);
         }
+        stm.executeUpdate();
     } catch (SQLException e) {
-        throw new DataAccessResourceFailureException("Error creating tag " + tagName, e);
+        throw new DataAccessResourceFailureException("Error linking tags to event " + eventId, e);
     }
 }
 
 @Override
-public void linkTagToEvent(int eventId, int tagId) {
-    String sql = "INSERT INTO Event_Tags (event_id, tag_id) VALUES (?, ?)";
+public void unlinkTagsFromEvent(int eventId, Collection<Integer> tagIds) {
+    if (tagIds.isEmpty()) {
+        return;
+    }
+    String sql = "DELETE FROM Event_Tags WHERE event_id = ? AND tag_id IN ("
+               + String.join(", ", Collections.nCopies(tagIds.size(), "?")) + ")";
     try (Connection connection = dataSource.getConnection();
          PreparedStatement stm = connection.prepareStatement(sql)) {
-        stm.setInt(1, eventId);
-        stm.setInt(2, tagId);
+        int i = 1;
+        stm.setInt(i++, eventId);
+        for (int tagId : tagIds) {
+            stm.setInt(i++, tagId);
+        }
         stm.executeUpdate();
     } catch (SQLException e) {
-        // Ignore duplicate key errors, which can happen if the tag is already linked
-        if (!e.getSQLState().equals("23000")) {
-            throw new DataAccessResourceFailureException("Error linking tag to event", e);
-        }
+        throw new DataAccessResourceFailureException("Error unlinking tags from event " + eventId, e);
     }
 }
 
@@ -1014,17 +1209,15 @@ public List<Tags> findTagsByEventId(int eventId) {
 
 @Override
 public List<Event> searchUpcomingByOrganiser(Long organiserId, String query, Integer page, Integer size) {
-    final java.time.LocalDate today = java.time.LocalDate.now();
     final java.time.LocalDateTime now = java.time.LocalDateTime.now();
 
     // Build WHERE clause with organiser filter
     final StringBuilder sb = new StringBuilder();
-    sb.append("""
-        SELECT e.event_id
+    sb.append("SELECT ").append(EVENT_COLUMNS).append("""
           FROM Events e
         WHERE e.organiser_id = ?
-          AND (e.`date` > ? OR (e.`date` = ? AND e.start_time >= ?))
           AND e.status = 'ACTIVE'
+          AND e.start_at >= ?
         """);
 
     final boolean hasQuery = (query != null && !query.isBlank());
@@ -1039,23 +1232,20 @@ public List<Event> searchUpcomingByOrganiser(Long organiserId, String query, Int
     }
 
     // Ordering: upcoming first by date/time/title (ASC)
-    sb.append(" ORDER BY e.`date` ASC, e.start_time ASC, e.title ASC ");
+    sb.append(" ORDER BY e.start_at ASC, e.title ASC ");
 
     final boolean doPage = (page != null && size != null && page >= 0 && size > 0);
     if (doPage) {
         sb.append(" LIMIT ? OFFSET ? ");
     }
 
-    final java.util.List<Long> ids = new java.util.ArrayList<>();
+    final java.util.List<Event> out = new java.util.ArrayList<>();
 
-    // Run the ID query
     try (java.sql.Connection con = this.dataSource.getConnection();
          java.sql.PreparedStatement ps = con.prepareStatement(sb.toString())) {
 
         int i = 1;
         ps.setLong(i++, organiserId);
-        ps.setDate(i++, java.sql.Date.valueOf(today));
-        ps.setDate(i++, java.sql.Date.valueOf(today));
         ps.setTimestamp(i++, java.sql.Timestamp.valueOf(now));
 
         if (hasQuery) {
@@ -1069,59 +1259,13 @@ public List<Event> searchUpcomingByOrganiser(Long organiserId, String query, Int
 
         try (java.sql.ResultSet rs = ps.executeQuery()) {
             while (rs.next()) {
-                long id = rs.getLong(1);
-                ids.add(id);
+                out.add(mapEvent(rs));
             }
         }
     } catch (java.sql.SQLException e) {
         throw new RuntimeException("searchUpcomingByOrganiser query failed", e);
     }
 
-    if (ids.isEmpty()) return java.util.List.of();
-
-    // Load full Event rows
-    final java.util.List<au.edu.rmit.sept.webapp.model.Event> out = new java.util.ArrayList<>(ids.size());
-    final String fetchSql = """
-        SELECT event_id, organiser_id, club_id, title, description, location,
-               `date`, start_time, finish_time, status, capacity
-          FROM Events
-         WHERE event_id = ?
-        """;
-
-    for (Long id : ids) {
-        try (java.sql.Connection con = this.dataSource.getConnection();
-             java.sql.PreparedStatement ps = con.prepareStatement(fetchSql)) {
-
-            ps.setLong(1, id);
-            try (java.sql.ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    long eventId = rs.getLong("event_id");
-                    Long orgId = rs.getObject("organiser_id", Long.class);
-                    Long clubId = rs.getObject("club_id", Long.class);
-                    String title = rs.getString("title");
-                    String description = rs.getString("description");
-                    String location = rs.getString("location");
-                    LocalDate date = rs.getDate("date").toLocalDate();
-                    java.sql.Timestamp startTs = rs.getTimestamp("start_time");
-                    java.sql.Timestamp finishTs = rs.getTimestamp("finish_time");
-                    String status = rs.getString("status");
-                    int capacity = rs.getInt("capacity");
-
-                    LocalDateTime startTime = (startTs != null) ? startTs.toLocalDateTime() : null;
-                    String finishTime = (finishTs != null) ? finishTs.toLocalDateTime().toLocalTime().toString() : null;
-
-                    Event event = new Event(
-                        (int) eventId, orgId, clubId, title, description, location,
-                        date, startTime, finishTime, status, capacity
-                    );
-                    out.add(event);
-                }
-            }
-        } catch (java.sql.SQLException e) {
-            throw new RuntimeException("Error loading event " + id, e);
-        }
-    }
-
     return out;
 }
 
@@ -0,0 +1,91 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventSummary;
+
+/**
+ * The one place an Events row becomes an {@link Event} or {@link EventSummary}.
+ * Queries select {@link #EVENT_COLUMNS} or {@link #SUMMARY_COLUMNS} (aliased {@code e})
+ * and the mappers read by position, so the column lists and the mappers must change together.
+ * Both lists end in a newline so they can be followed directly by a FROM clause.
+ */
+public final class EventRowMappers {
+
+    /** Full event row, in the order {@link #mapEvent(ResultSet)} reads it. */
+    public static final String EVENT_COLUMNS = """
+        e.event_id, e.organiser_id, e.club_id, e.title, e.description, e.location, \
+        e.`date`, e.start_time, e.finish_time, e.status, e.capacity
+        """;
+
+    /** List-view row without description, in the order {@link #mapSummary(ResultSet)} reads it. */
+    public static final String SUMMARY_COLUMNS = """
+        e.event_id, e.organiser_id, e.club_id, e.title, e.location, \
+        e.`date`, e.start_time, e.finish_time, e.status, e.capacity
+        """;
+
+    /** {@link #SUMMARY_COLUMNS} for a row of Events_Archive, which lists with status ARCHIVED. */
+    public static final String ARCHIVED_SUMMARY_COLUMNS = """
+        e.event_id, e.organiser_id, e.club_id, e.title, e.location, \
+        e.`date`, e.start_time, e.finish_time, 'ARCHIVED' AS status, e.capacity
+        """;
+
+    private EventRowMappers() {
+    }
+
+    public static Event mapEvent(ResultSet rs) throws SQLException {
+        return new Event(
+            rs.getInt(1),
+            nullableLong(rs, 2),
+            nullableLong(rs, 3),
+            rs.getString(4),
+            rs.getString(5),
+            rs.getString(6),
+            localDate(rs.getDate(7)),
+            localDateTime(rs.getTimestamp(8)),
+            timeOfDay(rs.getTime(9)),
+            rs.getString(10),
+            rs.getInt(11)
+        );
+    }
+
+    public static EventSummary mapSummary(ResultSet rs) throws SQLException {
+        return new EventSummary(
+            rs.getInt(1),
+            nullableLong(rs, 2),
+            nullableLong(rs, 3),
+            rs.getString(4),
+            rs.getString(5),
+            localDate(rs.getDate(6)),
+            localDateTime(rs.getTimestamp(7)),
+            timeOfDay(rs.getTime(8)),
+            rs.getString(9),
+            rs.getInt(10)
+        );
+    }
+
+    private static Long nullableLong(ResultSet rs, int index) throws SQLException {
+        long value = rs.getLong(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDate localDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+
+    private static LocalDateTime localDateTime(Timestamp ts) {
+        return ts == null ? null : ts.toLocalDateTime();
+    }
+
+    // finish_time is a DATETIME but Event carries only its HH:mm:ss part
+    private static String timeOfDay(Time time) {
+        return time == null ? null : time.toString();
+    }
+}
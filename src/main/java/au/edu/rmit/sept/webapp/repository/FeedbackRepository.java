@@ -1,8 +1,10 @@
 package au.edu.rmit.sept.webapp.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import au.edu.rmit.sept.webapp.dto.FeedbackPrompt;
 import au.edu.rmit.sept.webapp.model.Event_Feedback;
 
 public interface FeedbackRepository {
@@ -20,4 +22,7 @@ public interface FeedbackRepository {
     void deleteById(int feedbackId);
     
     double getAverageRatingByEventId(int eventId);
-}
\ No newline at end of file
+
+    // Attendances without feedback for events that finished in (finishedAfter, finishedUpTo]
+    List<FeedbackPrompt> findUnratedAttendances(LocalDateTime finishedAfter, LocalDateTime finishedUpTo);
+}
@@ -6,6 +6,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +16,7 @@ import javax.sql.DataSource;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.stereotype.Repository;
 
+import au.edu.rmit.sept.webapp.dto.FeedbackPrompt;
 import au.edu.rmit.sept.webapp.model.Event_Feedback;
 
 @Repository
@@ -239,4 +241,39 @@ public class FeedbackRepositoryImpl implements FeedbackRepository {
             rs.getTimestamp("submitted_at").toLocalDateTime()
         );
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<FeedbackPrompt> findUnratedAttendances(LocalDateTime finishedAfter, LocalDateTime finishedUpTo) {
+        // Range over idx_events_end_at, so each run reads only events that finished since the last one
+        String sql = """
+            SELECT e.event_id, e.title, u.user_id, u.email, sp.name, u.email_digest
+            FROM Events e
+            JOIN Attendance a ON a.event_id = e.event_id
+            JOIN Users u ON u.user_id = a.user_id
+            LEFT JOIN Student_Profile sp ON sp.user_id = u.user_id
+            LEFT JOIN Event_Feedback f ON f.event_id = a.event_id AND f.user_id = a.user_id
+            WHERE e.end_at > ? AND e.end_at <= ?
+            AND e.status NOT IN ('CANCELLED', 'DELETED')
+            AND u.status = 'ACTIVE'
+            AND f.feedback_id IS NULL
+            ORDER BY e.event_id, u.user_id
+            """;
+        List<FeedbackPrompt> prompts = new ArrayList<>();
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(sql)
+        ) {
+            stm.setTimestamp(1, Timestamp.valueOf(finishedAfter));
+            stm.setTimestamp(2, Timestamp.valueOf(finishedUpTo));
+            try (ResultSet rs = stm.executeQuery()) {
+                while (rs.next()) {
+                    prompts.add(new FeedbackPrompt(rs.getInt(1), rs.getString(2), rs.getLong(3),
+                            rs.getString(4), rs.getString(5), rs.getBoolean(6)));
+                }
+            }
+            return prompts;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error finding attendances without feedback", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface JobCheckpointRepository {
+
+    Optional<LocalDateTime> findHighWater(String jobName);
+
+    // Move the job's mark from expected (null: no mark yet) to next. False when another instance
+    // moved it first, so only one of them works through the window in between.
+    boolean advanceHighWater(String jobName, LocalDateTime expected, LocalDateTime next);
+}
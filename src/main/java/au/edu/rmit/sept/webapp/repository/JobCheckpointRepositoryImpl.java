@@ -0,0 +1,66 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JobCheckpointRepositoryImpl implements JobCheckpointRepository {
+
+    private final DataSource dataSource;
+
+    public JobCheckpointRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Optional<LocalDateTime> findHighWater(String jobName) {
+        String sql = "SELECT high_water FROM Job_Checkpoints WHERE job_name = ?";
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(sql)
+        ) {
+            stm.setString(1, jobName);
+            try (ResultSet rs = stm.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(rs.getTimestamp(1).toLocalDateTime());
+                }
+            }
+            return Optional.empty();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in findHighWater", e);
+        }
+    }
+
+    @Override
+    public boolean advanceHighWater(String jobName, LocalDateTime expected, LocalDateTime next) {
+        String sql = expected == null
+            ? "INSERT IGNORE INTO Job_Checkpoints (job_name, high_water, updated_at) VALUES (?, ?, NOW())"
+            : "UPDATE Job_Checkpoints SET high_water = ?, updated_at = NOW() WHERE job_name = ? AND high_water = ?";
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement stm = connection.prepareStatement(sql)
+        ) {
+            if (expected == null) {
+                stm.setString(1, jobName);
+                stm.setTimestamp(2, Timestamp.valueOf(next));
+            } else {
+                stm.setTimestamp(1, Timestamp.valueOf(next));
+                stm.setString(2, jobName);
+                stm.setTimestamp(3, Timestamp.valueOf(expected));
+            }
+            return stm.executeUpdate() == 1;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error in advanceHighWater", e);
+        }
+    }
+}
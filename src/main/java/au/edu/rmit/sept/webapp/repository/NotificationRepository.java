@@ -1,6 +1,9 @@
 package au.edu.rmit.sept.webapp.repository;
 
+import au.edu.rmit.sept.webapp.dto.DigestRecipient;
+import au.edu.rmit.sept.webapp.dto.NotificationCursor;
 import au.edu.rmit.sept.webapp.model.Notification;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,14 +16,42 @@ public interface NotificationRepository {
     List<Notification> findByUserId(int userId);
     
     List<Notification> findUnreadByUserId(int userId);
+
+    // Keyset page, newest first, resuming after the cursor (null for the first page)
+    List<Notification> findPageByUserId(int userId, boolean unreadOnly, NotificationCursor after, int limit);
     
     void markAsRead(int notificationId);
 
     void markAllAsReadForUser(int userId);
+
+    // Only the user's own notifications among the ids are marked
+    int markAsReadForUser(int userId, List<Integer> notificationIds);
     
     void deleteById(int notificationId);
 
     void deleteAllForUser(int userId);
 
     int countUnreadByUserId(int userId);
+
+    // One notification for everyone who RSVPed to the event, written by a single INSERT ... SELECT
+    int saveForEventRsvps(int eventId, String type, String title, String message, String link);
+
+    // The same notification for each user, written as one multi-row INSERT; callers keep the list to a chunk
+    int saveForUsers(List<Long> userIds, String type, String title, String message, String link);
+
+    // Retention: ids of notifications read before the cutoff, walking the primary key from afterId
+    List<Integer> findReadIdsBefore(LocalDateTime readBefore, int afterId, int limit);
+
+    // Copies the notifications into Notifications_Archive; ids already archived are skipped
+    int archiveByIds(List<Integer> notificationIds);
+
+    int deleteByIds(List<Integer> notificationIds);
+
+    // Digest users after afterUserId, in id order, with unread notifications of these types created before the cutoff
+    List<DigestRecipient> findDigestRecipients(long afterUserId, List<String> types, LocalDateTime createdBefore, int limit);
+
+    // Those notifications for a chunk of recipients, oldest first per user
+    List<Notification> findUndigested(List<Long> userIds, List<String> types, LocalDateTime createdBefore);
+
+    int markEmailed(List<Integer> notificationIds);
 }
@@ -1,5 +1,7 @@
 package au.edu.rmit.sept.webapp.repository;
 
+import au.edu.rmit.sept.webapp.dto.DigestRecipient;
+import au.edu.rmit.sept.webapp.dto.NotificationCursor;
 import au.edu.rmit.sept.webapp.model.Notification;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.stereotype.Repository;
@@ -8,6 +10,7 @@ import javax.sql.DataSource;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -64,6 +67,50 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         }
     }
 
+    @Override
+    public int saveForEventRsvps(int eventId, String type, String title, String message, String link) {
+        String sql = "INSERT INTO Notifications (user_id, type, title, message, link, created_at) " +
+                     "SELECT r.user_id, ?, ?, ?, ?, NOW() FROM RSVP r WHERE r.event_id = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, type);
+            stmt.setString(2, title);
+            stmt.setString(3, message);
+            stmt.setString(4, link);
+            stmt.setInt(5, eventId);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error saving notifications for event " + eventId, e);
+        }
+    }
+
+    @Override
+    public int saveForUsers(List<Long> userIds, String type, String title, String message, String link) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        String sql = "INSERT INTO Notifications (user_id, type, title, message, link, created_at) VALUES " +
+                     String.join(", ", Collections.nCopies(userIds.size(), "(?, ?, ?, ?, ?, NOW())"));
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int i = 1;
+            for (Long userId : userIds) {
+                stmt.setLong(i++, userId);
+                stmt.setString(i++, type);
+                stmt.setString(i++, title);
+                stmt.setString(i++, message);
+                stmt.setString(i++, link);
+            }
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error saving notifications for " + userIds.size() + " users", e);
+        }
+    }
+
     @Override
     public Optional<Notification> findById(int notificationId) {
         String sql = "SELECT * FROM Notifications WHERE notification_id = ?";
@@ -129,6 +176,44 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         return notifications;
     }
 
+    @Override
+    public List<Notification> findPageByUserId(int userId, boolean unreadOnly, NotificationCursor after, int limit) {
+        List<Object> params = new ArrayList<>();
+        // Keyset page over idx_notifications_user_read_created (unread) or idx_notifications_user_created
+        StringBuilder sql = new StringBuilder(
+            "SELECT notification_id, user_id, type, title, message, link, created_at, read_at " +
+            "FROM Notifications WHERE user_id = ?");
+        params.add(userId);
+        if (unreadOnly) {
+            sql.append(" AND read_at IS NULL");
+        }
+        if (after != null) {
+            sql.append(" AND (created_at, notification_id) < (?, ?)");
+            params.add(Timestamp.valueOf(after.createdAt()));
+            params.add(after.notificationId());
+        }
+        sql.append(" ORDER BY created_at DESC, notification_id DESC LIMIT ?");
+        params.add(limit);
+
+        List<Notification> notifications = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    notifications.add(mapRowToNotification(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error finding notification page for user " + userId, e);
+        }
+
+        return notifications;
+    }
+
     @Override
     public void markAsRead(int notificationId) {
         String sql = "UPDATE Notifications SET read_at = ? WHERE notification_id = ? AND read_at IS NULL";
@@ -161,6 +246,26 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         }
     }
 
+    @Override
+    public int markAsReadForUser(int userId, List<Integer> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        String sql = "UPDATE Notifications SET read_at = ? WHERE user_id = ? AND read_at IS NULL " +
+                     "AND notification_id IN (" + placeholders(notificationIds.size()) + ")";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            stmt.setInt(2, userId);
+            setIds(stmt, 3, notificationIds);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error marking notifications as read", e);
+        }
+    }
+
     @Override
     public void deleteById(int notificationId) {
         String sql = "DELETE FROM Notifications WHERE notification_id = ?";
@@ -210,6 +315,165 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         return 0;
     }
 
+    @Override
+    public List<Integer> findReadIdsBefore(LocalDateTime readBefore, int afterId, int limit) {
+        String sql = "SELECT notification_id FROM Notifications " +
+                     "WHERE notification_id > ? AND read_at < ? ORDER BY notification_id LIMIT ?";
+        List<Integer> ids = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, afterId);
+            stmt.setTimestamp(2, Timestamp.valueOf(readBefore));
+            stmt.setInt(3, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error finding read notifications to retire", e);
+        }
+
+        return ids;
+    }
+
+    @Override
+    public int archiveByIds(List<Integer> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        // INSERT IGNORE: a batch interrupted between archive and delete is simply archived again
+        String sql = "INSERT IGNORE INTO Notifications_Archive " +
+                     "(notification_id, user_id, type, title, message, link, created_at, read_at, archived_at) " +
+                     "SELECT notification_id, user_id, type, title, message, link, created_at, read_at, NOW() " +
+                     "FROM Notifications WHERE notification_id IN (" + placeholders(notificationIds.size()) + ")";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            setIds(stmt, 1, notificationIds);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error archiving notifications", e);
+        }
+    }
+
+    @Override
+    public int deleteByIds(List<Integer> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        String sql = "DELETE FROM Notifications WHERE notification_id IN (" + placeholders(notificationIds.size()) + ")";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            setIds(stmt, 1, notificationIds);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error deleting notifications", e);
+        }
+    }
+
+    @Override
+    public List<DigestRecipient> findDigestRecipients(long afterUserId, List<String> types,
+                                                      LocalDateTime createdBefore, int limit) {
+        String sql = "SELECT u.user_id, u.email, sp.name FROM Users u " +
+                     "LEFT JOIN Student_Profile sp ON sp.user_id = u.user_id " +
+                     "WHERE u.user_id > ? AND u.email_digest = TRUE AND u.status = 'ACTIVE' " +
+                     "AND EXISTS (SELECT 1 FROM Notifications n WHERE n.user_id = u.user_id " +
+                     "AND n.read_at IS NULL AND n.emailed_at IS NULL AND n.created_at < ? " +
+                     "AND n.type IN (" + placeholders(types.size()) + ")) " +
+                     "ORDER BY u.user_id LIMIT ?";
+        List<DigestRecipient> recipients = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int i = 1;
+            stmt.setLong(i++, afterUserId);
+            stmt.setTimestamp(i++, Timestamp.valueOf(createdBefore));
+            for (String type : types) {
+                stmt.setString(i++, type);
+            }
+            stmt.setInt(i, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    recipients.add(new DigestRecipient(rs.getLong(1), rs.getString(2), rs.getString(3)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error finding digest recipients", e);
+        }
+
+        return recipients;
+    }
+
+    @Override
+    public List<Notification> findUndigested(List<Long> userIds, List<String> types, LocalDateTime createdBefore) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT notification_id, user_id, type, title, message, link, created_at, read_at " +
+                     "FROM Notifications WHERE user_id IN (" + placeholders(userIds.size()) + ") " +
+                     "AND read_at IS NULL AND emailed_at IS NULL AND created_at < ? " +
+                     "AND type IN (" + placeholders(types.size()) + ") " +
+                     "ORDER BY user_id, created_at, notification_id";
+        List<Notification> notifications = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int i = 1;
+            for (Long userId : userIds) {
+                stmt.setLong(i++, userId);
+            }
+            stmt.setTimestamp(i++, Timestamp.valueOf(createdBefore));
+            for (String type : types) {
+                stmt.setString(i++, type);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    notifications.add(mapRowToNotification(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error finding notifications for digests", e);
+        }
+
+        return notifications;
+    }
+
+    @Override
+    public int markEmailed(List<Integer> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        String sql = "UPDATE Notifications SET emailed_at = NOW() " +
+                     "WHERE notification_id IN (" + placeholders(notificationIds.size()) + ")";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            setIds(stmt, 1, notificationIds);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error marking notifications as emailed", e);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void setIds(PreparedStatement stmt, int firstIndex, List<Integer> ids) throws SQLException {
+        for (int i = 0; i < ids.size(); i++) {
+            stmt.setInt(firstIndex + i, ids.get(i));
+        }
+    }
+
     private Notification mapRowToNotification(ResultSet rs) throws SQLException {
         Timestamp readAtTimestamp = rs.getTimestamp("read_at");
         LocalDateTime readAt = readAtTimestamp != null ? readAtTimestamp.toLocalDateTime() : null;
@@ -10,6 +10,8 @@ public interface PhotoRepository {
     Event_Photos save(Event_Photos photo);
     
     Optional<Event_Photos> findById(int photoId);
+
+    List<Event_Photos> findAllByIds(List<Integer> photoIds);
     
     List<Event_Photos> findByEventId(int eventId);
     
@@ -86,6 +86,34 @@ public class PhotoRepositoryImpl implements PhotoRepository {
         }
     }
 
+    @Override
+    public List<Event_Photos> findAllByIds(List<Integer> photoIds) {
+        List<Event_Photos> photos = new ArrayList<>();
+        if (photoIds == null || photoIds.isEmpty()) {
+            return photos;
+        }
+
+        String sql = "SELECT * FROM Event_Photos WHERE photo_id IN (" +
+                     String.join(",", photoIds.stream().map(id -> "?").toList()) + ")";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+
+            for (int i = 0; i < photoIds.size(); i++) {
+                stm.setInt(i + 1, photoIds.get(i));
+            }
+
+            try (ResultSet rs = stm.executeQuery()) {
+                while (rs.next()) {
+                    photos.add(mapRowToPhoto(rs));
+                }
+                return photos;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error finding photos by IDs", e);
+        }
+    }
+
     @Override
     public List<Event_Photos> findByEventId(int eventId) {
         String sql = "SELECT * FROM Event_Photos WHERE event_id = ? ORDER BY uploaded_at DESC";
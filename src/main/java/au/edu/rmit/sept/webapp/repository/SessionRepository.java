@@ -0,0 +1,22 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+import au.edu.rmit.sept.webapp.model.Http_Session;
+
+public interface SessionRepository {
+
+    Optional<Http_Session> findById(String sessionId);
+
+    // Insert or replace the whole row, attributes included
+    void save(Http_Session session);
+
+    // Batch-update last access (and expiry) for sessions whose attributes didn't change
+    void touchAll(Map<String, Long> lastAccessTimes);
+
+    void deleteById(String sessionId);
+
+    // Delete up to limit sessions that expired before now; returns rows removed
+    int deleteExpired(long now, int limit);
+}
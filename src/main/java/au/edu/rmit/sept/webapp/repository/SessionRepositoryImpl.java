@@ -0,0 +1,132 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Repository;
+
+import au.edu.rmit.sept.webapp.model.Http_Session;
+
+@Repository
+public class SessionRepositoryImpl implements SessionRepository {
+
+    private final DataSource dataSource;
+
+    public SessionRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Optional<Http_Session> findById(String sessionId) {
+        String sql = """
+            SELECT session_id, creation_time, last_access_time, max_inactive_interval, expiry_time, attributes
+            FROM Http_Sessions
+            WHERE session_id = ?
+            """;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            stm.setString(1, sessionId);
+            try (ResultSet rs = stm.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new Http_Session(
+                        rs.getString(1),
+                        rs.getLong(2),
+                        rs.getLong(3),
+                        rs.getInt(4),
+                        rs.getLong(5),
+                        rs.getBytes(6)
+                    ));
+                }
+            }
+            return Optional.empty();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error loading session", e);
+        }
+    }
+
+    @Override
+    public void save(Http_Session session) {
+        String sql = """
+            INSERT INTO Http_Sessions
+                (session_id, creation_time, last_access_time, max_inactive_interval, expiry_time, attributes)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                last_access_time = VALUES(last_access_time),
+                max_inactive_interval = VALUES(max_inactive_interval),
+                expiry_time = VALUES(expiry_time),
+                attributes = VALUES(attributes)
+            """;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            stm.setString(1, session.session_id());
+            stm.setLong(2, session.creation_time());
+            stm.setLong(3, session.last_access_time());
+            stm.setInt(4, session.max_inactive_interval());
+            stm.setLong(5, session.expiry_time());
+            stm.setBytes(6, session.attributes());
+            stm.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error saving session", e);
+        }
+    }
+
+    @Override
+    public void touchAll(Map<String, Long> lastAccessTimes) {
+        if (lastAccessTimes == null || lastAccessTimes.isEmpty()) {
+            return;
+        }
+        String sql = """
+            UPDATE Http_Sessions
+            SET last_access_time = ?,
+                expiry_time = CASE WHEN max_inactive_interval > 0
+                                   THEN ? + max_inactive_interval * 1000
+                                   ELSE expiry_time END
+            WHERE session_id = ? AND last_access_time < ?
+            """;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            for (Map.Entry<String, Long> touch : lastAccessTimes.entrySet()) {
+                stm.setLong(1, touch.getValue());
+                stm.setLong(2, touch.getValue());
+                stm.setString(3, touch.getKey());
+                stm.setLong(4, touch.getValue());
+                stm.addBatch();
+            }
+            stm.executeBatch();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error updating session access times", e);
+        }
+    }
+
+    @Override
+    public void deleteById(String sessionId) {
+        String sql = "DELETE FROM Http_Sessions WHERE session_id = ?";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            stm.setString(1, sessionId);
+            stm.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error deleting session", e);
+        }
+    }
+
+    @Override
+    public int deleteExpired(long now, int limit) {
+        String sql = "DELETE FROM Http_Sessions WHERE expiry_time < ? LIMIT ?";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            stm.setLong(1, now);
+            stm.setInt(2, limit);
+            return stm.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error deleting expired sessions", e);
+        }
+    }
+}
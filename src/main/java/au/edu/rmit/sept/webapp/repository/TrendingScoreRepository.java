@@ -0,0 +1,18 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import au.edu.rmit.sept.webapp.model.Event_Trending_Score;
+
+public interface TrendingScoreRepository {
+
+    List<Event_Trending_Score> findAll();
+
+    // Add each delta to the event's stored score, first decaying that score to the delta's scored_at,
+    // so every instance's contributions accumulate in the one row
+    void addAll(List<Event_Trending_Score> deltas, double decayPerSecond);
+
+    // Remove rows whose score, decayed to {@code at}, has fallen below {@code minScore}; returns rows removed
+    int deleteBelow(double minScore, double decayPerSecond, LocalDateTime at);
+}
@@ -0,0 +1,90 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Repository;
+
+import au.edu.rmit.sept.webapp.model.Event_Trending_Score;
+
+@Repository
+public class TrendingScoreRepositoryImpl implements TrendingScoreRepository {
+
+    private final DataSource dataSource;
+
+    public TrendingScoreRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public List<Event_Trending_Score> findAll() {
+        List<Event_Trending_Score> scores = new ArrayList<>();
+        String sql = "SELECT event_id, score, scored_at FROM Event_Trending_Scores";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql);
+             ResultSet rs = stm.executeQuery()) {
+            while (rs.next()) {
+                scores.add(new Event_Trending_Score(
+                    rs.getInt(1),
+                    rs.getDouble(2),
+                    rs.getTimestamp(3).toLocalDateTime()
+                ));
+            }
+            return scores;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error loading trending scores", e);
+        }
+    }
+
+    @Override
+    public void addAll(List<Event_Trending_Score> deltas, double decayPerSecond) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+        String sql = """
+            INSERT INTO Event_Trending_Scores (event_id, score, scored_at)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                score = score * EXP(? * GREATEST(TIMESTAMPDIFF(SECOND, scored_at, VALUES(scored_at)), 0))
+                        + VALUES(score),
+                scored_at = GREATEST(scored_at, VALUES(scored_at))
+            """;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            for (Event_Trending_Score delta : deltas) {
+                stm.setInt(1, delta.event_id());
+                stm.setDouble(2, delta.score());
+                stm.setTimestamp(3, Timestamp.valueOf(delta.scored_at()));
+                stm.setDouble(4, -decayPerSecond);
+                stm.addBatch();
+            }
+            stm.executeBatch();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error saving trending scores", e);
+        }
+    }
+
+    @Override
+    public int deleteBelow(double minScore, double decayPerSecond, LocalDateTime at) {
+        String sql = "DELETE FROM Event_Trending_Scores "
+                   + "WHERE score * EXP(? * GREATEST(TIMESTAMPDIFF(SECOND, scored_at, ?), 0)) < ?";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            stm.setDouble(1, -decayPerSecond);
+            stm.setTimestamp(2, Timestamp.valueOf(at));
+            stm.setDouble(3, minScore);
+            return stm.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error deleting stale trending scores", e);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package au.edu.rmit.sept.webapp.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import au.edu.rmit.sept.webapp.model.Organiser_Profile;
 import au.edu.rmit.sept.webapp.model.Student_Profile;
@@ -47,6 +49,17 @@ public interface UserRepository {
 
     boolean isOrganiserForEvent(int userId, int eventId);
 
+    // All event ids organised by the user, for authorising whole lists in one query
+    Set<Integer> findOrganisedEventIds(int userId);
+
     void assignUserRole(int userId, int roleId);
 
+    // Profile interest text and RSVPed event tag names of every active student, by user id
+    Map<Long, List<String>> findStudentInterests();
+
+    boolean isEmailDigest(int userId);
+
+    // Switching to digests marks everything already sent immediately as emailed, so the first digest starts fresh
+    void updateEmailDigest(int userId, boolean digest);
+
 }
\ No newline at end of file
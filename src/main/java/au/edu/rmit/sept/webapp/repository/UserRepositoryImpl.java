@@ -7,8 +7,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -457,6 +461,28 @@ public class UserRepositoryImpl implements UserRepository {
         }
     }
 
+    @Override
+    public Set<Integer> findOrganisedEventIds(int userId) {
+        String sql = """
+            SELECT e.event_id FROM Events e
+            JOIN Organiser_Profile op ON e.organiser_id = op.organiser_id
+            WHERE op.user_id = ?
+            """;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            stm.setInt(1, userId);
+            Set<Integer> eventIds = new HashSet<>();
+            try (ResultSet rs = stm.executeQuery()) {
+                while (rs.next()) {
+                    eventIds.add(rs.getInt(1));
+                }
+            }
+            return eventIds;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error fetching organised events for user id " + userId, e);
+        }
+    }
+
     @Override
     public void assignUserRole(int userId, int roleId) {
         String sql = "INSERT INTO User_Roles (user_id, role_id) VALUES (?, ?)";
@@ -469,4 +495,72 @@ public class UserRepositoryImpl implements UserRepository {
             throw new DataAccessResourceFailureException("Error assigning role to user", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<Long, List<String>> findStudentInterests() {
+        String sql = """
+            SELECT sp.user_id, sp.interest
+            FROM Student_Profile sp
+            JOIN Users u ON u.user_id = sp.user_id
+            JOIN User_Roles ur ON ur.user_id = u.user_id
+            JOIN Roles ro ON ro.role_id = ur.role_id
+            WHERE ro.role_name = 'STUDENT' AND u.status = 'ACTIVE'
+              AND sp.interest IS NOT NULL AND TRIM(sp.interest) <> ''
+            UNION
+            SELECT DISTINCT r.user_id, t.tag_name
+            FROM RSVP r
+            JOIN Event_Tags et ON et.event_id = r.event_id
+            JOIN Tags t ON t.tag_id = et.tag_id
+            JOIN Users u ON u.user_id = r.user_id
+            JOIN User_Roles ur ON ur.user_id = u.user_id
+            JOIN Roles ro ON ro.role_id = ur.role_id
+            WHERE ro.role_name = 'STUDENT' AND u.status = 'ACTIVE'
+            """;
+        Map<Long, List<String>> byUser = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql);
+             ResultSet rs = stm.executeQuery()) {
+            while (rs.next()) {
+                byUser.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getString(2));
+            }
+            return byUser;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error fetching student interests", e);
+        }
+    }
+
+    @Override
+    public boolean isEmailDigest(int userId) {
+        String sql = "SELECT email_digest FROM Users WHERE user_id = ?";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            stm.setInt(1, userId);
+            try (ResultSet rs = stm.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error reading email digest setting for user id " + userId, e);
+        }
+    }
+
+    @Override
+    public void updateEmailDigest(int userId, boolean digest) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(
+                     "UPDATE Users SET email_digest = ? WHERE user_id = ? AND email_digest <> ?")) {
+            stm.setBoolean(1, digest);
+            stm.setInt(2, userId);
+            stm.setBoolean(3, digest);
+            // Only an actual switch to digests catches up; re-saving the same setting keeps what is pending
+            if (stm.executeUpdate() > 0 && digest) {
+                try (PreparedStatement caughtUp = connection.prepareStatement(
+                        "UPDATE Notifications SET emailed_at = NOW() WHERE user_id = ? AND emailed_at IS NULL")) {
+                    caughtUp.setInt(1, userId);
+                    caughtUp.executeUpdate();
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error updating email digest setting for user id " + userId, e);
+        }
+    }
+}
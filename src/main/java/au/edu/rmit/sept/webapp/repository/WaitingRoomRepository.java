@@ -0,0 +1,16 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.util.List;
+
+import au.edu.rmit.sept.webapp.model.Event_Waiting_Room;
+
+public interface WaitingRoomRepository {
+
+    List<Event_Waiting_Room> findAll();
+
+    // Open the room, or change its rate if it is already open
+    void open(int eventId, int admitPerSecond);
+
+    // Returns rows removed
+    int close(int eventId);
+}
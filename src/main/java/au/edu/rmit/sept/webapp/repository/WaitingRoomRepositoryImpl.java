@@ -0,0 +1,74 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Repository;
+
+import au.edu.rmit.sept.webapp.model.Event_Waiting_Room;
+
+@Repository
+public class WaitingRoomRepositoryImpl implements WaitingRoomRepository {
+
+    private final DataSource dataSource;
+
+    public WaitingRoomRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public List<Event_Waiting_Room> findAll() {
+        List<Event_Waiting_Room> rooms = new ArrayList<>();
+        String sql = "SELECT event_id, admit_per_second, opened_at FROM Event_Waiting_Rooms";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql);
+             ResultSet rs = stm.executeQuery()) {
+            while (rs.next()) {
+                rooms.add(new Event_Waiting_Room(
+                    rs.getInt(1),
+                    rs.getInt(2),
+                    rs.getTimestamp(3).toLocalDateTime()
+                ));
+            }
+            return rooms;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error loading waiting rooms", e);
+        }
+    }
+
+    @Override
+    public void open(int eventId, int admitPerSecond) {
+        String sql = """
+            INSERT INTO Event_Waiting_Rooms (event_id, admit_per_second, opened_at)
+            VALUES (?, ?, NOW())
+            ON DUPLICATE KEY UPDATE admit_per_second = VALUES(admit_per_second)
+            """;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            stm.setInt(1, eventId);
+            stm.setInt(2, admitPerSecond);
+            stm.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error opening waiting room", e);
+        }
+    }
+
+    @Override
+    public int close(int eventId) {
+        String sql = "DELETE FROM Event_Waiting_Rooms WHERE event_id = ?";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement stm = connection.prepareStatement(sql)) {
+            stm.setInt(1, eventId);
+            return stm.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Error closing waiting room", e);
+        }
+    }
+}
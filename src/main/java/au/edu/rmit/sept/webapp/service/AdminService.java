@@ -2,14 +2,20 @@ package au.edu.rmit.sept.webapp.service;
 
 import au.edu.rmit.sept.webapp.model.DeletedEventLog;
 import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventSummary;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 public interface AdminService {
-    List<Event> getAllEvents();
+    List<EventSummary> getAllEvents();
     Optional<Event> getEventById(Long id);
+    Optional<Event> getArchivedEventById(Long id);
     void updateEvent(Event event);  // ✅ updated
     int deleteEventById(Long eventId, Long adminId, String reason);
-    List<Event> getDeletedEvents();
+    List<EventSummary> getDeletedEvents();
     List<DeletedEventLog> getDeletedEventLogs();
+    OptionalInt getWaitingRoomRate(Long eventId);
+    void openWaitingRoom(Long eventId, int admitPerSecond);
+    void closeWaitingRoom(Long eventId);
 }
@@ -2,6 +2,7 @@ package au.edu.rmit.sept.webapp.service;
 
 import au.edu.rmit.sept.webapp.model.DeletedEventLog;
 import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventSummary;
 import au.edu.rmit.sept.webapp.repository.EventRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 @Service
 public class AdminServiceImpl implements AdminService {
@@ -16,15 +18,27 @@ public class AdminServiceImpl implements AdminService {
     private static final Logger logger = LoggerFactory.getLogger(AdminServiceImpl.class);
 
     private final EventRepository eventRepository;
+    private final EventCalendarIndex calendarIndex;
+    private final EventGeoIndex geoIndex;
+    private final ScheduleClashIndex clashIndex;
+    private final RsvpWaitingRoom waitingRoom;
+    private final EventChangeFanOut changeFanOut;
 
-    public AdminServiceImpl(EventRepository eventRepository) {
+    public AdminServiceImpl(EventRepository eventRepository, EventCalendarIndex calendarIndex,
+                            EventGeoIndex geoIndex, ScheduleClashIndex clashIndex,
+                            RsvpWaitingRoom waitingRoom, EventChangeFanOut changeFanOut) {
         this.eventRepository = eventRepository;
+        this.calendarIndex = calendarIndex;
+        this.geoIndex = geoIndex;
+        this.clashIndex = clashIndex;
+        this.waitingRoom = waitingRoom;
+        this.changeFanOut = changeFanOut;
     }
 
     @Override
-    public List<Event> getAllEvents() {
+    public List<EventSummary> getAllEvents() {
         logger.info("Fetching all events for admin view");
-        return eventRepository.listAllEvents();   // ✅ fixed
+        return eventRepository.listEventSummaries();
     }
 
     @Override
@@ -33,19 +47,34 @@ public class AdminServiceImpl implements AdminService {
         return eventRepository.findById(id);      // ✅ already exists
     }
 
+    @Override
+    public Optional<Event> getArchivedEventById(Long id) {
+        return eventRepository.findArchivedById(id.intValue());
+    }
+
     @Override
     public void updateEvent(Event updatedEvent) {
         logger.info("Updating event with ID: {}", updatedEvent.event_id());
+        Event before = eventRepository.findById((long) updatedEvent.event_id()).orElse(null);
         eventRepository.updateEvent(updatedEvent);  // ✅ pass new Event record
+        calendarIndex.put(updatedEvent);
+        geoIndex.locate(before, updatedEvent);
+        clashIndex.put(updatedEvent);
+        changeFanOut.updated(before, updatedEvent);
     }
 
     @Override
     public int deleteEventById(Long eventId, Long adminId, String reason) {
-        return eventRepository.deleteEventById(eventId.intValue(), adminId, reason);
+        int rows = eventRepository.deleteEventById(eventId.intValue(), adminId, reason);
+        calendarIndex.statusChanged(eventId.intValue(), "DELETED");
+        geoIndex.remove(eventId.intValue());
+        clashIndex.remove(eventId.intValue());
+        changeFanOut.deleted(eventId.intValue());
+        return rows;
     }
 
     @Override
-    public List<Event> getDeletedEvents() {
+    public List<EventSummary> getDeletedEvents() {
         return eventRepository.findDeletedEvents();
     }
 
@@ -54,5 +83,22 @@ public class AdminServiceImpl implements AdminService {
         return eventRepository.findDeletedLogs();
     }
 
+    @Override
+    public OptionalInt getWaitingRoomRate(Long eventId) {
+        return waitingRoom.admitRate(eventId.intValue());
+    }
+
+    @Override
+    public void openWaitingRoom(Long eventId, int admitPerSecond) {
+        logger.info("Opening waiting room for event {} at {} RSVPs/second", eventId, admitPerSecond);
+        waitingRoom.open(eventId.intValue(), admitPerSecond);
+    }
+
+    @Override
+    public void closeWaitingRoom(Long eventId) {
+        logger.info("Closing waiting room for event {}", eventId);
+        waitingRoom.close(eventId.intValue());
+    }
+
 
 }
@@ -0,0 +1,96 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Runner for the background jobs that work through rows a batch of ids at a time. Runs go on the
+ * job's own daemon thread rather than the shared scheduler thread, and a run that is due while the
+ * last one is still going is skipped. Each batch is its own short statements with a pause after
+ * every full one, so a job never holds its tables for long. A failed batch ends the run; earlier
+ * batches stay done and the rest waits for the next run.
+ */
+final class BatchedJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchedJob.class);
+
+    /** The next batch of at most {@code limit} ids after {@code afterId}; 0 starts from the beginning. */
+    @FunctionalInterface
+    interface Batches {
+        List<Integer> after(int afterId, int limit);
+    }
+
+    /** Does the job's work on one batch; returns how many rows it changed. */
+    @FunctionalInterface
+    interface Step {
+        int apply(List<Integer> ids);
+    }
+
+    private final String name;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor;
+
+    BatchedJob(String name, int batchSize, long pauseMillis) {
+        this.name = name;
+        this.batchSize = Math.max(1, batchSize);
+        this.pauseMillis = pauseMillis;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Start {@code run} on the job's thread, unless the previous run has not finished. */
+    void start(Runnable run) {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("{} is still running from last time, skipping", name);
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                run.run();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /** Apply {@code step} to every batch in id order; returns the total it reported. */
+    int run(Batches batches, Step step) {
+        int afterId = 0;
+        int changed = 0;
+        try {
+            while (true) {
+                List<Integer> ids = batches.after(afterId, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                changed += step.apply(ids);
+                afterId = ids.get(ids.size() - 1);
+                // A short batch is the last one; no extra query to find out
+                if (ids.size() < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("{} stopped after {} rows; the rest waits for the next run", name, changed, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return changed;
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
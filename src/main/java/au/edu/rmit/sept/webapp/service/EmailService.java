@@ -1,5 +1,9 @@
 package au.edu.rmit.sept.webapp.service;
 
+import java.util.List;
+
+import au.edu.rmit.sept.webapp.model.Notification;
+
 public interface EmailService {
     
     void sendRsvpConfirmationEmail(String toEmail, String userName, String eventTitle, String eventDate, String eventLocation);
@@ -9,4 +13,6 @@ public interface EmailService {
     void sendNewEventEmail(String toEmail, String userName, String eventTitle, String eventDate);
     
     void sendNotificationEmail(String toEmail, String subject, String message);
+
+    void sendDigestEmail(String toEmail, String userName, List<Notification> notifications);
 }
@@ -8,6 +8,10 @@ import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import au.edu.rmit.sept.webapp.model.Notification;
+
+import java.util.List;
+
 @Service
 public class EmailServiceImpl implements EmailService {
 
@@ -57,6 +61,17 @@ public class EmailServiceImpl implements EmailService {
         logger.info("Notification email sent to: {}", toEmail);
     }
 
+    @Override
+    public void sendDigestEmail(String toEmail, String userName, List<Notification> notifications) {
+        String subject = notifications.size() == 1
+                ? "Your EventHub update"
+                : "Your EventHub update: " + notifications.size() + " new notifications";
+        String message = buildDigestMessage(userName, notifications);
+
+        sendEmail(toEmail, subject, message);
+        logger.info("Digest email with {} notifications sent to: {}", notifications.size(), toEmail);
+    }
+
     private void sendEmail(String toEmail, String subject, String message) {
         //loging the email content for debugging/demo purposes
         logger.info("\n" + "=".repeat(80));
@@ -148,4 +163,23 @@ public class EmailServiceImpl implements EmailService {
             RMIT University
             """, userName, eventTitle, eventDate);
     }
+
+    private String buildDigestMessage(String userName, List<Notification> notifications) {
+        StringBuilder items = new StringBuilder();
+        for (Notification notification : notifications) {
+            items.append("- ").append(notification.title()).append(": ").append(notification.message()).append('\n');
+        }
+        return String.format("""
+            Hi %s,
+            
+            Here is what happened on EventHub since your last update:
+            
+            %s
+            Log in to EventHub to see the details and manage your notification emails.
+            
+            Best regards,
+            The EventHub Team
+            RMIT University
+            """, userName, items);
+    }
 }
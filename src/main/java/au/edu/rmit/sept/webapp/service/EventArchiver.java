@@ -0,0 +1,56 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.repository.EventArchiveRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Nightly move of events that ended more than {@code app.events.archive.after-days} ago, with their
+ * tag links, RSVPs and check-ins, into the *_Archive tables, so the hot tables only hold recent and
+ * upcoming events. Each batch of {@code app.events.archive.batch-size} events is one transaction,
+ * so a batch that fails rolls back whole and is picked up again next run. Attended history and the
+ * admin event pages read both tiers.
+ */
+@Component
+public class EventArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventArchiver.class);
+
+    private final EventArchiveRepository archiveRepository;
+    private final int afterDays;
+    private final BatchedJob job;
+
+    public EventArchiver(EventArchiveRepository archiveRepository,
+                         @Value("${app.events.archive.after-days:365}") int afterDays,
+                         @Value("${app.events.archive.batch-size:100}") int batchSize,
+                         @Value("${app.events.archive.pause-ms:200}") long pauseMillis) {
+        this.archiveRepository = archiveRepository;
+        this.afterDays = afterDays;
+        this.job = new BatchedJob("event-archiver", batchSize, pauseMillis);
+    }
+
+    @Scheduled(cron = "${app.events.archive.cron:0 0 4 * * *}")
+    public void scheduledRun() {
+        job.start(() -> archive(LocalDateTime.now().minusDays(afterDays)));
+    }
+
+    /** Archive events that ended before {@code endedBefore}; returns how many were moved. */
+    int archive(LocalDateTime endedBefore) {
+        int moved = job.run((afterId, limit) -> archiveRepository.findArchivableIds(endedBefore, afterId, limit),
+                            archiveRepository::archive);
+        logger.info("Event archiver moved {} events that ended before {}", moved, endedBefore);
+        return moved;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        job.shutdown();
+    }
+}
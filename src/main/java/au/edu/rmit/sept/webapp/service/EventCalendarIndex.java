@@ -0,0 +1,279 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.dto.PastEventsCursor;
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventCalendarEntry;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+
+/**
+ * In-memory calendar of event start times: day -> event ids sorted by start, with a status
+ * bitset per day. Answers the upcoming, past-page and "events on day X" listings without a range
+ * query; callers then load the rows by primary key.
+ */
+@Component
+public class EventCalendarIndex extends RebuildableIndex<NavigableMap<LocalDate, EventCalendarIndex.Day>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCalendarIndex.class);
+
+    /** One day's events. Immutable; a write replaces the whole day. */
+    static final class Day {
+        private static final Day EMPTY =
+                new Day(new int[0], new int[0], new BitSet(), new BitSet(), new BitSet(), new BitSet());
+
+        final int[] ids;            // ordered by start, then id
+        final int[] secondOfDay;    // start time of each id
+        final BitSet active;
+        final BitSet completed;
+        final BitSet cancelled;
+        final BitSet deleted;
+
+        private Day(int[] ids, int[] secondOfDay, BitSet active, BitSet completed, BitSet cancelled, BitSet deleted) {
+            this.ids = ids;
+            this.secondOfDay = secondOfDay;
+            this.active = active;
+            this.completed = completed;
+            this.cancelled = cancelled;
+            this.deleted = deleted;
+        }
+
+        static Day of(List<EventCalendarEntry> entries) {
+            List<EventCalendarEntry> sorted = new ArrayList<>(entries);
+            sorted.sort(Comparator.comparing(EventCalendarEntry::start_at)
+                                  .thenComparingInt(EventCalendarEntry::event_id));
+            int n = sorted.size();
+            int[] ids = new int[n];
+            int[] seconds = new int[n];
+            BitSet active = new BitSet(n);
+            BitSet completed = new BitSet(n);
+            BitSet cancelled = new BitSet(n);
+            BitSet deleted = new BitSet(n);
+            for (int i = 0; i < n; i++) {
+                EventCalendarEntry entry = sorted.get(i);
+                ids[i] = entry.event_id();
+                seconds[i] = entry.start_at().toLocalTime().toSecondOfDay();
+                String status = entry.status();
+                if ("ACTIVE".equalsIgnoreCase(status)) {
+                    active.set(i);
+                } else if ("COMPLETED".equalsIgnoreCase(status)) {
+                    completed.set(i);
+                } else if ("CANCELLED".equalsIgnoreCase(status)) {
+                    cancelled.set(i);
+                } else if ("DELETED".equalsIgnoreCase(status)) {
+                    deleted.set(i);
+                }
+            }
+            return new Day(ids, seconds, active, completed, cancelled, deleted);
+        }
+
+        List<EventCalendarEntry> entries(LocalDate date) {
+            List<EventCalendarEntry> entries = new ArrayList<>(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                entries.add(new EventCalendarEntry(ids[i], date.atStartOfDay().plusSeconds(secondOfDay[i]), status(i)));
+            }
+            return entries;
+        }
+
+        private String status(int i) {
+            if (active.get(i)) return "ACTIVE";
+            if (completed.get(i)) return "COMPLETED";
+            if (cancelled.get(i)) return "CANCELLED";
+            if (deleted.get(i)) return "DELETED";
+            return "";
+        }
+    }
+
+    private final EventRepository eventRepository;
+    private final Map<Integer, LocalDate> dayOfEvent = new ConcurrentHashMap<>();
+
+    public EventCalendarIndex(EventRepository eventRepository) {
+        super("event calendar index");
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.calendar.refresh-ms:300000}",
+               initialDelayString = "${app.calendar.refresh-ms:300000}")
+    public void refresh() {
+        super.refresh();
+    }
+
+    /**
+     * ACTIVE or COMPLETED events starting at or after {@code from}, soonest first. COMPLETED ones
+     * can only be there when {@code from} is in the past, e.g. start of today: an event that already
+     * ended this morning still belongs to today's listing, not to the past pages.
+     */
+    public List<Integer> upcomingIds(LocalDateTime from) {
+        List<Integer> ids = new ArrayList<>();
+        LocalDate firstDay = from.toLocalDate();
+        int firstSecond = from.toLocalTime().toSecondOfDay();
+        for (Map.Entry<LocalDate, Day> e : current().tailMap(firstDay, true).entrySet()) {
+            Day day = e.getValue();
+            boolean first = e.getKey().equals(firstDay);
+            BitSet listed = (BitSet) day.active.clone();
+            listed.or(day.completed);
+            for (int i = listed.nextSetBit(0); i >= 0; i = listed.nextSetBit(i + 1)) {
+                if (!first || day.secondOfDay[i] >= firstSecond) {
+                    ids.add(day.ids[i]);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Up to {@code limit} events that are not DELETED and start before {@code before}, most
+     * recent first, continuing after {@code after} when a cursor is given.
+     */
+    public List<Integer> pastIds(LocalDateTime before, PastEventsCursor after, int limit) {
+        List<Integer> ids = new ArrayList<>(Math.min(limit, 64));
+        // Start from the cursor's day so newer days are never walked again
+        LocalDate lastDay = after != null && after.startAt().isBefore(before)
+                ? after.startAt().toLocalDate()
+                : before.toLocalDate();
+        for (Map.Entry<LocalDate, Day> e : current().headMap(lastDay, true).descendingMap().entrySet()) {
+            Day day = e.getValue();
+            LocalDateTime midnight = e.getKey().atStartOfDay();
+            for (int i = day.ids.length - 1; i >= 0; i--) {
+                LocalDateTime start = midnight.plusSeconds(day.secondOfDay[i]);
+                if (day.deleted.get(i) || !start.isBefore(before)
+                        || (after != null && !after.isBefore(start, day.ids[i]))) {
+                    continue;
+                }
+                ids.add(day.ids[i]);
+                if (ids.size() == limit) {
+                    return ids;
+                }
+            }
+        }
+        return ids;
+    }
+
+    /** Events on {@code date} that are not CANCELLED, in start order. */
+    public List<Integer> idsOn(LocalDate date) {
+        Day day = current().getOrDefault(date, Day.EMPTY);
+        List<Integer> ids = new ArrayList<>(day.ids.length);
+        for (int i = 0; i < day.ids.length; i++) {
+            if (!day.cancelled.get(i)) {
+                ids.add(day.ids[i]);
+            }
+        }
+        return ids;
+    }
+
+    /** Record an inserted or updated event. Applied after the surrounding transaction commits. */
+    public void put(Event event) {
+        LocalDateTime startAt = event.startAt();
+        if (startAt == null) {
+            AfterCommit.run(() -> remove(event.event_id()));
+        } else {
+            AfterCommit.run(() -> apply(new EventCalendarEntry(event.event_id(), startAt, event.status())));
+        }
+    }
+
+    /** Record a status-only change such as a cancel or delete. */
+    public void statusChanged(int eventId, String status) {
+        AfterCommit.run(() -> {
+            NavigableMap<LocalDate, Day> calendar = current();
+            LocalDate date = dayOfEvent.get(eventId);
+            if (date == null) {
+                return;
+            }
+            for (EventCalendarEntry entry : calendar.getOrDefault(date, Day.EMPTY).entries(date)) {
+                if (entry.event_id() == eventId) {
+                    apply(new EventCalendarEntry(eventId, entry.start_at(), status));
+                    return;
+                }
+            }
+        });
+    }
+
+    /** Record events the lifecycle job just completed; ones no longer ACTIVE here are left alone. */
+    public synchronized void completed(Collection<Integer> eventIds) {
+        NavigableMap<LocalDate, Day> calendar = current();
+        Set<Integer> ids = new HashSet<>(eventIds);
+        Set<LocalDate> touched = new HashSet<>();
+        for (int eventId : ids) {
+            LocalDate date = dayOfEvent.get(eventId);
+            if (date != null) {
+                touched.add(date);
+            }
+        }
+        for (LocalDate date : touched) {
+            List<EventCalendarEntry> entries = new ArrayList<>();
+            for (EventCalendarEntry entry : calendar.getOrDefault(date, Day.EMPTY).entries(date)) {
+                entries.add("ACTIVE".equals(entry.status()) && ids.contains(entry.event_id())
+                        ? new EventCalendarEntry(entry.event_id(), entry.start_at(), "COMPLETED")
+                        : entry);
+            }
+            calendar.put(date, Day.of(entries));
+        }
+    }
+
+    @Override
+    protected NavigableMap<LocalDate, Day> load() {
+        Map<LocalDate, List<EventCalendarEntry>> byDay = new HashMap<>();
+        for (EventCalendarEntry entry : eventRepository.findCalendarEntries()) {
+            byDay.computeIfAbsent(entry.start_at().toLocalDate(), k -> new ArrayList<>()).add(entry);
+        }
+        NavigableMap<LocalDate, Day> built = new ConcurrentSkipListMap<>();
+        Map<Integer, LocalDate> index = new HashMap<>();
+        byDay.forEach((date, entries) -> {
+            built.put(date, Day.of(entries));
+            entries.forEach(entry -> index.put(entry.event_id(), date));
+        });
+        dayOfEvent.clear();
+        dayOfEvent.putAll(index);
+        logger.debug("Event calendar index holds {} events over {} days", index.size(), built.size());
+        return built;
+    }
+
+    private synchronized void apply(EventCalendarEntry entry) {
+        removeFromDay(entry.event_id());
+        LocalDate date = entry.start_at().toLocalDate();
+        List<EventCalendarEntry> entries = current().getOrDefault(date, Day.EMPTY).entries(date);
+        entries.add(entry);
+        current().put(date, Day.of(entries));
+        dayOfEvent.put(entry.event_id(), date);
+    }
+
+    private synchronized void remove(int eventId) {
+        removeFromDay(eventId);
+        dayOfEvent.remove(eventId);
+    }
+
+    private void removeFromDay(int eventId) {
+        // Build first: dayOfEvent is only filled in once the calendar has been loaded
+        NavigableMap<LocalDate, Day> calendar = current();
+        LocalDate date = dayOfEvent.get(eventId);
+        if (date == null) {
+            return;
+        }
+        List<EventCalendarEntry> entries = calendar.getOrDefault(date, Day.EMPTY).entries(date);
+        entries.removeIf(entry -> entry.event_id() == eventId);
+        if (entries.isEmpty()) {
+            calendar.remove(date);
+        } else {
+            calendar.put(date, Day.of(entries));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.dto.RsvpUserDetail;
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+import au.edu.rmit.sept.webapp.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Tells everyone who RSVPed to an event that it was rescheduled, moved, cancelled or removed.
+ * All their in-app notifications are written by one INSERT ... SELECT from RSVP, and the emails
+ * are sent from a single recipient query, on a background thread once the change has committed,
+ * so the organiser's save returns without waiting on attendees.
+ */
+@Component
+public class EventChangeFanOut {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventChangeFanOut.class);
+
+    enum Change { UPDATED, CANCELLED, DELETED }
+
+    private final EventRepository eventRepository;
+    private final NotificationRepository notificationRepository;
+    private final EmailService emailService;
+    private final ThreadPoolExecutor executor;
+
+    public EventChangeFanOut(EventRepository eventRepository,
+                             NotificationRepository notificationRepository,
+                             EmailService emailService,
+                             @Value("${app.fan-out.queue-capacity:1000}") int queueCapacity) {
+        this.eventRepository = eventRepository;
+        this.notificationRepository = notificationRepository;
+        this.emailService = emailService;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "event-fan-out");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** Fan out an edit, but only when the date, time or place attendees planned around changed. */
+    public void updated(Event before, Event after) {
+        if (before != null && !isCancelled(before) && isCancelled(after)) {
+            submit(after.event_id(), Change.CANCELLED);
+            return;
+        }
+        if (before != null
+                && Objects.equals(before.startAt(), after.startAt())
+                && Objects.equals(before.finish_time(), after.finish_time())
+                && Objects.equals(before.location(), after.location())) {
+            return;
+        }
+        submit(after.event_id(), Change.UPDATED);
+    }
+
+    public void cancelled(int eventId) {
+        submit(eventId, Change.CANCELLED);
+    }
+
+    public void deleted(int eventId) {
+        submit(eventId, Change.DELETED);
+    }
+
+    private void submit(int eventId, Change change) {
+        AfterCommit.run(() -> {
+            try {
+                executor.execute(() -> fanOut(eventId, change));
+            } catch (RejectedExecutionException e) {
+                logger.warn("Fan-out queue full, attendees of event {} will not be told it was {}", eventId, change);
+            }
+        });
+    }
+
+    void fanOut(int eventId, Change change) {
+        try {
+            Optional<Event> found = eventRepository.findById((long) eventId);
+            if (found.isEmpty()) {
+                return;
+            }
+            Event event = found.get();
+            String title = title(change);
+            String message = message(event, change);
+            String link = change == Change.DELETED ? "/browse" : "/events/" + eventId;
+
+            int notified = notificationRepository.saveForEventRsvps(eventId, "EVENT_" + change, title, message, link);
+            if (notified == 0) {
+                return;
+            }
+
+            List<RsvpUserDetail> attendees = eventRepository.findRsvpDetailsByEventId((long) eventId);
+            String subject = title + ": " + event.title();
+            int emailed = 0;
+            for (RsvpUserDetail attendee : attendees) {
+                try {
+                    emailService.sendNotificationEmail(attendee.email(), subject, message);
+                    emailed++;
+                } catch (RuntimeException e) {
+                    logger.warn("Could not email {} about event {}: {}", attendee.email(), eventId, e.getMessage());
+                }
+            }
+            logger.info("Event {} {}: notified {} attendees, emailed {}", eventId, change, notified, emailed);
+        } catch (RuntimeException e) {
+            logger.error("Fan-out for event {} ({}) failed", eventId, change, e);
+        }
+    }
+
+    private static boolean isCancelled(Event event) {
+        return "CANCELLED".equalsIgnoreCase(event.status());
+    }
+
+    private static String title(Change change) {
+        return switch (change) {
+            case UPDATED -> "Event Updated";
+            case CANCELLED -> "Event Cancelled";
+            case DELETED -> "Event Removed";
+        };
+    }
+
+    private static String message(Event event, Change change) {
+        String when = event.date() != null && event.start_time() != null ? event.formattedStartDateTime() : "TBA";
+        return switch (change) {
+            case UPDATED -> String.format("'%s' has changed. It is now %s at %s.", event.title(), when, event.location());
+            case CANCELLED -> String.format("'%s' (%s) has been cancelled.", event.title(), when);
+            case DELETED -> String.format("'%s' (%s) has been removed and will not go ahead.", event.title(), when);
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
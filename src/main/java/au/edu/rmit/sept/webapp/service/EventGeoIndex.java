@@ -0,0 +1,229 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventGeoEntry;
+import au.edu.rmit.sept.webapp.model.GeoPoint;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory grid over the coordinates of upcoming ACTIVE events. A "near me" query reads the
+ * handful of cells that cover the search circle and measures only the events in them, so it
+ * never runs a distance calculation across the Events table.
+ *
+ * Saved events are added once they commit and, if their location is new, geocoded off the
+ * request thread; events that have started drop out at the next rebuild.
+ */
+@Component
+public class EventGeoIndex extends RebuildableIndex<Map<Long, List<EventGeoEntry>>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventGeoIndex.class);
+
+    /** Cell edge in degrees, about 5.5 km north-south. */
+    private static final double CELL_DEGREES = 0.05;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    /** An indexed event and its distance from the search centre. */
+    public record Hit(int eventId, double distanceKm) {
+    }
+
+    private final EventRepository eventRepository;
+    private final Geocoder geocoder;
+    private final Map<Integer, Long> cellOfEvent = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    public EventGeoIndex(EventRepository eventRepository,
+                         Geocoder geocoder,
+                         @Value("${app.geo.queue-capacity:100}") int queueCapacity) {
+        super("event geo index");
+        this.eventRepository = eventRepository;
+        this.geocoder = geocoder;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "event-geocoder");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.geo.refresh-ms:300000}",
+               initialDelayString = "${app.geo.refresh-ms:300000}")
+    public void refresh() {
+        super.refresh();
+    }
+
+    /** Events within {@code radiusKm} of {@code centre} that start at or after {@code from}, nearest first. */
+    public List<Hit> nearby(GeoPoint centre, double radiusKm, LocalDateTime from, int limit) {
+        Map<Long, List<EventGeoEntry>> grid = current();
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double lngSpan = radiusKm / (KM_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(centre.lat()))));
+        long minRow = row(centre.lat() - latSpan);
+        long maxRow = row(centre.lat() + latSpan);
+        long minCol = col(centre.lng() - lngSpan);
+        long maxCol = col(centre.lng() + lngSpan);
+
+        List<Hit> hits = new ArrayList<>();
+        for (long r = minRow; r <= maxRow; r++) {
+            for (long c = minCol; c <= maxCol; c++) {
+                for (EventGeoEntry entry : grid.getOrDefault(key(r, c), List.of())) {
+                    if (entry.start_at().isBefore(from)) {
+                        continue;
+                    }
+                    double distance = centre.distanceKm(entry.point());
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(entry.event_id(), distance));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparingInt(Hit::eventId));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    /**
+     * Index a saved event once the surrounding transaction commits. A new or changed location is
+     * geocoded on the background thread, and the coordinates are stored on its row there; an
+     * unchanged one keeps the point already indexed, so most edits never call the geocoder.
+     */
+    public void locate(Event before, Event after) {
+        boolean moved = before == null || !Objects.equals(before.location(), after.location());
+        AfterCommit.run(() -> {
+            GeoPoint known = moved ? null : pointOf(after.event_id());
+            if (known != null) {
+                index(after, known);
+                return;
+            }
+            try {
+                executor.execute(() -> geocode(after));
+            } catch (RejectedExecutionException e) {
+                logger.warn("Geocoding queue full, event {} stays off the map until it is saved again",
+                            after.event_id());
+            }
+        });
+    }
+
+    void geocode(Event event) {
+        try {
+            GeoPoint point = geocoder.geocode(event.location()).orElse(null);
+            // 0 rows: the event was deleted while it waited
+            if (eventRepository.updateEventCoordinates(event.event_id(), point) > 0) {
+                index(event, point);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Could not locate event {}", event.event_id(), e);
+        }
+    }
+
+    /** Drop an event that was cancelled or deleted. */
+    public void remove(int eventId) {
+        AfterCommit.run(() -> removeFromCell(eventId));
+    }
+
+    @Override
+    protected Map<Long, List<EventGeoEntry>> load() {
+        Map<Long, List<EventGeoEntry>> byCell = new HashMap<>();
+        Map<Integer, Long> index = new HashMap<>();
+        for (EventGeoEntry entry : eventRepository.findGeoEntries(LocalDateTime.now())) {
+            long key = keyOf(entry.point());
+            byCell.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+            index.put(entry.event_id(), key);
+        }
+        Map<Long, List<EventGeoEntry>> built = new ConcurrentHashMap<>();
+        byCell.forEach((key, entries) -> built.put(key, List.copyOf(entries)));
+        cellOfEvent.clear();
+        cellOfEvent.putAll(index);
+        logger.debug("Event geo index holds {} events in {} cells", index.size(), built.size());
+        return built;
+    }
+
+    private void index(Event event, GeoPoint point) {
+        LocalDateTime startAt = event.startAt();
+        if (point == null || startAt == null || !"ACTIVE".equalsIgnoreCase(event.status())) {
+            removeFromCell(event.event_id());
+        } else {
+            apply(new EventGeoEntry(event.event_id(), point, startAt));
+        }
+    }
+
+    private synchronized GeoPoint pointOf(int eventId) {
+        Map<Long, List<EventGeoEntry>> grid = current();
+        Long key = cellOfEvent.get(eventId);
+        if (key == null) {
+            return null;
+        }
+        for (EventGeoEntry entry : grid.getOrDefault(key, List.of())) {
+            if (entry.event_id() == eventId) {
+                return entry.point();
+            }
+        }
+        return null;
+    }
+
+    private synchronized void apply(EventGeoEntry entry) {
+        removeFromCell(entry.event_id());
+        long key = keyOf(entry.point());
+        List<EventGeoEntry> entries = new ArrayList<>(current().getOrDefault(key, List.of()));
+        entries.add(entry);
+        current().put(key, List.copyOf(entries));
+        cellOfEvent.put(entry.event_id(), key);
+    }
+
+    private synchronized void removeFromCell(int eventId) {
+        // Build first: cellOfEvent is only filled in once the grid has been loaded
+        Map<Long, List<EventGeoEntry>> grid = current();
+        Long key = cellOfEvent.remove(eventId);
+        if (key == null) {
+            return;
+        }
+        List<EventGeoEntry> entries = new ArrayList<>(grid.getOrDefault(key, List.of()));
+        entries.removeIf(entry -> entry.event_id() == eventId);
+        if (entries.isEmpty()) {
+            grid.remove(key);
+        } else {
+            grid.put(key, List.copyOf(entries));
+        }
+    }
+
+    private static long keyOf(GeoPoint point) {
+        return key(row(point.lat()), col(point.lng()));
+    }
+
+    private static long row(double lat) {
+        return (long) Math.floor(lat / CELL_DEGREES);
+    }
+
+    private static long col(double lng) {
+        return (long) Math.floor(lng / CELL_DEGREES);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
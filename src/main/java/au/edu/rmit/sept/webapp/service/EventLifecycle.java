@@ -0,0 +1,63 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Moves events that have ended from ACTIVE to COMPLETED, so upcoming and recommendation queries
+ * (status = 'ACTIVE' plus a time range) only ever walk events that are still to come. Events are
+ * completed in batches of {@code app.events.lifecycle.batch-size} ids, each one short UPDATE
+ * guarded by {@code status = 'ACTIVE'}: instances running at the same time just share the work,
+ * and a cancel that lands first is kept.
+ */
+@Component
+public class EventLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventLifecycle.class);
+
+    private final EventRepository eventRepository;
+    private final EventCalendarIndex calendarIndex;
+    private final BatchedJob job;
+
+    public EventLifecycle(EventRepository eventRepository,
+                          EventCalendarIndex calendarIndex,
+                          @Value("${app.events.lifecycle.batch-size:500}") int batchSize,
+                          @Value("${app.events.lifecycle.pause-ms:100}") long pauseMillis) {
+        this.eventRepository = eventRepository;
+        this.calendarIndex = calendarIndex;
+        this.job = new BatchedJob("event-lifecycle", batchSize, pauseMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.lifecycle.interval-ms:60000}",
+               initialDelayString = "${app.events.lifecycle.interval-ms:60000}")
+    public void scheduledRun() {
+        job.start(() -> complete(LocalDateTime.now()));
+    }
+
+    /** Complete every ACTIVE event that ended by {@code now}; returns how many this run changed. */
+    int complete(LocalDateTime now) {
+        // Completed events leave the ACTIVE set, so each batch is the first one left
+        int completed = job.run((afterId, limit) -> eventRepository.findFinishedActiveIds(now, limit), ids -> {
+            int changed = eventRepository.markCompleted(ids);
+            calendarIndex.completed(ids);
+            return changed;
+        });
+        if (completed > 0) {
+            logger.info("Marked {} finished events COMPLETED", completed);
+        }
+        return completed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        job.shutdown();
+    }
+}
@@ -1,16 +1,43 @@
 package au.edu.rmit.sept.webapp.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import au.edu.rmit.sept.webapp.dto.EventPage;
+import au.edu.rmit.sept.webapp.dto.NearbyEvent;
 import au.edu.rmit.sept.webapp.dto.RsvpUserDetail;
 import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventSummary;
 
 public interface  EventService {
     public List<Event> getAllEvents(); 
 
     public List<Event> getUpcomingEvents();
 
-    public List<Event> getPastEvents();
+    /**
+     * One page of events that started before today, most recent first. {@code cursor} is the
+     * previous page's {@link EventPage#nextCursor()} (null for the first page); clubId and tag
+     * are optional filters. Throws IllegalArgumentException for a malformed cursor.
+     */
+    public EventPage getPastEventsPage(String cursor, Long clubId, String tag, int size);
+
+    /**
+     * Upcoming ACTIVE events within {@code radiusKm} of the point, nearest first. The radius is
+     * capped at 50 km. Throws IllegalArgumentException for out-of-range coordinates or radius.
+     */
+    public List<NearbyEvent> getNearbyEvents(double lat, double lng, double radiusKm);
+
+    /** Up to {@code limit} (max 50) upcoming ACTIVE events with the highest trending score, best first. */
+    public List<Event> getTrendingEvents(int limit);
+
+    /** The same events ordered by trending score, highest first; ties keep their given order. */
+    public List<Event> sortByTrending(List<Event> events);
+
+    /** Upcoming events the user has RSVPed to that overlap {@code eventId}. */
+    public List<Event> getRsvpClashes(Long userId, Long eventId);
+
+    /** Upcoming events at the same location overlapping {@code [start, end)}, other than {@code excludeEventId}. */
+    public List<Event> getVenueClashes(String location, LocalDateTime start, LocalDateTime end, Long excludeEventId);
 
     public List<Event> searchEvents(String query, String tag, String date, boolean isUpcoming);
 
@@ -20,6 +47,9 @@ public interface  EventService {
 
     public void rsvp(Long eventId, Long userId);
 
+    /** RSVP a batch of users admitted together from the event's waiting room. */
+    public void rsvpAll(Long eventId, List<Long> userIds);
+
     public void cancelRsvp(Long eventId, Long userId);
 
     public List<RsvpUserDetail> getRsvpedUsersForEvent(Long eventId);
@@ -34,10 +64,10 @@ public interface  EventService {
 
 /**
  * Enhanced upcoming search (no Pageable).
- * - Gates by (date > today) OR (date = today AND start_time >= now)
+ * - Gates by start_at >= now
  * - Excludes CANCELLED
  * - Case-insensitive match over title/description/location
- * - Returns items ordered by (date ASC, start_time ASC, title ASC)
+ * - Returns items ordered by (start_at ASC, title ASC)
  * - If page & size are provided, service applies LIMIT/OFFSET at repo layer
  */
 java.util.List<au.edu.rmit.sept.webapp.model.Event> getUpcomingFiltered(String query, java.lang.Integer page, java.lang.Integer size);
@@ -51,10 +81,12 @@ java.util.List<au.edu.rmit.sept.webapp.model.Event> getUpcomingFilteredByOrganis
 // ==== ADD-ONLY: CRUD used by organiser pages ====
 java.util.Optional<au.edu.rmit.sept.webapp.model.Event> getEventById(java.lang.Long id);
 au.edu.rmit.sept.webapp.model.Event createEvent(au.edu.rmit.sept.webapp.model.Event event);
+/** Create the event with its comma-separated tags, then announce it to students interested in those tags. */
+au.edu.rmit.sept.webapp.model.Event createEvent(au.edu.rmit.sept.webapp.model.Event event, String tags);
 au.edu.rmit.sept.webapp.model.Event updateEvent(java.lang.Long id, au.edu.rmit.sept.webapp.model.Event event);
 void deleteEvent(java.lang.Long id);
 public int deleteEventById(int eventId, Long adminId, String reason);
-public List<Event> getDeletedEvents();
+public List<EventSummary> getDeletedEvents();
 
 void updateEventTags(int eventId, String tags);
 List<au.edu.rmit.sept.webapp.model.Tags> getAllTags();
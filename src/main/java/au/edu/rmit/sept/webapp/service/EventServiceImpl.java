@@ -2,39 +2,78 @@ package au.edu.rmit.sept.webapp.service;
  
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import au.edu.rmit.sept.webapp.dto.EventPage;
+import au.edu.rmit.sept.webapp.dto.NearbyEvent;
+import au.edu.rmit.sept.webapp.dto.PastEventsCursor;
 import au.edu.rmit.sept.webapp.dto.RsvpUserDetail;
 import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventSummary;
+import au.edu.rmit.sept.webapp.model.GeoPoint;
+import au.edu.rmit.sept.webapp.model.Tags;
 import au.edu.rmit.sept.webapp.repository.EventRepositoryImpl;
 
 @Service
 public class EventServiceImpl implements EventService {
 
     private static final Logger logger = LoggerFactory.getLogger(EventService.class);
+    private static final int MAX_PAST_PAGE_SIZE = 50;
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
+    private static final int MAX_NEARBY_RESULTS = 100;
+    private static final int MAX_TRENDING_RESULTS = 50;
     private final EventRepositoryImpl eventRepository;
-
-    public EventServiceImpl(EventRepositoryImpl repository) {
+    private final TagDictionary tagDictionary;
+    private final EventCalendarIndex calendarIndex;
+    private final EventGeoIndex geoIndex;
+    private final ScheduleClashIndex clashIndex;
+    private final TrendingScores trendingScores;
+    private final SingleFlight singleFlight;
+    private final EventChangeFanOut changeFanOut;
+    private final NewEventFanOut newEventFanOut;
+
+    public EventServiceImpl(EventRepositoryImpl repository, TagDictionary tagDictionary,
+                            EventCalendarIndex calendarIndex, EventGeoIndex geoIndex,
+                            ScheduleClashIndex clashIndex, TrendingScores trendingScores,
+                            SingleFlight singleFlight, EventChangeFanOut changeFanOut,
+                            NewEventFanOut newEventFanOut) {
         this.eventRepository = repository;
+        this.tagDictionary = tagDictionary;
+        this.calendarIndex = calendarIndex;
+        this.geoIndex = geoIndex;
+        this.clashIndex = clashIndex;
+        this.trendingScores = trendingScores;
+        this.singleFlight = singleFlight;
+        this.changeFanOut = changeFanOut;
+        this.newEventFanOut = newEventFanOut;
     }
 
     @Override
     public List<Event> getAllEvents() {
-        return eventRepository.listAllEvents();
+        return singleFlight.run("allEvents", null, () -> List.copyOf(eventRepository.listAllEvents()));
     }
 
     @Override
     public List<Event> getUpcomingEvents() {
         try {
             logger.info("Fetching upcoming events from database");
-            List<Event> upcomingEvents = eventRepository.findUpcomingEvents(LocalDateTime.now());
+            LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+            List<Event> upcomingEvents = singleFlight.run("upcomingEvents", startOfToday,
+                    () -> List.copyOf(eventRepository.findByIds(calendarIndex.upcomingIds(startOfToday))));
             logger.info("Successfully retrieved {} upcoming events", upcomingEvents.size());
             return upcomingEvents;
         } catch (Exception e) {
@@ -44,16 +83,71 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
-    public List<Event> getPastEvents() {
-        try {
-            logger.info("Fetching past events from database");
-            List<Event> pastEvents = eventRepository.findPastEvents(LocalDateTime.now());
-            logger.info("Successfully retrieved {} past events", pastEvents.size());
-            return pastEvents;
-        } catch (Exception e) {
-            logger.error("Error fetching past events: ", e);
-            return Collections.emptyList();
+    public EventPage getPastEventsPage(String cursor, Long clubId, String tag, int size) {
+        PastEventsCursor after = PastEventsCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAST_PAGE_SIZE));
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        // One row beyond the page tells us whether another page exists
+        List<Event> rows = singleFlight.run("pastEventsPage", Arrays.asList(startOfToday, after, clubId, tag, pageSize), () -> {
+            if (clubId == null && !StringUtils.hasText(tag)) {
+                return List.copyOf(eventRepository.findByIds(calendarIndex.pastIds(startOfToday, after, pageSize + 1)));
+            }
+            return List.copyOf(eventRepository.findPastEventsPage(startOfToday, after, clubId, tag, pageSize + 1));
+        });
+        if (rows.size() <= pageSize) {
+            return new EventPage(rows, null);
         }
+        List<Event> page = List.copyOf(rows.subList(0, pageSize));
+        return new EventPage(page, PastEventsCursor.after(page.get(pageSize - 1)).encode());
+    }
+
+    @Override
+    public List<NearbyEvent> getNearbyEvents(double lat, double lng, double radiusKm) {
+        if (!(radiusKm > 0)) {
+            throw new IllegalArgumentException("Radius must be positive: " + radiusKm);
+        }
+        GeoPoint centre = new GeoPoint(lat, lng);
+        List<EventGeoIndex.Hit> hits = geoIndex.nearby(centre, Math.min(radiusKm, MAX_NEARBY_RADIUS_KM),
+                                                       LocalDateTime.now(), MAX_NEARBY_RESULTS);
+        List<Event> events = eventRepository.findByIds(hits.stream().map(EventGeoIndex.Hit::eventId).toList());
+        Map<Integer, Event> byId = new HashMap<>();
+        events.forEach(e -> byId.put(e.event_id(), e));
+        List<NearbyEvent> nearby = new ArrayList<>(hits.size());
+        for (EventGeoIndex.Hit hit : hits) {
+            Event event = byId.get(hit.eventId());
+            if (event != null) {
+                nearby.add(new NearbyEvent(event, hit.distanceKm()));
+            }
+        }
+        return nearby;
+    }
+
+    @Override
+    public List<Event> getTrendingEvents(int limit) {
+        int k = Math.max(1, Math.min(limit, MAX_TRENDING_RESULTS));
+        Set<Integer> upcoming = new HashSet<>(calendarIndex.upcomingIds(LocalDateTime.now()));
+        return eventRepository.findByIds(trendingScores.top(k, upcoming::contains));
+    }
+
+    @Override
+    public List<Event> sortByTrending(List<Event> events) {
+        Map<Integer, Double> score = new HashMap<>();
+        events.forEach(e -> score.put(e.event_id(), trendingScores.score(e.event_id())));
+        List<Event> sorted = new ArrayList<>(events);
+        // Stable: events nobody has engaged with yet keep their date order
+        sorted.sort((a, b) -> Double.compare(score.get(b.event_id()), score.get(a.event_id())));
+        return sorted;
+    }
+
+    @Override
+    public List<Event> getRsvpClashes(Long userId, Long eventId) {
+        return eventRepository.findByIds(clashIndex.rsvpClashes(userId, eventId.intValue()));
+    }
+
+    @Override
+    public List<Event> getVenueClashes(String location, LocalDateTime start, LocalDateTime end, Long excludeEventId) {
+        int exclude = excludeEventId == null ? -1 : excludeEventId.intValue();
+        return eventRepository.findByIds(clashIndex.venueClashes(location, start, end, exclude));
     }
 
     @Override
@@ -107,12 +201,31 @@ public class EventServiceImpl implements EventService {
 
     @Override
     public void rsvp(Long eventId, Long userId) {
-        eventRepository.rsvp(eventId, userId);
+        // 2 rows means the RSVP already existed; only a new one counts
+        if (eventRepository.rsvp(eventId, userId) != 1) {
+            return;
+        }
+        clashIndex.rsvped(userId, eventId.intValue());
+        trendingScores.rsvped(eventId.intValue());
+    }
+
+    @Override
+    @Transactional
+    public void rsvpAll(Long eventId, List<Long> userIds) {
+        List<Long> inserted = eventRepository.rsvpAll(eventId, userIds);
+        for (Long userId : inserted) {
+            clashIndex.rsvped(userId, eventId.intValue());
+        }
+        AfterCommit.run(() -> inserted.forEach(userId -> trendingScores.rsvped(eventId.intValue())));
     }
 
     @Override
     public void cancelRsvp(Long eventId, Long userId) {
-        eventRepository.cancelRsvp(eventId, userId);
+        if (eventRepository.cancelRsvp(eventId, userId) == 0) {
+            return;
+        }
+        clashIndex.rsvpCancelled(userId, eventId.intValue());
+        trendingScores.rsvpCancelled(eventId.intValue());
     }
 
     @Override
@@ -140,7 +253,11 @@ public class EventServiceImpl implements EventService {
 
     @Override
     public boolean checkInUser(Long eventId, Long userId) {
-        return eventRepository.checkInUser(eventId, userId);
+        boolean checkedIn = eventRepository.checkInUser(eventId, userId);
+        if (checkedIn) {
+            trendingScores.checkedIn(eventId.intValue());
+        }
+        return checkedIn;
     }
     
     // ==== ADD-ONLY: richer upcoming search implementation (no Pageable) ====
@@ -187,14 +304,28 @@ private static String normalizeBlankLocal(String s) {
 
 @java.lang.Override
 public java.util.Optional<au.edu.rmit.sept.webapp.model.Event> getEventById(java.lang.Long id) {
-    return eventRepository.findById(id);
+    return singleFlight.run("eventById", id, () -> eventRepository.findById(id));
 }
 
 @java.lang.Override
 public au.edu.rmit.sept.webapp.model.Event createEvent(au.edu.rmit.sept.webapp.model.Event event) {
     int newId = eventRepository.insertEvent(event);
-    return eventRepository.findById((long) newId)
+    au.edu.rmit.sept.webapp.model.Event created = eventRepository.findById((long) newId)
             .orElseThrow(() -> new IllegalStateException("Inserted event not found id=" + newId));
+    calendarIndex.put(created);
+    geoIndex.locate(null, created);
+    clashIndex.put(created);
+    return created;
+}
+
+@java.lang.Override
+@Transactional
+public au.edu.rmit.sept.webapp.model.Event createEvent(au.edu.rmit.sept.webapp.model.Event event, String tags) {
+    au.edu.rmit.sept.webapp.model.Event created = createEvent(event);
+    updateEventTags(created.event_id(), tags);
+    // Runs after commit, so the announcement sees the tags and never names an event that rolled back
+    newEventFanOut.announce(created.event_id());
+    return created;
 }
 
 @java.lang.Override
@@ -213,51 +344,78 @@ public au.edu.rmit.sept.webapp.model.Event updateEvent(java.lang.Long id, au.edu
             event.status(),
             event.capacity()
     );
+    au.edu.rmit.sept.webapp.model.Event before = eventRepository.findById(id).orElse(null);
     int rows = eventRepository.updateEvent(toSave);
     if (rows == 0) throw new IllegalStateException("Update failed or no rows affected for id=" + id);
-    return eventRepository.findById(id).orElse(toSave);
+    au.edu.rmit.sept.webapp.model.Event saved = eventRepository.findById(id).orElse(toSave);
+    calendarIndex.put(saved);
+    geoIndex.locate(before, saved);
+    clashIndex.put(saved);
+    changeFanOut.updated(before, saved);
+    return saved;
 }
 
 @java.lang.Override
 public void deleteEvent(java.lang.Long id) {
     int rows = eventRepository.cancelEventById(id);
     if (rows == 0) throw new IllegalStateException("Cancel failed or no rows affected for id=" + id);
+    calendarIndex.statusChanged(id.intValue(), "CANCELLED");
+    geoIndex.remove(id.intValue());
+    clashIndex.remove(id.intValue());
+    changeFanOut.cancelled(id.intValue());
 }
 
 
 @Override
+@Transactional
 public int deleteEventById(int eventId, Long adminId, String reason) {
-    return eventRepository.deleteEventById(eventId, adminId, reason);
+    int rows = eventRepository.deleteEventById(eventId, adminId, reason);
+    calendarIndex.statusChanged(eventId, "DELETED");
+    geoIndex.remove(eventId);
+    clashIndex.remove(eventId);
+    changeFanOut.deleted(eventId);
+    return rows;
 }
 
 @Override
-public List<Event> getDeletedEvents() {
+public List<EventSummary> getDeletedEvents() {
     return eventRepository.findDeletedEvents();
 }
 
     @Override
+    @Transactional
     public void updateEventTags(int eventId, String tags) {
-        eventRepository.clearTagsForEvent(eventId);
+        Set<Integer> wanted = new LinkedHashSet<>();
         if (tags != null && !tags.isBlank()) {
-            String[] tagNames = tags.split(",");
-            for (String tagName : tagNames) {
+            for (String tagName : tags.split(",")) {
                 String trimmedTagName = tagName.trim();
                 if (!trimmedTagName.isEmpty()) {
-                    Optional<Integer> tagIdOpt = eventRepository.findTagByName(trimmedTagName);
-                    int tagId = tagIdOpt.orElseGet(() -> eventRepository.createTag(trimmedTagName));
-                    eventRepository.linkTagToEvent(eventId, tagId);
+                    wanted.add(tagDictionary.idFor(trimmedTagName));
                 }
             }
         }
+
+        Set<Integer> current = new HashSet<>();
+        for (Tags tag : eventRepository.findTagsByEventId(eventId)) {
+            current.add(tag.tag_id());
+        }
+
+        Set<Integer> removed = new HashSet<>(current);
+        removed.removeAll(wanted);
+        Set<Integer> added = new LinkedHashSet<>(wanted);
+        added.removeAll(current);
+
+        eventRepository.unlinkTagsFromEvent(eventId, removed);
+        eventRepository.linkTagsToEvent(eventId, added);
     }
     
     @Override
     public List<au.edu.rmit.sept.webapp.model.Tags> getAllTags() {
-        return eventRepository.findAllTags();
+        return tagDictionary.all();
     }
 
     @Override
     public List<au.edu.rmit.sept.webapp.model.Tags> getTagsByEventId(int eventId) {
-        return eventRepository.findTagsByEventId(eventId);
+        return singleFlight.run("tagsByEventId", eventId, () -> List.copyOf(eventRepository.findTagsByEventId(eventId)));
     }
 }
\ No newline at end of file
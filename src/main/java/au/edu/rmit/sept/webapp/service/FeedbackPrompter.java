@@ -0,0 +1,189 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import au.edu.rmit.sept.webapp.dto.FeedbackPrompt;
+import au.edu.rmit.sept.webapp.repository.FeedbackRepository;
+import au.edu.rmit.sept.webapp.repository.JobCheckpointRepository;
+import au.edu.rmit.sept.webapp.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Asks attendees to rate an event once it has been over for {@code app.feedback-prompt.delay-minutes}.
+ * Each run reads only the events that finished since the previous run's high-water mark: one query
+ * finds every check-in there without feedback. Notifications are then written in multi-row inserts
+ * per event, and emails are queued in chunks for a background thread. Users in digest mode get the
+ * request in their daily digest instead.
+ *
+ * A run claims its window by moving the mark with a compare-and-set before writing anything, so
+ * when several instances run the job only one of them prompts for each window. The window's
+ * notifications are written in one transaction; if any insert fails they are all rolled back and
+ * the window is given back, so the retry never prompts an attendee twice.
+ */
+@Component
+public class FeedbackPrompter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackPrompter.class);
+
+    static final String JOB_NAME = "feedback-prompt";
+
+    private final FeedbackRepository feedbackRepository;
+    private final NotificationRepository notificationRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transaction;
+    private final long delayMinutes;
+    private final long initialLookbackHours;
+    private final int chunkSize;
+    private final ThreadPoolExecutor emailExecutor;
+
+    public FeedbackPrompter(FeedbackRepository feedbackRepository,
+                            NotificationRepository notificationRepository,
+                            JobCheckpointRepository checkpointRepository,
+                            EmailService emailService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.feedback-prompt.delay-minutes:60}") long delayMinutes,
+                            @Value("${app.feedback-prompt.initial-lookback-hours:24}") long initialLookbackHours,
+                            @Value("${app.feedback-prompt.chunk-size:200}") int chunkSize,
+                            @Value("${app.feedback-prompt.queue-capacity:100}") int queueCapacity) {
+        this.feedbackRepository = feedbackRepository;
+        this.notificationRepository = notificationRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.emailService = emailService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.delayMinutes = delayMinutes;
+        this.initialLookbackHours = initialLookbackHours;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.emailExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "feedback-prompt-email");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Scheduled(fixedDelayString = "${app.feedback-prompt.interval-ms:900000}",
+               initialDelayString = "${app.feedback-prompt.interval-ms:900000}")
+    public void scheduledRun() {
+        try {
+            prompt(LocalDateTime.now());
+        } catch (DataAccessException e) {
+            logger.warn("Feedback prompt run failed; the same events are retried next run", e);
+        }
+    }
+
+    /** Prompt for events that finished up to {@code delay} before {@code now}; returns how many attendees were asked. */
+    int prompt(LocalDateTime now) {
+        // The mark is stored to the second; compare-and-set needs the same value back
+        LocalDateTime upTo = now.minusMinutes(delayMinutes).truncatedTo(ChronoUnit.SECONDS);
+        Optional<LocalDateTime> mark = checkpointRepository.findHighWater(JOB_NAME);
+        // A first run does not reach back through the whole archive
+        LocalDateTime from = mark.orElse(upTo.minusHours(initialLookbackHours));
+        if (!upTo.isAfter(from)) {
+            return 0;
+        }
+        // Claim the window first: of the instances that read the same mark, only one moves it
+        if (!checkpointRepository.advanceHighWater(JOB_NAME, mark.orElse(null), upTo)) {
+            logger.debug("Another instance is prompting for events up to {}", upTo);
+            return 0;
+        }
+
+        List<FeedbackPrompt> prompts;
+        Map<Integer, List<FeedbackPrompt>> byEvent = new LinkedHashMap<>();
+        try {
+            prompts = feedbackRepository.findUnratedAttendances(from, upTo);
+            for (FeedbackPrompt prompt : prompts) {
+                byEvent.computeIfAbsent(prompt.eventId(), k -> new ArrayList<>()).add(prompt);
+            }
+            if (!byEvent.isEmpty()) {
+                transaction.executeWithoutResult(status -> byEvent.forEach(this::notifyAttendees));
+            }
+        } catch (DataAccessException e) {
+            giveBack(from, upTo);
+            throw e;
+        }
+
+        List<FeedbackPrompt> toEmail = prompts.stream().filter(p -> !p.emailDigest()).toList();
+        for (int i = 0; i < toEmail.size(); i += chunkSize) {
+            List<FeedbackPrompt> chunk = List.copyOf(toEmail.subList(i, Math.min(i + chunkSize, toEmail.size())));
+            try {
+                emailExecutor.execute(() -> sendEmails(chunk));
+            } catch (RejectedExecutionException e) {
+                logger.warn("Feedback email queue full, {} attendees get the in-app notification only", chunk.size());
+            }
+        }
+        if (!prompts.isEmpty()) {
+            logger.info("Asked {} attendees of {} events for feedback ({} by email)",
+                        prompts.size(), byEvent.size(), toEmail.size());
+        }
+        return prompts.size();
+    }
+
+    private void notifyAttendees(int eventId, List<FeedbackPrompt> attendees) {
+        String message = message(attendees.get(0).eventTitle());
+        for (int i = 0; i < attendees.size(); i += chunkSize) {
+            List<Long> userIds = attendees.subList(i, Math.min(i + chunkSize, attendees.size()))
+                    .stream().map(FeedbackPrompt::userId).toList();
+            notificationRepository.saveForUsers(userIds, "FEEDBACK_REQUEST", "How was it?", message,
+                                                "/feedback/event/" + eventId);
+        }
+    }
+
+    // Move the mark back so the next run retries the window; emails are only queued after this point
+    private void giveBack(LocalDateTime from, LocalDateTime upTo) {
+        try {
+            checkpointRepository.advanceHighWater(JOB_NAME, upTo, from);
+        } catch (DataAccessException e) {
+            logger.warn("Could not reopen feedback prompts for events finished {} to {}; they are skipped",
+                        from, upTo, e);
+        }
+    }
+
+    private void sendEmails(List<FeedbackPrompt> chunk) {
+        for (FeedbackPrompt prompt : chunk) {
+            try {
+                emailService.sendNotificationEmail(prompt.email(), "How was " + prompt.eventTitle() + "?",
+                        String.format("Hi %s,%n%n%s%n", displayName(prompt), message(prompt.eventTitle())));
+            } catch (RuntimeException e) {
+                logger.warn("Could not email feedback request to user {}: {}", prompt.userId(), e.getMessage());
+            }
+        }
+    }
+
+    private static String message(String eventTitle) {
+        return String.format("Thanks for coming to '%s'. Rate it and tell the organisers what you thought.", eventTitle);
+    }
+
+    private static String displayName(FeedbackPrompt prompt) {
+        if (prompt.name() != null && !prompt.name().isBlank()) {
+            return prompt.name();
+        }
+        return prompt.email().split("@")[0];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emailExecutor.shutdown();
+    }
+}
@@ -0,0 +1,15 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.Optional;
+
+import au.edu.rmit.sept.webapp.model.GeoPoint;
+
+/**
+ * Resolves an event's free-text location to coordinates. Chosen with {@code app.geocoder.provider}:
+ * {@code google} calls the Maps Geocoding API, {@code offline} (the default) never leaves the JVM.
+ */
+public interface Geocoder {
+
+    /** @return empty when the location cannot be resolved; never throws for lookup failures */
+    Optional<GeoPoint> geocode(String location);
+}
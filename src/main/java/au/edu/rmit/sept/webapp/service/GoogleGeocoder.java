@@ -0,0 +1,103 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import au.edu.rmit.sept.webapp.model.GeoPoint;
+
+/**
+ * Geocoder backed by the Google Maps Geocoding API, using the same key the templates load Maps with.
+ * Campus locations repeat a lot, so answers are kept in a small LRU; failed calls are not cached.
+ */
+@Component
+@ConditionalOnProperty(name = "app.geocoder.provider", havingValue = "google")
+public class GoogleGeocoder implements Geocoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoogleGeocoder.class);
+    private static final String ENDPOINT = "https://maps.googleapis.com/maps/api/geocode/json";
+    private static final int CACHE_SIZE = 1000;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final Duration timeout;
+    private final Map<String, Optional<GeoPoint>> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Optional<GeoPoint>> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    public GoogleGeocoder(ObjectMapper objectMapper,
+                          @Value("${google.maps.api.key}") String apiKey,
+                          @Value("${app.geocoder.timeout-ms:2000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public Optional<GeoPoint> geocode(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        String key = location.trim().toLowerCase(Locale.ROOT);
+        Optional<GeoPoint> cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Optional<GeoPoint> point = lookup(location.trim());
+            cache.put(key, point);
+            return point;
+        } catch (IOException e) {
+            logger.warn("Geocoding failed for location '{}': {}", location, e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private Optional<GeoPoint> lookup(String location) throws IOException, InterruptedException {
+        URI uri = URI.create(ENDPOINT + "?address=" + URLEncoder.encode(location, StandardCharsets.UTF_8)
+                + "&key=" + URLEncoder.encode(apiKey, StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode());
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        String status = body.path("status").asText();
+        if ("ZERO_RESULTS".equals(status)) {
+            return Optional.empty();
+        }
+        if (!"OK".equals(status)) {
+            throw new IOException("Geocoding API status " + status);
+        }
+        JsonNode where = body.path("results").path(0).path("geometry").path("location");
+        return Optional.of(new GeoPoint(where.path("lat").asDouble(), where.path("lng").asDouble()));
+    }
+}
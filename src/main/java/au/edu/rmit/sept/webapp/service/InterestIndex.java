@@ -0,0 +1,106 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.repository.UserRepository;
+
+/**
+ * Inverted index from a tag name to the active students interested in it, either because it is
+ * listed in their profile interests or because it is a tag of an event they RSVPed to. New-event
+ * announcements look up the event's tags here instead of scanning every student's profile and
+ * RSVP history.
+ *
+ * Saving a profile only adds interests; new RSVPs and removed interests show up at the next
+ * rebuild.
+ */
+@Component
+public class InterestIndex extends RebuildableIndex<Map<String, Set<Long>>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterestIndex.class);
+
+    private final UserRepository userRepository;
+
+    public InterestIndex(UserRepository userRepository) {
+        super("interest index");
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.interests.refresh-ms:600000}",
+               initialDelayString = "${app.interests.refresh-ms:600000}")
+    public void refresh() {
+        super.refresh();
+    }
+
+    /** Students interested in any of the given tags. */
+    public Set<Long> interestedIn(Collection<String> tagNames) {
+        Map<String, Set<Long>> index = current();
+        Set<Long> userIds = new HashSet<>();
+        for (String tagName : tagNames) {
+            String key = key(tagName);
+            if (key != null) {
+                userIds.addAll(index.getOrDefault(key, Set.of()));
+            }
+        }
+        return userIds;
+    }
+
+    /** Add the interests a student just saved. Removed interests drop out on the next rebuild. */
+    public void profileSaved(long userId, String interest) {
+        AfterCommit.run(() -> addInterests(userId, interest));
+    }
+
+    private synchronized void addInterests(long userId, String interest) {
+        Map<String, Set<Long>> index = current();
+        for (String key : keys(interest)) {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(userId);
+        }
+    }
+
+    @Override
+    protected Map<String, Set<Long>> load() {
+        Map<String, Set<Long>> index = new ConcurrentHashMap<>();
+        Map<Long, List<String>> interests = userRepository.findStudentInterests();
+        interests.forEach((userId, values) -> {
+            for (String value : values) {
+                for (String key : keys(value)) {
+                    index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(userId);
+                }
+            }
+        });
+        logger.debug("Interest index holds {} tags for {} students", index.size(), interests.size());
+        return index;
+    }
+
+    // Profile interests are free text like "Programming, AI"; tag names go through the same split
+    private static Set<String> keys(String value) {
+        Set<String> keys = new HashSet<>();
+        if (value != null) {
+            for (String part : value.split(",")) {
+                String key = key(part);
+                if (key != null) {
+                    keys.add(key);
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static String key(String tagName) {
+        if (tagName == null || tagName.isBlank()) {
+            return null;
+        }
+        return tagName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
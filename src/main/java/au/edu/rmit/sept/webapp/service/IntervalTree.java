@@ -0,0 +1,113 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable augmented interval tree over half-open {@code [start, end)} intervals tagged with an id.
+ * Intervals are kept in arrays sorted by start; the tree is implicit (the middle of every index
+ * range is that subtree's root) and each node records the largest end in its subtree, so an
+ * overlap query skips whole subtrees and costs O(log n + k). A change returns a new tree.
+ */
+final class IntervalTree {
+
+    static final IntervalTree EMPTY = new IntervalTree(new int[0], new long[0], new long[0]);
+
+    private final int[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnd;
+
+    private IntervalTree(int[] ids, long[] starts, long[] ends) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnd = new long[ids.length];
+        augment(0, ids.length);
+    }
+
+    /** An interval to store: times are in any consistent unit, e.g. epoch seconds. */
+    record Interval(int id, long start, long end) {
+    }
+
+    static IntervalTree of(List<Interval> intervals) {
+        List<Interval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparingLong(Interval::start).thenComparingInt(Interval::id));
+        int n = sorted.size();
+        int[] ids = new int[n];
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        for (int i = 0; i < n; i++) {
+            Interval interval = sorted.get(i);
+            ids[i] = interval.id();
+            starts[i] = interval.start();
+            ends[i] = interval.end();
+        }
+        return new IntervalTree(ids, starts, ends);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /** This tree with {@code interval} added, replacing any interval with the same id. */
+    IntervalTree with(Interval interval) {
+        List<Interval> intervals = intervalsExcept(interval.id());
+        intervals.add(interval);
+        return of(intervals);
+    }
+
+    IntervalTree without(int id) {
+        if (Arrays.stream(ids).noneMatch(i -> i == id)) {
+            return this;
+        }
+        return of(intervalsExcept(id));
+    }
+
+    /** Ids of intervals overlapping {@code [start, end)} other than {@code excludeId}, in start order. */
+    List<Integer> overlapping(long start, long end, int excludeId) {
+        List<Integer> hits = new ArrayList<>();
+        collect(0, ids.length, start, end, excludeId, hits);
+        return hits;
+    }
+
+    private void collect(int lo, int hi, long start, long end, int excludeId, List<Integer> hits) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid] <= start) {
+            return; // everything in this subtree finishes before the query begins
+        }
+        collect(lo, mid, start, end, excludeId, hits);
+        if (starts[mid] >= end) {
+            return; // this node and its right subtree start after the query ends
+        }
+        if (ends[mid] > start && ids[mid] != excludeId) {
+            hits.add(ids[mid]);
+        }
+        collect(mid + 1, hi, start, end, excludeId, hits);
+    }
+
+    private long augment(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(augment(lo, mid), augment(mid + 1, hi)));
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private List<Interval> intervalsExcept(int id) {
+        List<Interval> intervals = new ArrayList<>(ids.length + 1);
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != id) {
+                intervals.add(new Interval(ids[i], starts[i], ends[i]));
+            }
+        }
+        return intervals;
+    }
+}
@@ -0,0 +1,100 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.Tags;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+import au.edu.rmit.sept.webapp.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Announces a newly created event to the students whose interests overlap its tags. Recipients
+ * come from the {@link InterestIndex}, and their notifications are written in multi-row inserts
+ * of at most {@code app.new-event-fan-out.chunk-size} rows, each its own short statement, on a
+ * background thread once the event has committed.
+ */
+@Component
+public class NewEventFanOut {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewEventFanOut.class);
+
+    private final EventRepository eventRepository;
+    private final NotificationRepository notificationRepository;
+    private final InterestIndex interestIndex;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+
+    public NewEventFanOut(EventRepository eventRepository,
+                          NotificationRepository notificationRepository,
+                          InterestIndex interestIndex,
+                          @Value("${app.new-event-fan-out.chunk-size:500}") int chunkSize,
+                          @Value("${app.new-event-fan-out.queue-capacity:100}") int queueCapacity) {
+        this.eventRepository = eventRepository;
+        this.notificationRepository = notificationRepository;
+        this.interestIndex = interestIndex;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "new-event-fan-out");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** Queue the announcement; it runs after the surrounding transaction commits. */
+    public void announce(int eventId) {
+        AfterCommit.run(() -> {
+            try {
+                executor.execute(() -> fanOut(eventId));
+            } catch (RejectedExecutionException e) {
+                logger.warn("New-event fan-out queue full, event {} will not be announced", eventId);
+            }
+        });
+    }
+
+    void fanOut(int eventId) {
+        try {
+            Optional<Event> found = eventRepository.findById((long) eventId);
+            if (found.isEmpty() || !"ACTIVE".equalsIgnoreCase(found.get().status())) {
+                return;
+            }
+            Event event = found.get();
+            List<String> tagNames = eventRepository.findTagsByEventId(eventId).stream().map(Tags::tag_name).toList();
+            List<Long> recipients = new ArrayList<>(interestIndex.interestedIn(tagNames));
+            if (recipients.isEmpty()) {
+                return;
+            }
+            recipients.sort(null);
+
+            String message = String.format("Check out the new event: '%s'", event.title());
+            String link = "/events/" + eventId;
+            int notified = 0;
+            for (int from = 0; from < recipients.size(); from += chunkSize) {
+                List<Long> chunk = recipients.subList(from, Math.min(from + chunkSize, recipients.size()));
+                notified += notificationRepository.saveForUsers(chunk, "NEW_EVENT", "New Event Available", message, link);
+            }
+            logger.info("Event {} announced to {} interested students", eventId, notified);
+        } catch (RuntimeException e) {
+            logger.error("New-event fan-out for event {} failed", eventId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
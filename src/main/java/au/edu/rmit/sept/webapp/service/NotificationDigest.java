@@ -0,0 +1,182 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.dto.DigestRecipient;
+import au.edu.rmit.sept.webapp.model.Notification;
+import au.edu.rmit.sept.webapp.repository.JobCheckpointRepository;
+import au.edu.rmit.sept.webapp.repository.NotificationRepository;
+import au.edu.rmit.sept.webapp.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Daily digest email. For users in digest mode (Users.email_digest), reminders, new-event
+ * notices and feedback requests are only stored as notifications when they happen; this job
+ * then sends each user one email listing everything still unread and not yet emailed. Users
+ * are streamed in chunks of {@code app.digest.chunk-size}, with one query for the chunk's
+ * notifications and one to mark them emailed. RSVP confirmations and event changes are still
+ * emailed straight away.
+ *
+ * Every instance fires the schedule, so a run first claims the day in Job_Checkpoints with a
+ * compare-and-set on the last run's time; the instances that lose the claim send nothing.
+ */
+@Component
+public class NotificationDigest {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDigest.class);
+
+    /** Notification types that wait for the digest instead of being emailed one by one. */
+    static final List<String> DIGEST_TYPES = List.of("EVENT_REMINDER", "NEW_EVENT", "FEEDBACK_REQUEST");
+
+    static final String JOB_NAME = "notification-digest";
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final EmailService emailService;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-digest");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public NotificationDigest(NotificationRepository notificationRepository,
+                              UserRepository userRepository,
+                              JobCheckpointRepository checkpointRepository,
+                              EmailService emailService,
+                              @Value("${app.digest.chunk-size:200}") int chunkSize) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.emailService = emailService;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /** True when a notification of this type for this user should wait for the digest. */
+    public boolean defers(int userId, String type) {
+        if (!DIGEST_TYPES.contains(type)) {
+            return false;
+        }
+        try {
+            return userRepository.isEmailDigest(userId);
+        } catch (DataAccessException e) {
+            // The notification itself is stored; an unreadable setting errs towards the digest
+            logger.warn("Could not read digest setting for user {}, deferring the email", userId, e);
+            return true;
+        }
+    }
+
+    // Just after the 9am reminder run, so tomorrow's reminders are in today's digest
+    @Scheduled(cron = "${app.digest.cron:0 30 9 * * *}")
+    public void scheduledRun() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Notification digest is still running from last time, skipping");
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                send(LocalDateTime.now());
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Send digests covering notifications created before {@code windowEnd}, unless that day's digest
+     * has already been claimed; returns how many emails went out.
+     */
+    int send(LocalDateTime windowEnd) {
+        long afterUserId = 0;
+        int emails = 0;
+        try {
+            if (!claim(windowEnd)) {
+                return 0;
+            }
+            while (true) {
+                List<DigestRecipient> recipients =
+                        notificationRepository.findDigestRecipients(afterUserId, DIGEST_TYPES, windowEnd, chunkSize);
+                if (recipients.isEmpty()) {
+                    break;
+                }
+                emails += sendChunk(recipients, windowEnd);
+                afterUserId = recipients.get(recipients.size() - 1).userId();
+                if (recipients.size() < chunkSize) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Notification digest stopped after {} emails; the rest go out next time", emails, e);
+        }
+        logger.info("Notification digest sent {} emails for notifications before {}", emails, windowEnd);
+        return emails;
+    }
+
+    private boolean claim(LocalDateTime windowEnd) {
+        Optional<LocalDateTime> lastRun = checkpointRepository.findHighWater(JOB_NAME);
+        if (lastRun.isPresent() && !lastRun.get().toLocalDate().isBefore(windowEnd.toLocalDate())) {
+            logger.info("Notification digest for {} has already been sent", windowEnd.toLocalDate());
+            return false;
+        }
+        if (!checkpointRepository.advanceHighWater(JOB_NAME, lastRun.orElse(null), windowEnd)) {
+            logger.info("Another instance is sending the notification digest for {}", windowEnd.toLocalDate());
+            return false;
+        }
+        return true;
+    }
+
+    private int sendChunk(List<DigestRecipient> recipients, LocalDateTime windowEnd) {
+        Map<Long, List<Notification>> byUser = new LinkedHashMap<>();
+        for (Notification notification : notificationRepository.findUndigested(
+                recipients.stream().map(DigestRecipient::userId).toList(), DIGEST_TYPES, windowEnd)) {
+            byUser.computeIfAbsent((long) notification.user_id(), k -> new ArrayList<>()).add(notification);
+        }
+
+        List<Integer> emailed = new ArrayList<>();
+        int emails = 0;
+        for (DigestRecipient recipient : recipients) {
+            List<Notification> notifications = byUser.get(recipient.userId());
+            if (notifications == null) {
+                continue;
+            }
+            try {
+                emailService.sendDigestEmail(recipient.email(), displayName(recipient), notifications);
+                notifications.forEach(n -> emailed.add(n.notification_id()));
+                emails++;
+            } catch (RuntimeException e) {
+                logger.warn("Could not send digest to user {}: {}", recipient.userId(), e.getMessage());
+            }
+        }
+        notificationRepository.markEmailed(emailed);
+        return emails;
+    }
+
+    private static String displayName(DigestRecipient recipient) {
+        if (recipient.name() != null && !recipient.name().isBlank()) {
+            return recipient.name();
+        }
+        return recipient.email().split("@")[0];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,64 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Nightly clean-up of notifications that were read more than {@code app.notifications.retention.days}
+ * ago. Rows are archived (or just deleted) in batches of {@code app.notifications.retention.batch-size}
+ * ids, so the job never holds locks on Notifications for long.
+ */
+@Component
+public class NotificationRetention {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetention.class);
+
+    private final NotificationRepository notificationRepository;
+    private final int retentionDays;
+    private final boolean archive;
+    private final BatchedJob job;
+
+    public NotificationRetention(NotificationRepository notificationRepository,
+                                 @Value("${app.notifications.retention.days:90}") int retentionDays,
+                                 @Value("${app.notifications.retention.batch-size:500}") int batchSize,
+                                 @Value("${app.notifications.retention.pause-ms:200}") long pauseMillis,
+                                 @Value("${app.notifications.retention.archive:true}") boolean archive) {
+        this.notificationRepository = notificationRepository;
+        this.retentionDays = retentionDays;
+        this.archive = archive;
+        this.job = new BatchedJob("notification-retention", batchSize, pauseMillis);
+    }
+
+    @Scheduled(cron = "${app.notifications.retention.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        job.start(() -> retire(LocalDateTime.now().minusDays(retentionDays)));
+    }
+
+    /** Retire everything read before {@code readBefore}; returns how many notifications were removed. */
+    int retire(LocalDateTime readBefore) {
+        int removed = job.run(
+            (afterId, limit) -> notificationRepository.findReadIdsBefore(readBefore, afterId, limit),
+            ids -> {
+                if (archive) {
+                    notificationRepository.archiveByIds(ids);
+                }
+                return notificationRepository.deleteByIds(ids);
+            });
+        logger.info("Notification retention {} {} notifications read before {}",
+                    archive ? "archived" : "deleted", removed, readBefore);
+        return removed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        job.shutdown();
+    }
+}
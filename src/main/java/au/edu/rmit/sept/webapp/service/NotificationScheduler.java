@@ -1,6 +1,7 @@
 package au.edu.rmit.sept.webapp.service;
 
 import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
 import au.edu.rmit.sept.webapp.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,13 +24,19 @@ public class NotificationScheduler {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final DataSource dataSource;
+    private final EventRepository eventRepository;
+    private final EventCalendarIndex calendarIndex;
 
     public NotificationScheduler(UserRepository userRepository,
                                 NotificationService notificationService,
-                                DataSource dataSource) {
+                                DataSource dataSource,
+                                EventRepository eventRepository,
+                                EventCalendarIndex calendarIndex) {
         this.userRepository = userRepository;
         this.notificationService = notificationService;
         this.dataSource = dataSource;
+        this.eventRepository = eventRepository;
+        this.calendarIndex = calendarIndex;
     }
 
     @Scheduled(cron = "0 0 9 * * *")
@@ -54,37 +61,12 @@ public class NotificationScheduler {
     }
 
     private List<Event> findEventsByDate(LocalDate date) {
-        List<Event> events = new ArrayList<>();
-        String sql = "SELECT * FROM Events WHERE date = ? AND status != 'CANCELLED'";
-        
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setObject(1, date);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    Event event = new Event(
-                        rs.getInt("event_id"),
-                        rs.getObject("organiser_id", Long.class),
-                        rs.getObject("club_id", Long.class),
-                        rs.getString("title"),
-                        rs.getString("description"),
-                        rs.getString("location"),
-                        rs.getDate("date").toLocalDate(),
-                        rs.getTimestamp("start_time").toLocalDateTime(),
-                        rs.getTime("finish_time").toString(),
-                        rs.getString("status"),
-                        rs.getInt("capacity")
-                    );
-                    events.add(event);
-                }
-            }
+        try {
+            return eventRepository.findByIds(calendarIndex.idsOn(date));
         } catch (Exception e) {
             logger.error("Error finding events by date", e);
+            return List.of();
         }
-        
-        return events;
     }
 
     private void sendRemindersForEvent(Event event) {
@@ -1,6 +1,7 @@
 package au.edu.rmit.sept.webapp.service;
 
 import au.edu.rmit.sept.webapp.dto.NotificationDTO;
+import au.edu.rmit.sept.webapp.dto.NotificationPage;
 import au.edu.rmit.sept.webapp.model.Notification;
 import java.util.List;
 
@@ -11,10 +12,16 @@ public interface NotificationService {
     List<Notification> getUserNotifications(int userId);
     
     List<Notification> getUnreadNotifications(int userId);
+
+    /** Newest-first page after {@code cursor} (blank for the first page); throws IllegalArgumentException for a bad cursor. */
+    NotificationPage getNotificationPage(int userId, boolean unreadOnly, String cursor, int size);
     
     void markAsRead(int notificationId);
     
     void markAllAsRead(int userId);
+
+    /** Mark the listed notifications of this user as read; returns how many were unread. */
+    int markAsRead(int userId, List<Integer> notificationIds);
     
     void deleteNotification(int notificationId);
     
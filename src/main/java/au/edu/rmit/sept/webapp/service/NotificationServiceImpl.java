@@ -1,6 +1,8 @@
 package au.edu.rmit.sept.webapp.service;
 
+import au.edu.rmit.sept.webapp.dto.NotificationCursor;
 import au.edu.rmit.sept.webapp.dto.NotificationDTO;
+import au.edu.rmit.sept.webapp.dto.NotificationPage;
 import au.edu.rmit.sept.webapp.model.Notification;
 import au.edu.rmit.sept.webapp.repository.NotificationRepository;
 import org.slf4j.Logger;
@@ -9,19 +11,25 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_MARK_READ = 200;
     
     private final NotificationRepository notificationRepository;
     private final EmailService emailService;
+    private final NotificationDigest digest;
 
     public NotificationServiceImpl(NotificationRepository notificationRepository, 
-                                   EmailService emailService) {
+                                   EmailService emailService,
+                                   NotificationDigest digest) {
         this.notificationRepository = notificationRepository;
         this.emailService = emailService;
+        this.digest = digest;
     }
 
     @Override
@@ -50,6 +58,19 @@ public class NotificationServiceImpl implements NotificationService {
         return notificationRepository.findUnreadByUserId(userId);
     }
 
+    @Override
+    public NotificationPage getNotificationPage(int userId, boolean unreadOnly, String cursor, int size) {
+        NotificationCursor after = NotificationCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // One row beyond the page tells us whether another page exists
+        List<Notification> rows = notificationRepository.findPageByUserId(userId, unreadOnly, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new NotificationPage(rows, null);
+        }
+        List<Notification> page = List.copyOf(rows.subList(0, pageSize));
+        return new NotificationPage(page, NotificationCursor.after(page.get(pageSize - 1)).encode());
+    }
+
     @Override
     public void markAsRead(int notificationId) {
         notificationRepository.markAsRead(notificationId);
@@ -60,6 +81,16 @@ public class NotificationServiceImpl implements NotificationService {
         notificationRepository.markAllAsReadForUser(userId);
     }
 
+    @Override
+    public int markAsRead(int userId, List<Integer> notificationIds) {
+        if (notificationIds.size() > MAX_MARK_READ) {
+            throw new IllegalArgumentException("At most " + MAX_MARK_READ + " notifications can be marked at once");
+        }
+        // A null in the JSON array names no notification; skip it rather than fail the batch
+        List<Integer> ids = notificationIds.stream().filter(Objects::nonNull).distinct().toList();
+        return notificationRepository.markAsReadForUser(userId, ids);
+    }
+
     @Override
     public void deleteNotification(int notificationId) {
         notificationRepository.deleteById(notificationId);
@@ -107,8 +138,11 @@ public class NotificationServiceImpl implements NotificationService {
             );
             createNotification(dto);
             
-            emailService.sendEventReminderEmail(userEmail, userName, eventTitle, 
-                                               eventDate, eventLocation);
+            // Digest users get this in the daily digest email instead
+            if (!digest.defers(userId, dto.getType())) {
+                emailService.sendEventReminderEmail(userEmail, userName, eventTitle, 
+                                                   eventDate, eventLocation);
+            }
             
             logger.info("Event reminder notification sent to user {}", userId);
         } catch (Exception e) {
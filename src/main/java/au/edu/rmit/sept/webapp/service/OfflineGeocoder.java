@@ -0,0 +1,37 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.model.GeoPoint;
+
+/**
+ * Geocoder for tests and offline runs: only understands a location that already contains
+ * coordinates, e.g. "Building 80 (-37.8085, 144.9631)". Anything else stays unresolved.
+ */
+@Component
+@ConditionalOnProperty(name = "app.geocoder.provider", havingValue = "offline", matchIfMissing = true)
+public class OfflineGeocoder implements Geocoder {
+
+    private static final Pattern LAT_LNG = Pattern.compile("(-?\\d{1,2}(?:\\.\\d+)?)\\s*,\\s*(-?\\d{1,3}(?:\\.\\d+)?)");
+
+    @Override
+    public Optional<GeoPoint> geocode(String location) {
+        if (location == null) {
+            return Optional.empty();
+        }
+        Matcher m = LAT_LNG.matcher(location);
+        if (!m.find()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new GeoPoint(Double.parseDouble(m.group(1)), Double.parseDouble(m.group(2))));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.config.StatementCounter;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Loads the independent parts of a composite page (listings, tags, RSVP state, thumbnails) side by
+ * side instead of one after another, so the page costs about as much as its slowest part.
+ *
+ * Each {@link Page} has one deadline shared by all its parts. A part that fails or misses the
+ * deadline is cancelled and logged; optional parts then read as their fallback, required parts
+ * throw from {@link Part#get()} so the controller shows its usual error. Parts run on a small
+ * bounded pool; when it is full they run on the request thread instead of queueing behind it.
+ */
+@Component
+public class PageLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageLoader.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    public PageLoader(@Value("${app.page-loader.pool-size:16}") int poolSize,
+                      @Value("${app.page-loader.queue-capacity:64}") int queueCapacity,
+                      @Value("${app.page-loader.timeout-ms:2000}") long timeoutMillis) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "page-loader-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** Start loading a page; every part forked from it must finish within the configured timeout. */
+    public Page begin() {
+        return new Page(System.nanoTime() + timeoutNanos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public final class Page {
+
+        private final long deadline;
+        private final List<Part<?>> pending = new ArrayList<>();
+
+        private Page(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /** A part the page cannot render without: a failure surfaces from {@link Part#get()}. */
+        public <T> Part<T> fork(String name, Callable<T> call) {
+            return submit(new Part<>(name, null, true), call);
+        }
+
+        /** A part the page can render without: a failure or timeout reads as {@code fallback}. */
+        public <T> Part<T> fork(String name, Callable<T> call, T fallback) {
+            return submit(new Part<>(name, fallback, false), call);
+        }
+
+        /**
+         * Wait for every part forked so far, up to the page deadline. Parts still running at the
+         * deadline are cancelled. May be called again after forking parts that depend on earlier ones.
+         */
+        public void join() {
+            for (Part<?> part : pending) {
+                part.await(deadline);
+            }
+            pending.clear();
+        }
+
+        private <T> Part<T> submit(Part<T> part, Callable<T> call) {
+            Callable<T> task = StatementCounter.carryOver(call);
+            try {
+                part.future = executor.submit(task);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Page loader pool busy, loading {} on the request thread", part.name);
+                part.future = runInline(task);
+            }
+            pending.add(part);
+            return part;
+        }
+    }
+
+    public static final class Part<T> {
+
+        private final String name;
+        private final T fallback;
+        private final boolean required;
+        private Future<T> future;
+        private T value;
+        private RuntimeException failure;
+        private boolean done;
+
+        private Part(String name, T fallback, boolean required) {
+            this.name = name;
+            this.fallback = fallback;
+            this.required = required;
+        }
+
+        /** The loaded value; only valid once the page has been joined. */
+        public T get() {
+            if (!done) {
+                throw new IllegalStateException("Page part " + name + " read before join()");
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return value;
+        }
+
+        private void await(long deadline) {
+            try {
+                value = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                fail(new IllegalStateException("Page part " + name + " missed the page deadline", e));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                fail(new IllegalStateException("Interrupted while loading page part " + name, e));
+            } catch (CancellationException e) {
+                fail(new IllegalStateException("Page part " + name + " was cancelled", e));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                fail(cause instanceof RuntimeException runtime
+                        ? runtime
+                        : new IllegalStateException("Page part " + name + " failed", cause));
+            }
+            done = true;
+        }
+
+        private void fail(RuntimeException e) {
+            if (required) {
+                failure = e;
+            } else {
+                logger.warn("Page part {} failed, rendering without it: {}", name, e.getMessage());
+                value = fallback;
+            }
+        }
+    }
+
+    private static <T> Future<T> runInline(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            future.complete(task.call());
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+}
@@ -0,0 +1,18 @@
+package au.edu.rmit.sept.webapp.service;
+
+/**
+ * Thrown when the password hashing pool is saturated and the request should be
+ * turned away quickly (503) instead of queueing behind other logins.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,88 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.config.WebConfig;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Removes photo files from disk in the background once their database rows are gone.
+ * Request threads only enqueue paths; failed deletions are retried on the next sweep
+ * until MAX_ATTEMPTS is reached.
+ */
+@Component
+public class PhotoFileReclaimer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhotoFileReclaimer.class);
+
+    static final int MAX_ATTEMPTS = 5;
+
+    private final Queue<PendingFile> pending = new ConcurrentLinkedQueue<>();
+
+    @Value(WebConfig.UPLOAD_DIR)
+    private String uploadDir;
+
+    private record PendingFile(Path path, int attempts) {}
+
+    /**
+     * Queue the files behind the given photo URLs for removal.
+     */
+    public void reclaim(Collection<String> urls) {
+        if (urls == null) {
+            return;
+        }
+        for (String url : urls) {
+            if (url != null && !url.isBlank()) {
+                pending.add(new PendingFile(PhotoPaths.resolve(uploadDir, url), 0));
+            }
+        }
+    }
+
+    /**
+     * Number of files still waiting to be removed.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.upload.reclaim-interval-ms:2000}")
+    public void sweep() {
+        int batch = pending.size();
+        for (int i = 0; i < batch; i++) {
+            PendingFile file = pending.poll();
+            if (file == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(file.path());
+            } catch (IOException e) {
+                int attempts = file.attempts() + 1;
+                if (attempts < MAX_ATTEMPTS) {
+                    pending.add(new PendingFile(file.path(), attempts));
+                } else {
+                    logger.error("Giving up deleting photo file {} after {} attempts: {}",
+                                 file.path(), attempts, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        sweep();
+        if (!pending.isEmpty()) {
+            logger.warn("{} photo file(s) left on disk at shutdown", pending.size());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Maps stored photo URLs back to files in the upload directory.
+ */
+final class PhotoPaths {
+
+    static final String URL_PREFIX = "/event_photos/";
+
+    private PhotoPaths() {
+    }
+
+    /**
+     * Stored URLs look like "/event_photos/<file>", which WebConfig serves from the upload directory.
+     */
+    static Path resolve(String uploadDir, String url) {
+        if (url.startsWith(URL_PREFIX)) {
+            return Paths.get(uploadDir).resolve(url.substring(URL_PREFIX.length()));
+        }
+        return Paths.get(url);
+    }
+}
@@ -1,5 +1,7 @@
 package au.edu.rmit.sept.webapp.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,8 @@ public interface PhotoService {
     List<Event_Photos> getPhotosByOrganiser(int organiserId);
     
     Optional<Event_Photos> getPhotoById(int photoId);
+
+    List<Event_Photos> getPhotosByIds(List<Integer> photoIds);
     
     void deletePhoto(int photoId);
     
@@ -30,4 +34,6 @@ public interface PhotoService {
     String saveFile(MultipartFile file, String fileName);
     
     List<Event_Photos> getEventPhotoThumbnails(int eventId, int limit);
+
+    int writePhotosZip(List<Event_Photos> photos, OutputStream out) throws IOException;
 }
\ No newline at end of file
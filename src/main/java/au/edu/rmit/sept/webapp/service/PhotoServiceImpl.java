@@ -1,36 +1,60 @@
 package au.edu.rmit.sept.webapp.service;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import au.edu.rmit.sept.webapp.config.WebConfig;
 import au.edu.rmit.sept.webapp.model.Event_Photos;
 import au.edu.rmit.sept.webapp.repository.PhotoRepository;
 
 @Service
 public class PhotoServiceImpl implements PhotoService {
 
+    private static final Logger logger = LoggerFactory.getLogger(PhotoServiceImpl.class);
+
     private final PhotoRepository photoRepository;
+    private final PhotoFileReclaimer fileReclaimer;
+    private final SingleFlight singleFlight;
     
-    @Value("${app.upload.dir:uploads}")
+    @Value(WebConfig.UPLOAD_DIR)
     private String uploadDir;
     
     private static final long MAX_FILE_SIZE = 25 * 1024 * 1024; // 25MB
     private static final String[] ALLOWED_EXTENSIONS = {".jpg", ".jpeg", ".png", ".gif", ".webp"};
+    // Formats that are already compressed gain nothing from deflate
+    private static final Set<String> STORED_EXTENSIONS = Set.of(".jpg", ".jpeg", ".png", ".gif", ".webp");
+    private static final int ZIP_BUFFER_SIZE = 64 * 1024;
 
-    public PhotoServiceImpl(PhotoRepository photoRepository) {
+    public PhotoServiceImpl(PhotoRepository photoRepository, PhotoFileReclaimer fileReclaimer,
+                            SingleFlight singleFlight) {
         this.photoRepository = photoRepository;
+        this.fileReclaimer = fileReclaimer;
+        this.singleFlight = singleFlight;
     }
 
     @Override
@@ -118,7 +142,7 @@ public class PhotoServiceImpl implements PhotoService {
 
     @Override
     public List<Event_Photos> getEventPhotos(int eventId) {
-        return photoRepository.findByEventId(eventId);
+        return eventPhotos(eventId);
     }
 
     @Override
@@ -133,24 +157,24 @@ public class PhotoServiceImpl implements PhotoService {
 
     @Override
     public Optional<Event_Photos> getPhotoById(int photoId) {
-        return photoRepository.findById(photoId);
+        return singleFlight.run("photoById", photoId, () -> photoRepository.findById(photoId));
+    }
+
+    @Override
+    public List<Event_Photos> getPhotosByIds(List<Integer> photoIds) {
+        if (photoIds == null || photoIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return photoRepository.findAllByIds(photoIds);
     }
 
     @Override
     public void deletePhoto(int photoId) {
         Optional<Event_Photos> photo = photoRepository.findById(photoId);
         if (photo.isPresent()) {
-            // Delete file from filesystem
-            try {
-                Path filePath = Paths.get(photo.get().url());
-                Files.deleteIfExists(filePath);
-            } catch (IOException e) {
-                // Log error but continue with database deletion
-                System.err.println("Failed to delete file: " + e.getMessage());
-            }
-            
-            // Delete database record
+            // Delete database record, then let the reclaimer remove the file
             photoRepository.deleteById(photoId);
+            fileReclaimer.reclaim(List.of(photo.get().url()));
         }
     }
 
@@ -160,28 +184,17 @@ public class PhotoServiceImpl implements PhotoService {
             return;
         }
 
-        // First, get all photos to delete their files from filesystem
-        List<Event_Photos> photosToDelete = new ArrayList<>();
-        for (Integer photoId : photoIds) {
-            Optional<Event_Photos> photo = photoRepository.findById(photoId);
-            if (photo.isPresent()) {
-                photosToDelete.add(photo.get());
-            }
+        // One query for every photo being removed
+        List<Event_Photos> photosToDelete = photoRepository.findAllByIds(photoIds);
+        if (photosToDelete.isEmpty()) {
+            return;
         }
 
-        // Delete files from filesystem
-        for (Event_Photos photo : photosToDelete) {
-            try {
-                Path filePath = Paths.get(photo.url());
-                Files.deleteIfExists(filePath);
-            } catch (IOException e) {
-                // Log error but continue with database deletion
-                System.err.println("Failed to delete file: " + e.getMessage());
-            }
-        }
+        // Single DELETE ... IN statement, so the rows go together or not at all
+        photoRepository.deleteMultipleById(photosToDelete.stream().map(Event_Photos::photo_id).toList());
 
-        // Delete all database records at once
-        photoRepository.deleteMultipleById(photoIds);
+        // Files are only removed once the rows are gone, off the request thread
+        fileReclaimer.reclaim(photosToDelete.stream().map(Event_Photos::url).toList());
     }
 
     @Override
@@ -220,7 +233,7 @@ public class PhotoServiceImpl implements PhotoService {
             Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
             
             // Return relative path for database storage
-            return "/event_photos/" + fileName;
+            return PhotoPaths.URL_PREFIX + fileName;
             
         } catch (IOException e) {
             throw new RuntimeException("Failed to save file: " + fileName, e);
@@ -230,7 +243,8 @@ public class PhotoServiceImpl implements PhotoService {
     @Override
     public List<Event_Photos> getEventPhotoThumbnails(int eventId, int limit) {
         try {
-            List<Event_Photos> allPhotos = photoRepository.findByEventId(eventId);
+            // Shares its flight with the gallery, so a busy event page runs the photo query once
+            List<Event_Photos> allPhotos = eventPhotos(eventId);
             
             // Return up to 'limit' number of photos for thumbnails
             // Using stream to limit the results
@@ -243,4 +257,74 @@ public class PhotoServiceImpl implements PhotoService {
             return new ArrayList<>();
         }
     }
-}
\ No newline at end of file
+
+    private List<Event_Photos> eventPhotos(int eventId) {
+        return singleFlight.run("eventPhotos", eventId, () -> List.copyOf(photoRepository.findByEventId(eventId)));
+    }
+
+    @Override
+    public int writePhotosZip(List<Event_Photos> photos, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        WritableByteChannel zipChannel = Channels.newChannel(zip);
+        ByteBuffer buffer = ByteBuffer.allocate(ZIP_BUFFER_SIZE);
+        int written = 0;
+
+        for (Event_Photos photo : photos) {
+            Path filePath = PhotoPaths.resolve(uploadDir, photo.url());
+            if (!Files.isRegularFile(filePath)) {
+                logger.warn("Skipping missing photo file {} for photo {}", filePath, photo.photo_id());
+                continue;
+            }
+
+            String fileName = filePath.getFileName().toString();
+            try (FileChannel file = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                ZipEntry entry = new ZipEntry(fileName);
+                if (photo.uploaded_at() != null) {
+                    entry.setTimeLocal(photo.uploaded_at());
+                }
+
+                if (STORED_EXTENSIONS.contains(extensionOf(fileName))) {
+                    // STORED entries need size and CRC up front, so checksum the file first
+                    long size = file.size();
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(size);
+                    entry.setCompressedSize(size);
+                    entry.setCrc(crcOf(file, buffer));
+                    file.position(0);
+                } else {
+                    entry.setMethod(ZipEntry.DEFLATED);
+                }
+
+                zip.putNextEntry(entry);
+                long position = 0;
+                long size = file.size();
+                while (position < size) {
+                    position += file.transferTo(position, size - position, zipChannel);
+                }
+                zip.closeEntry();
+                written++;
+            }
+        }
+
+        // finish() rather than close() so the caller's stream stays open
+        zip.finish();
+        zip.flush();
+        return written;
+    }
+
+    private static long crcOf(FileChannel file, ByteBuffer buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        buffer.clear();
+        while (file.read(buffer) != -1) {
+            buffer.flip();
+            crc.update(buffer);
+            buffer.clear();
+        }
+        return crc.getValue();
+    }
+
+    private static String extensionOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 ? fileName.substring(dot).toLowerCase() : "";
+    }
+}
@@ -0,0 +1,65 @@
+package au.edu.rmit.sept.webapp.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * An in-memory index loaded from the database. It is built when the application is ready (or on
+ * first use if the database was down then), patched by the services after their writes commit,
+ * and rebuilt on a timer so writes made by other instances show up. A failed rebuild keeps the
+ * current copy.
+ *
+ * Subclasses put their own {@code @Scheduled} on an override of {@link #refresh()}, so each index
+ * has its own interval property, and change the loaded state only while holding the index lock.
+ */
+abstract class RebuildableIndex<T> {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final String name;
+    private volatile T state;
+
+    protected RebuildableIndex(String name) {
+        this.name = name;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (DataAccessException e) {
+            logger.warn("Could not build the {} at startup; it will be built on first use", name, e);
+        }
+    }
+
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            logger.warn("Could not rebuild the {}, keeping the current copy", name, e);
+        }
+    }
+
+    /** The loaded state, building it on first use. */
+    protected final T current() {
+        T s = state;
+        if (s == null) {
+            synchronized (this) {
+                if (state == null) {
+                    rebuild();
+                }
+                s = state;
+            }
+        }
+        return s;
+    }
+
+    private synchronized void rebuild() {
+        state = load();
+    }
+
+    /** Read the whole index from the database. Runs under the index lock. */
+    protected abstract T load();
+}
@@ -0,0 +1,403 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.dto.WaitingRoomStatus;
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.Event_Waiting_Room;
+import au.edu.rmit.sept.webapp.repository.WaitingRoomRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Admission queue for RSVPs to events an admin has opened a waiting room for. Instead of every
+ * request racing for the RSVP row locks, each one takes a ticket and returns straight away; a
+ * drainer admits tickets in arrival order at the room's rate, one batched insert per tick.
+ * Clients poll their ticket or subscribe to it for the result.
+ *
+ * Queues live in memory on the instance that took the request, so the configured rate applies
+ * per instance and tickets do not survive a restart. Which events have a room open is read from
+ * Event_Waiting_Rooms and reloaded periodically so every instance agrees.
+ *
+ * The drainer ticks every few hundred milliseconds on its own thread rather than the shared
+ * scheduler thread, so a slow digest or cleanup job never stalls admissions and a slow batch of
+ * admissions never holds up those jobs.
+ */
+@Component
+public class RsvpWaitingRoom {
+
+    private static final Logger logger = LoggerFactory.getLogger(RsvpWaitingRoom.class);
+
+    public static final String WAITING = "WAITING";
+    public static final String ADMITTED = "ADMITTED";
+    public static final String FAILED = "FAILED";
+
+    private static final class Ticket {
+        final String token = UUID.randomUUID().toString();
+        final int eventId;
+        final long userId;
+        final String email;
+        final String name;
+        final long seq;
+        final List<Consumer<WaitingRoomStatus>> listeners = new CopyOnWriteArrayList<>();
+        volatile String state = WAITING;
+        volatile long finishedAt;
+
+        Ticket(int eventId, long userId, String email, String name, long seq) {
+            this.eventId = eventId;
+            this.userId = userId;
+            this.email = email;
+            this.name = name;
+            this.seq = seq;
+        }
+    }
+
+    /** One event's queue. Tickets are numbered as they join; position is the distance to the last one admitted. */
+    private static final class Line {
+        final Queue<Ticket> waiting = new ConcurrentLinkedQueue<>();
+        volatile long issued;
+        volatile long admitted;
+        volatile int admitPerSecond;
+        // Touched only by the drainer
+        double allowance;
+        long lastDrainNanos = System.nanoTime();
+    }
+
+    private final EventService eventService;
+    private final NotificationService notificationService;
+    private final WaitingRoomRepository repository;
+    private final int maxQueued;
+    private final int maxBatch;
+    private final long resultTtlMillis;
+    private final long positionPushMillis;
+    private final long drainMillis;
+    private final ScheduledExecutorService drainer;
+    private final ExecutorService confirmations;
+
+    private volatile Map<Integer, Integer> rooms;
+    private final Map<Integer, Line> lines = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> ticketOfUser = new ConcurrentHashMap<>();
+    private long lastPositionPush;
+
+    public RsvpWaitingRoom(EventService eventService, NotificationService notificationService,
+                           WaitingRoomRepository repository,
+                           @Value("${app.waiting-room.max-queued:20000}") int maxQueued,
+                           @Value("${app.waiting-room.max-batch:500}") int maxBatch,
+                           @Value("${app.waiting-room.result-ttl-ms:600000}") long resultTtlMillis,
+                           @Value("${app.waiting-room.position-push-ms:2000}") long positionPushMillis,
+                           @Value("${app.waiting-room.drain-ms:200}") long drainMillis) {
+        this.eventService = eventService;
+        this.notificationService = notificationService;
+        this.repository = repository;
+        this.maxQueued = maxQueued;
+        this.maxBatch = maxBatch;
+        this.resultTtlMillis = resultTtlMillis;
+        this.positionPushMillis = positionPushMillis;
+        this.drainMillis = drainMillis;
+        this.drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rsvp-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Confirmation emails go over SMTP; keep them off the drainer so admissions keep their pace
+        this.confirmations = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rsvp-confirmations");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rooms();
+        } catch (DataAccessException e) {
+            logger.warn("Could not load waiting rooms at startup; they will be loaded on first use", e);
+        }
+        drainer.scheduleWithFixedDelay(this::drain, drainMillis, drainMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${app.waiting-room.refresh-ms:30000}",
+               initialDelayString = "${app.waiting-room.refresh-ms:30000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            logger.warn("Could not reload waiting rooms, keeping the current list", e);
+        }
+    }
+
+    /** The admission rate of the event's waiting room, or empty when RSVPs go straight through. */
+    public OptionalInt admitRate(int eventId) {
+        Integer rate = rooms().get(eventId);
+        return rate == null ? OptionalInt.empty() : OptionalInt.of(rate);
+    }
+
+    public void open(int eventId, int admitPerSecond) {
+        if (admitPerSecond < 1) {
+            throw new IllegalArgumentException("Admission rate must be at least 1 per second: " + admitPerSecond);
+        }
+        repository.open(eventId, admitPerSecond);
+        reload();
+    }
+
+    /** Stop queueing new RSVPs for the event; tickets already in line are still admitted. */
+    public void close(int eventId) {
+        repository.close(eventId);
+        reload();
+    }
+
+    /**
+     * Put the user in line for the event, or return their existing ticket if they are already in it.
+     * Empty when the line is full.
+     */
+    public Optional<WaitingRoomStatus> enqueue(int eventId, long userId, String email, String name) {
+        Integer rate = rooms().get(eventId);
+        if (rate == null) {
+            throw new IllegalStateException("No waiting room is open for event " + eventId);
+        }
+        Line line = lines.computeIfAbsent(eventId, id -> new Line());
+        line.admitPerSecond = rate;
+        Ticket[] joined = new Ticket[1];
+        ticketOfUser.compute(eventId + ":" + userId, (key, existing) -> {
+            if (existing != null && !FAILED.equals(existing.state)) {
+                joined[0] = existing;
+                return existing;
+            }
+            synchronized (line) {
+                if (line.issued - line.admitted >= maxQueued) {
+                    return existing;
+                }
+                Ticket ticket = new Ticket(eventId, userId, email, name, ++line.issued);
+                line.waiting.add(ticket);
+                tickets.put(ticket.token, ticket);
+                joined[0] = ticket;
+                return ticket;
+            }
+        });
+        return Optional.ofNullable(joined[0]).map(this::status);
+    }
+
+    /** The state of one of the user's own tickets. */
+    public Optional<WaitingRoomStatus> status(String token, long userId) {
+        return ownTicket(token, userId).map(this::status);
+    }
+
+    /**
+     * Send the ticket's current state to {@code listener} now, then its position every few seconds
+     * and its result when it is admitted. Returns false when the ticket is unknown or not the user's.
+     */
+    public boolean listen(String token, long userId, Consumer<WaitingRoomStatus> listener) {
+        Optional<Ticket> found = ownTicket(token, userId);
+        if (found.isEmpty()) {
+            return false;
+        }
+        Ticket ticket = found.get();
+        ticket.listeners.add(listener);
+        // Re-read after registering so a result published in between is not missed
+        WaitingRoomStatus current = status(ticket);
+        listener.accept(current);
+        if (current.isFinished()) {
+            ticket.listeners.remove(listener);
+        }
+        return true;
+    }
+
+    public void stopListening(String token, Consumer<WaitingRoomStatus> listener) {
+        Ticket ticket = tickets.get(token);
+        if (ticket != null) {
+            ticket.listeners.remove(listener);
+        }
+    }
+
+    private void drain() {
+        try {
+            drain(System.nanoTime());
+        } catch (RuntimeException e) {
+            // An exception would cancel the schedule; log it and try again next tick
+            logger.error("Waiting room drain failed", e);
+        }
+    }
+
+    void drain(long now) {
+        lines.forEach((eventId, line) -> {
+            List<Ticket> batch = take(line, now);
+            if (!batch.isEmpty()) {
+                admit(eventId, batch);
+            }
+        });
+        pushPositions();
+        prune();
+    }
+
+    private List<Ticket> take(Line line, long now) {
+        double elapsedSeconds = (now - line.lastDrainNanos) / 1e9;
+        line.lastDrainNanos = now;
+        // At most one second's worth carried over, so a quiet spell doesn't turn into a burst
+        line.allowance = Math.min(Math.max(1, line.admitPerSecond),
+                                  line.allowance + line.admitPerSecond * elapsedSeconds);
+        int n = Math.min((int) line.allowance, maxBatch);
+        List<Ticket> batch = new ArrayList<>(Math.max(0, n));
+        synchronized (line) {
+            Ticket ticket;
+            while (batch.size() < n && (ticket = line.waiting.poll()) != null) {
+                batch.add(ticket);
+                line.admitted = ticket.seq;
+            }
+        }
+        line.allowance -= batch.size();
+        return batch;
+    }
+
+    private void admit(int eventId, List<Ticket> batch) {
+        List<Long> userIds = batch.stream().map(t -> t.userId).toList();
+        String outcome;
+        try {
+            eventService.rsvpAll((long) eventId, userIds);
+            outcome = ADMITTED;
+        } catch (RuntimeException e) {
+            logger.error("Could not admit {} queued RSVPs for event {}", batch.size(), eventId, e);
+            outcome = FAILED;
+        }
+        long finishedAt = System.currentTimeMillis();
+        for (Ticket ticket : batch) {
+            ticket.state = outcome;
+            ticket.finishedAt = finishedAt;
+            publish(ticket);
+            ticket.listeners.clear();
+        }
+        if (ADMITTED.equals(outcome)) {
+            confirmations.execute(() -> sendConfirmations(eventId, batch));
+        }
+        logger.debug("Waiting room for event {} admitted {} RSVPs ({})", eventId, batch.size(), outcome);
+    }
+
+    private void sendConfirmations(int eventId, List<Ticket> batch) {
+        try {
+            Optional<Event> event = eventService.getEventById((long) eventId);
+            if (event.isEmpty()) {
+                return;
+            }
+            Event e = event.get();
+            for (Ticket ticket : batch) {
+                notificationService.notifyRsvpConfirmation((int) ticket.userId, ticket.email, ticket.name,
+                        e.event_id(), e.title(), e.formattedStartDateTime(), e.location());
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to send RSVP confirmations for event {}", eventId, e);
+        }
+    }
+
+    private void pushPositions() {
+        long now = System.currentTimeMillis();
+        if (now - lastPositionPush < positionPushMillis) {
+            return;
+        }
+        lastPositionPush = now;
+        for (Line line : lines.values()) {
+            for (Ticket ticket : line.waiting) {
+                if (!ticket.listeners.isEmpty()) {
+                    publish(ticket);
+                }
+            }
+        }
+    }
+
+    private void prune() {
+        long cutoff = System.currentTimeMillis() - resultTtlMillis;
+        tickets.values().removeIf(ticket -> {
+            boolean expired = !WAITING.equals(ticket.state) && ticket.finishedAt < cutoff;
+            if (expired) {
+                ticketOfUser.remove(ticket.eventId + ":" + ticket.userId, ticket);
+            }
+            return expired;
+        });
+        Map<Integer, Integer> open = rooms;
+        lines.entrySet().removeIf(e -> e.getValue().waiting.isEmpty()
+                && (open == null || !open.containsKey(e.getKey())));
+    }
+
+    private void publish(Ticket ticket) {
+        WaitingRoomStatus status = status(ticket);
+        for (Consumer<WaitingRoomStatus> listener : ticket.listeners) {
+            try {
+                listener.accept(status);
+            } catch (RuntimeException e) {
+                // A dropped connection; the client can still poll
+                ticket.listeners.remove(listener);
+            }
+        }
+    }
+
+    private WaitingRoomStatus status(Ticket ticket) {
+        String state = ticket.state;
+        long position = 0;
+        if (WAITING.equals(state)) {
+            Line line = lines.get(ticket.eventId);
+            position = line == null ? 1 : Math.max(1, ticket.seq - line.admitted);
+        }
+        return new WaitingRoomStatus(ticket.token, ticket.eventId, state, position);
+    }
+
+    private Optional<Ticket> ownTicket(String token, long userId) {
+        Ticket ticket = token == null ? null : tickets.get(token);
+        return ticket != null && ticket.userId == userId ? Optional.of(ticket) : Optional.empty();
+    }
+
+    private Map<Integer, Integer> rooms() {
+        Map<Integer, Integer> r = rooms;
+        if (r == null) {
+            synchronized (this) {
+                if (rooms == null) {
+                    reload();
+                }
+                r = rooms;
+            }
+        }
+        return r;
+    }
+
+    private synchronized void reload() {
+        Map<Integer, Integer> loaded = new HashMap<>();
+        for (Event_Waiting_Room room : repository.findAll()) {
+            loaded.put(room.event_id(), room.admit_per_second());
+        }
+        rooms = Map.copyOf(loaded);
+        loaded.forEach((eventId, rate) -> {
+            Line line = lines.get(eventId);
+            if (line != null) {
+                line.admitPerSecond = rate;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainer.shutdownNow();
+        confirmations.shutdown();
+    }
+}
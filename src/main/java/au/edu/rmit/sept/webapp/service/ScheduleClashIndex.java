@@ -0,0 +1,210 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventSlot;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+
+/**
+ * In-memory interval trees over the start/end of upcoming ACTIVE events: one per venue
+ * (normalised location text) and one per user over the events they have RSVPed to. Clash
+ * warnings on the RSVP confirmation page and the organiser event form are answered from here
+ * instead of range-scanning RSVP joined to Events on every check.
+ *
+ * Event saves, cancels and RSVPs are applied as they commit; events that have finished drop out
+ * at the next rebuild.
+ */
+@Component
+public class ScheduleClashIndex extends RebuildableIndex<ScheduleClashIndex.State> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleClashIndex.class);
+
+    /** Everything is replaced together on rebuild; writes change the maps in place under the index lock. */
+    record State(Map<Integer, EventSlot> slots,
+                         Map<String, IntervalTree> byVenue,
+                         Map<Long, IntervalTree> byUser,
+                         Map<Integer, Set<Long>> usersOfEvent) {
+    }
+
+    private final EventRepository eventRepository;
+
+    public ScheduleClashIndex(EventRepository eventRepository) {
+        super("schedule clash index");
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.clash.refresh-ms:300000}",
+               initialDelayString = "${app.clash.refresh-ms:300000}")
+    public void refresh() {
+        super.refresh();
+    }
+
+    /** Events the user has RSVPed to that overlap {@code eventId}. */
+    public List<Integer> rsvpClashes(long userId, int eventId) {
+        State s = current();
+        EventSlot slot = s.slots().get(eventId);
+        IntervalTree tree = s.byUser().get(userId);
+        if (slot == null || tree == null) {
+            return List.of();
+        }
+        return tree.overlapping(seconds(slot.start_at()), seconds(slot.end_at()), eventId);
+    }
+
+    /** Events booked at {@code location} that overlap {@code [start, end)}, ignoring {@code excludeEventId}. */
+    public List<Integer> venueClashes(String location, LocalDateTime start, LocalDateTime end, int excludeEventId) {
+        String venue = venueKey(location);
+        if (venue == null || start == null || end == null) {
+            return List.of();
+        }
+        IntervalTree tree = current().byVenue().get(venue);
+        if (tree == null) {
+            return List.of();
+        }
+        return tree.overlapping(seconds(start), seconds(end), excludeEventId);
+    }
+
+    /** Record an inserted or updated event. Applied after the surrounding transaction commits. */
+    public void put(Event event) {
+        LocalDateTime startAt = event.startAt();
+        LocalDateTime endAt = event.endAt();
+        if (startAt == null || endAt == null || !"ACTIVE".equalsIgnoreCase(event.status())) {
+            remove(event.event_id());
+        } else {
+            EventSlot slot = new EventSlot(event.event_id(), event.location(), startAt, endAt);
+            AfterCommit.run(() -> apply(slot));
+        }
+    }
+
+    /** Drop an event that was cancelled or deleted. */
+    public void remove(int eventId) {
+        AfterCommit.run(() -> removeSlot(eventId));
+    }
+
+    public void rsvped(long userId, int eventId) {
+        AfterCommit.run(() -> addRsvp(userId, eventId));
+    }
+
+    public void rsvpCancelled(long userId, int eventId) {
+        AfterCommit.run(() -> removeRsvp(userId, eventId));
+    }
+
+    @Override
+    protected State load() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, EventSlot> slots = new HashMap<>();
+        Map<String, List<IntervalTree.Interval>> venues = new HashMap<>();
+        for (EventSlot slot : eventRepository.findUpcomingSlots(now)) {
+            slots.put(slot.event_id(), slot);
+            String venue = venueKey(slot.location());
+            if (venue != null) {
+                venues.computeIfAbsent(venue, k -> new ArrayList<>()).add(interval(slot));
+            }
+        }
+        Map<Long, IntervalTree> byUser = new ConcurrentHashMap<>();
+        Map<Integer, Set<Long>> usersOfEvent = new ConcurrentHashMap<>();
+        eventRepository.findUpcomingRsvpEventIds(now).forEach((userId, eventIds) -> {
+            List<IntervalTree.Interval> intervals = new ArrayList<>();
+            for (int eventId : eventIds) {
+                usersOfEvent.computeIfAbsent(eventId, k -> new HashSet<>()).add(userId);
+                EventSlot slot = slots.get(eventId);
+                if (slot != null) {
+                    intervals.add(interval(slot));
+                }
+            }
+            byUser.put(userId, IntervalTree.of(intervals));
+        });
+        Map<String, IntervalTree> byVenue = new ConcurrentHashMap<>();
+        venues.forEach((venue, intervals) -> byVenue.put(venue, IntervalTree.of(intervals)));
+        logger.debug("Schedule clash index holds {} events at {} venues for {} users",
+                     slots.size(), byVenue.size(), byUser.size());
+        return new State(new ConcurrentHashMap<>(slots), byVenue, byUser, usersOfEvent);
+    }
+
+    private synchronized void apply(EventSlot slot) {
+        State s = current();
+        removeFromVenue(s, s.slots().get(slot.event_id()));
+        s.slots().put(slot.event_id(), slot);
+        String venue = venueKey(slot.location());
+        if (venue != null) {
+            s.byVenue().compute(venue, (k, tree) -> (tree == null ? IntervalTree.EMPTY : tree).with(interval(slot)));
+        }
+        // People already going see the new time in their own schedule
+        for (long userId : s.usersOfEvent().getOrDefault(slot.event_id(), Set.of())) {
+            s.byUser().compute(userId, (k, tree) -> (tree == null ? IntervalTree.EMPTY : tree).with(interval(slot)));
+        }
+    }
+
+    private synchronized void removeSlot(int eventId) {
+        State s = current();
+        removeFromVenue(s, s.slots().remove(eventId));
+        for (long userId : s.usersOfEvent().getOrDefault(eventId, Set.of())) {
+            s.byUser().computeIfPresent(userId, (k, tree) -> tree.without(eventId));
+        }
+    }
+
+    private synchronized void addRsvp(long userId, int eventId) {
+        State s = current();
+        s.usersOfEvent().computeIfAbsent(eventId, k -> new HashSet<>()).add(userId);
+        EventSlot slot = s.slots().get(eventId);
+        if (slot != null) {
+            s.byUser().compute(userId, (k, tree) -> (tree == null ? IntervalTree.EMPTY : tree).with(interval(slot)));
+        }
+    }
+
+    private synchronized void removeRsvp(long userId, int eventId) {
+        State s = current();
+        Set<Long> users = s.usersOfEvent().get(eventId);
+        if (users != null) {
+            users.remove(userId);
+        }
+        s.byUser().computeIfPresent(userId, (k, tree) -> {
+            IntervalTree rest = tree.without(eventId);
+            return rest.size() == 0 ? null : rest;
+        });
+    }
+
+    private static void removeFromVenue(State s, EventSlot old) {
+        if (old == null) {
+            return;
+        }
+        String venue = venueKey(old.location());
+        if (venue != null) {
+            s.byVenue().computeIfPresent(venue, (k, tree) -> {
+                IntervalTree rest = tree.without(old.event_id());
+                return rest.size() == 0 ? null : rest;
+            });
+        }
+    }
+
+    private static IntervalTree.Interval interval(EventSlot slot) {
+        return new IntervalTree.Interval(slot.event_id(), seconds(slot.start_at()), seconds(slot.end_at()));
+    }
+
+    private static long seconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // "Building 80,  Level 7" and "building 80, level 7" are the same room
+    private static String venueKey(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return location.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,87 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Collapses concurrent identical reads into one: while a call for a key is in flight, other
+ * callers for the same key wait for its result instead of running the query again. Nothing is
+ * kept once the call returns, so results are never staler than the query that produced them.
+ *
+ * Calls made inside a transaction always run on their own, since they may need to see writes
+ * the leader's connection cannot. Results are handed to every waiting caller, so flights should
+ * return immutable values.
+ */
+@Component
+public class SingleFlight {
+
+    private record Key(String flight, Object arguments) {
+    }
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** Run {@code call}, or wait for the identical call already running for {@code flight} and {@code arguments}. */
+    @SuppressWarnings("unchecked")
+    public <T> T run(String flight, Object arguments, Supplier<T> call) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            count(flight, "bypassed");
+            return call.get();
+        }
+        Key key = new Key(flight, arguments);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            count(flight, "coalesced");
+            return (T) await(running);
+        }
+        count(flight, "executed");
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // Followers see the leader's own exception, as if they had run the query themselves
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private void count(String flight, String outcome) {
+        Counter.builder("eventhub.singleflight.calls")
+            .tag("flight", flight)
+            .tag("outcome", outcome)
+            .description("Reads that ran, joined an identical read already in flight, or bypassed coalescing")
+            .register(meterRegistry)
+            .increment();
+    }
+}
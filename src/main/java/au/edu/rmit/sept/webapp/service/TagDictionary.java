@@ -0,0 +1,112 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.model.Tags;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+
+/**
+ * In-memory copy of the Tags table, keyed by lower-cased name (tag_name is UNIQUE under a
+ * case-insensitive collation). Reads are served from an immutable snapshot; a miss creates
+ * the tag in its own short transaction, without holding this object's lock, and adds it.
+ * A periodic reload picks up tags created by other instances.
+ */
+@Component
+public class TagDictionary {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagDictionary.class);
+
+    private record Snapshot(Map<String, Tags> byName, List<Tags> sorted) {
+
+        static Snapshot of(List<Tags> tags) {
+            Map<String, Tags> byName = new HashMap<>();
+            for (Tags tag : tags) {
+                byName.putIfAbsent(key(tag.tag_name()), tag);
+            }
+            List<Tags> sorted = new ArrayList<>(byName.values());
+            sorted.sort(Comparator.comparing(Tags::tag_name, String.CASE_INSENSITIVE_ORDER));
+            return new Snapshot(Map.copyOf(byName), Collections.unmodifiableList(sorted));
+        }
+
+        Snapshot with(Tags tag) {
+            List<Tags> tags = new ArrayList<>(sorted);
+            tags.add(tag);
+            return of(tags);
+        }
+    }
+
+    private final EventRepository eventRepository;
+    private volatile Snapshot snapshot;
+
+    public TagDictionary(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /** All tags ordered by name, as /browse shows them. */
+    public List<Tags> all() {
+        return current().sorted();
+    }
+
+    /** Id of the tag with this name, creating the tag if nobody has used it yet. */
+    public int idFor(String tagName) {
+        Tags known = current().byName().get(key(tagName));
+        if (known != null) {
+            return known.tag_id();
+        }
+        // Committed by the repository in its own transaction, so it is safe to cache right away.
+        // No lock is held here: two requests racing on a new name both end up with the same id.
+        int tagId = eventRepository.findOrCreateTag(tagName);
+        add(new Tags(tagId, tagName));
+        return tagId;
+    }
+
+    @Scheduled(fixedDelayString = "${app.tags.refresh-ms:300000}",
+               initialDelayString = "${app.tags.refresh-ms:300000}")
+    public void refresh() {
+        try {
+            snapshot = Snapshot.of(eventRepository.findAllTags());
+        } catch (DataAccessException e) {
+            logger.warn("Could not reload the tag dictionary, keeping the current copy", e);
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            // Load outside the lock; if two threads race, the first copy wins
+            Snapshot loaded = Snapshot.of(eventRepository.findAllTags());
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = loaded;
+                }
+                s = snapshot;
+            }
+        }
+        return s;
+    }
+
+    private void add(Tags tag) {
+        current();
+        synchronized (this) {
+            if (!snapshot.byName().containsKey(key(tag.tag_name()))) {
+                snapshot = snapshot.with(tag);
+            }
+        }
+    }
+
+    private static String key(String tagName) {
+        return tagName.trim().toLowerCase(Locale.ROOT);
+    }
+}
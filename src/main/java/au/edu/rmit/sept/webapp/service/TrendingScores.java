@@ -0,0 +1,226 @@
+package au.edu.rmit.sept.webapp.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import au.edu.rmit.sept.webapp.model.Event_Trending_Score;
+import au.edu.rmit.sept.webapp.repository.TrendingScoreRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Exponentially time-decayed engagement score per event: RSVPs and check-ins add to it, cancelled
+ * RSVPs take away, and every contribution halves in weight each {@code app.trending.half-life-hours}.
+ *
+ * Uses forward decay: a contribution at time t is held as {@code weight * e^(λ(t - landmark))},
+ * so recording is one {@link ConcurrentHashMap#merge} with no sweep over older scores, and the
+ * ranking never changes between updates (every value shares the same {@code e^(-λ(now - landmark))}
+ * factor). Each checkpoint moves the landmark up to its own time and rescales what is held, so
+ * held values grow by at most one checkpoint interval's worth instead of e^(λ·uptime).
+ *
+ * Event_Trending_Scores is the shared total. Each instance only keeps the contributions it has not
+ * written yet; every checkpoint adds those to the table (decaying the stored score first) and
+ * reads the table back, so all instances converge on the same scores and a restart loses at most
+ * one checkpoint interval.
+ */
+@Component
+public class TrendingScores {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingScores.class);
+
+    static final double RSVP_WEIGHT = 1.0;
+    static final double CANCEL_WEIGHT = -1.0;
+    static final double CHECK_IN_WEIGHT = 0.5;
+    /** Decayed scores below this are dropped at checkpoint time. */
+    private static final double MIN_SCORE = 0.01;
+
+    private final TrendingScoreRepository repository;
+    private final double decayPerSecond;
+    /** Held for reading by anything that uses the landmark, for writing while moving it. */
+    private final ReadWriteLock rebase = new ReentrantReadWriteLock();
+    private long landmark = now();
+    /** Forward-decayed totals as last read from the table. */
+    private volatile Map<Integer, Double> stored = Map.of();
+    /** Forward-decayed contributions recorded here since the last checkpoint. */
+    private final Map<Integer, Double> pending = new ConcurrentHashMap<>();
+
+    public TrendingScores(TrendingScoreRepository repository,
+                          @Value("${app.trending.half-life-hours:24}") double halfLifeHours) {
+        this.repository = repository;
+        this.decayPerSecond = Math.log(2) / (halfLifeHours * 3600);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            load();
+        } catch (DataAccessException e) {
+            logger.warn("Could not load checkpointed trending scores; starting cold", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.checkpoint-ms:60000}",
+               initialDelayString = "${app.trending.checkpoint-ms:60000}")
+    public void checkpoint() {
+        try {
+            checkpoint(now());
+        } catch (DataAccessException e) {
+            logger.warn("Could not checkpoint trending scores", e);
+        }
+    }
+
+    @PreDestroy
+    public void flush() {
+        checkpoint();
+    }
+
+    public void rsvped(int eventId) {
+        record(eventId, RSVP_WEIGHT, now());
+    }
+
+    public void rsvpCancelled(int eventId) {
+        record(eventId, CANCEL_WEIGHT, now());
+    }
+
+    public void checkedIn(int eventId) {
+        record(eventId, CHECK_IN_WEIGHT, now());
+    }
+
+    /** The {@code k} highest-scoring events accepted by {@code eligible}, best first. */
+    public List<Integer> top(int k, IntPredicate eligible) {
+        if (k <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Map.Entry<Integer, Double>> best = new PriorityQueue<>(k + 1, Map.Entry.comparingByValue());
+        Lock lock = rebase.readLock();
+        lock.lock();
+        try {
+            Map<Integer, Double> totals = stored;
+            for (Map.Entry<Integer, Double> e : totals.entrySet()) {
+                offer(best, k, e.getKey(), e.getValue() + pending.getOrDefault(e.getKey(), 0.0), eligible);
+            }
+            for (Map.Entry<Integer, Double> e : pending.entrySet()) {
+                if (!totals.containsKey(e.getKey())) {
+                    offer(best, k, e.getKey(), e.getValue(), eligible);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        List<Integer> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ids.add(best.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private static void offer(PriorityQueue<Map.Entry<Integer, Double>> best, int k,
+                              int eventId, double value, IntPredicate eligible) {
+        if (value <= 0 || !eligible.test(eventId)) {
+            return;
+        }
+        if (best.size() < k) {
+            best.add(Map.entry(eventId, value));
+        } else if (value > best.peek().getValue()) {
+            best.poll();
+            best.add(Map.entry(eventId, value));
+        }
+    }
+
+    /** Current decayed score of one event; 0 when it has none. */
+    public double score(int eventId) {
+        return decayed(eventId, now());
+    }
+
+    void record(int eventId, double weight, long epochSecond) {
+        Lock lock = rebase.readLock();
+        lock.lock();
+        try {
+            pending.merge(eventId, weight * Math.exp(decayPerSecond * (epochSecond - landmark)), Double::sum);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double decayed(int eventId, long epochSecond) {
+        Lock lock = rebase.readLock();
+        lock.lock();
+        try {
+            double forward = stored.getOrDefault(eventId, 0.0) + pending.getOrDefault(eventId, 0.0);
+            return forward * Math.exp(-decayPerSecond * (epochSecond - landmark));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    synchronized void checkpoint(long epochSecond) {
+        LocalDateTime checkpointAt = toDateTime(epochSecond);
+        // Take this checkpoint's contributions and move the landmark up to now in one step, so
+        // nothing is recorded against one landmark and read against the other
+        Map<Integer, Double> drained = new HashMap<>();
+        Lock lock = rebase.writeLock();
+        lock.lock();
+        try {
+            long moveTo = Math.max(landmark, epochSecond);
+            double rescale = Math.exp(-decayPerSecond * (moveTo - landmark));
+            pending.forEach((eventId, value) -> drained.put(eventId, value * rescale));
+            pending.clear();
+            Map<Integer, Double> rebased = new HashMap<>();
+            stored.forEach((eventId, value) -> rebased.put(eventId, value * rescale));
+            stored = rebased;
+            landmark = moveTo;
+        } finally {
+            lock.unlock();
+        }
+        double toNow = Math.exp(-decayPerSecond * (epochSecond - landmark));
+        List<Event_Trending_Score> deltas = new ArrayList<>(drained.size());
+        drained.forEach((eventId, value) -> deltas.add(new Event_Trending_Score(eventId, value * toNow, checkpointAt)));
+        try {
+            repository.addAll(deltas, decayPerSecond);
+        } catch (DataAccessException e) {
+            drained.forEach((eventId, value) -> pending.merge(eventId, value, Double::sum));
+            throw e;
+        }
+        int stale = repository.deleteBelow(MIN_SCORE, decayPerSecond, checkpointAt);
+        load();
+        logger.debug("Checkpointed {} trending deltas, removed {} stale rows", deltas.size(), stale);
+    }
+
+    private synchronized void load() {
+        Map<Integer, Double> loaded = new HashMap<>();
+        for (Event_Trending_Score row : repository.findAll()) {
+            long scoredAt = row.scored_at().atZone(ZoneId.systemDefault()).toEpochSecond();
+            loaded.put(row.event_id(), row.score() * Math.exp(decayPerSecond * (scoredAt - landmark)));
+        }
+        stored = loaded;
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+}
@@ -49,4 +49,9 @@ public interface UserService {
     Integer getOrganiserIdByUserId(int userId);
 
     void assignUserRole(int userId, int roleId);
+
+    // Daily digest email instead of one email per reminder/new-event notification
+    boolean isEmailDigest(int userId);
+
+    void setEmailDigest(int userId, boolean digest);
 }
\ No newline at end of file
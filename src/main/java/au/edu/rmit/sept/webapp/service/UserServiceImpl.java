@@ -3,9 +3,8 @@ package au.edu.rmit.sept.webapp.service;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import au.edu.rmit.sept.webapp.model.Organiser_Profile;
 import au.edu.rmit.sept.webapp.model.Student_Profile;
@@ -18,12 +17,15 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final OrganiserRepository organiserRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final InterestIndex interestIndex;
 
-    public UserServiceImpl(UserRepository userRepository, OrganiserRepository organiserRepository) {
+    public UserServiceImpl(UserRepository userRepository, OrganiserRepository organiserRepository,
+                           PasswordHasher passwordHasher, InterestIndex interestIndex) {
         this.userRepository = userRepository;
         this.organiserRepository = organiserRepository;
-        this.passwordEncoder = new BCryptPasswordEncoder();
+        this.passwordHasher = passwordHasher;
+        this.interestIndex = interestIndex;
     }
 
     @Override
@@ -58,7 +60,12 @@ public class UserServiceImpl implements UserService {
         if (userOpt.isPresent()) {
             User user = userOpt.get();
             String storedHash = user.password_hash();
-            if (storedHash != null && passwordEncoder.matches(password, storedHash)) {
+            if (storedHash != null && passwordHasher.matches(password, storedHash)) {
+                // Bring hashes made at an older cost up to the configured one
+                if (passwordHasher.needsRehash(storedHash)) {
+                    passwordHasher.rehashInBackground(password,
+                        newHash -> userRepository.updatePassword(user.user_id(), newHash));
+                }
                 return user;
             }
         }
@@ -68,7 +75,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public User register(String username, String password) {
         // Hash the password before saving
-        String hashed = passwordEncoder.encode(password);
+        String hashed = passwordHasher.encode(password);
         User newUser = userRepository.register(username, hashed);
         
         // Assign default STUDENT role (role_id = 1) to new user
@@ -82,14 +89,17 @@ public class UserServiceImpl implements UserService {
     @Override
     public void saveUser(int id, String name, String course, String interest) {
         userRepository.saveUserData(id, name, course, interest);
+        interestIndex.profileSaved(id, interest);
     }
 
     @Override
     public void updateUser(int id, String name, String course, String interest){
         userRepository.updateUserData(id, name, course, interest);
+        interestIndex.profileSaved(id, interest);
     }
 
     @Override
+    @Transactional
     public void deleteProfile(int id) {
         organiserRepository.deleteOrganiserData(id);
         userRepository.deleteProfileData(id);
@@ -102,7 +112,7 @@ public class UserServiceImpl implements UserService {
     }
     public void updatePassword(int id, String newPassword) {
         // Hash plaintext password and delegate to repository
-        String hashed = passwordEncoder.encode(newPassword);
+        String hashed = passwordHasher.encode(newPassword);
         userRepository.updatePassword(id, hashed);
     }
 
@@ -160,5 +170,15 @@ public class UserServiceImpl implements UserService {
         userRepository.assignUserRole(userId, roleId);
     }
 
+    @Override
+    public boolean isEmailDigest(int userId) {
+        return userRepository.isEmailDigest(userId);
+    }
+
+    @Override
+    public void setEmailDigest(int userId, boolean digest) {
+        userRepository.updateEmailDigest(userId, digest);
+    }
+
 
 }
\ No newline at end of file
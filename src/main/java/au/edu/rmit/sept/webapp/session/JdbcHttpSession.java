@@ -0,0 +1,161 @@
+package au.edu.rmit.sept.webapp.session;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * HttpSession held by {@link SessionStore}. Tracks whether its attributes changed
+ * during the request so the store only rewrites the row when it has to.
+ */
+class JdbcHttpSession implements HttpSession {
+
+    private final String id;
+    private final long creationTime;
+    private final ServletContext servletContext;
+    private final Map<String, Object> attributes;
+
+    private volatile long lastAccessedTime;
+    private volatile int maxInactiveInterval;
+    private volatile boolean isNew;
+    private volatile boolean dirty;
+    private volatile boolean invalidated;
+
+    JdbcHttpSession(String id, long creationTime, long lastAccessedTime, int maxInactiveInterval,
+                    Map<String, Object> attributes, ServletContext servletContext, boolean isNew) {
+        this.id = id;
+        this.creationTime = creationTime;
+        this.lastAccessedTime = lastAccessedTime;
+        this.maxInactiveInterval = maxInactiveInterval;
+        this.attributes = new ConcurrentHashMap<>();
+        // ConcurrentHashMap can't hold nulls; a null attribute is the same as no attribute
+        attributes.forEach((name, value) -> {
+            if (value != null) {
+                this.attributes.put(name, value);
+            }
+        });
+        this.servletContext = servletContext;
+        this.isNew = isNew;
+        this.dirty = isNew;
+    }
+
+    @Override
+    public long getCreationTime() {
+        checkValid();
+        return creationTime;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public long getLastAccessedTime() {
+        checkValid();
+        return lastAccessedTime;
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(int interval) {
+        maxInactiveInterval = interval;
+        dirty = true;
+    }
+
+    @Override
+    public int getMaxInactiveInterval() {
+        return maxInactiveInterval;
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        checkValid();
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        checkValid();
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        checkValid();
+        if (value == null) {
+            removeAttribute(name);
+            return;
+        }
+        attributes.put(name, value);
+        dirty = true;
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        checkValid();
+        if (attributes.remove(name) != null) {
+            dirty = true;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        checkValid();
+        invalidated = true;
+        attributes.clear();
+    }
+
+    @Override
+    public boolean isNew() {
+        checkValid();
+        return isNew;
+    }
+
+    long lastAccessedTime() {
+        return lastAccessedTime;
+    }
+
+    void access(long now) {
+        lastAccessedTime = now;
+        isNew = false;
+    }
+
+    boolean isExpired(long now) {
+        return maxInactiveInterval > 0 && now - lastAccessedTime >= maxInactiveInterval * 1000L;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void markClean() {
+        dirty = false;
+    }
+
+    void markDirty() {
+        dirty = true;
+    }
+
+    boolean isInvalidated() {
+        return invalidated;
+    }
+
+    Map<String, Object> attributes() {
+        return attributes;
+    }
+
+    private void checkValid() {
+        if (invalidated) {
+            throw new IllegalStateException("Session " + id + " has been invalidated");
+        }
+    }
+}
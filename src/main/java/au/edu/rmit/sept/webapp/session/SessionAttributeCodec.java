@@ -0,0 +1,236 @@
+package au.edu.rmit.sept.webapp.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import au.edu.rmit.sept.webapp.dto.SessionIdentity;
+import au.edu.rmit.sept.webapp.model.Organiser_Profile;
+import au.edu.rmit.sept.webapp.model.Student_Profile;
+import au.edu.rmit.sept.webapp.model.User;
+
+/**
+ * Compact binary encoding of session attributes. The login attributes (user, ids, role,
+ * profiles, identity) get a one-byte tag and their raw fields; anything else falls back
+ * to Java serialization. Attributes that can't be encoded are treated as node-local
+ * caches and left out, so they are rebuilt on whichever replica needs them.
+ */
+final class SessionAttributeCodec {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionAttributeCodec.class);
+
+    private static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte USER = 5;
+    private static final byte ORGANISER_PROFILE = 6;
+    private static final byte STUDENT_PROFILE = 7;
+    private static final byte SESSION_IDENTITY = 8;
+    private static final byte SERIALIZED = 9;
+
+    private SessionAttributeCodec() {
+    }
+
+    static byte[] encode(Map<String, Object> attributes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                byte[] value = encodeValue(attribute.getValue());
+                if (value == null) {
+                    logger.debug("Session attribute '{}' is not encodable, keeping it node-local", attribute.getKey());
+                    continue;
+                }
+                writeString(out, attribute.getKey());
+                out.write(value);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to encode session attributes", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Map<String, Object> decode(byte[] data) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        if (data == null || data.length == 0) {
+            return attributes;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readByte() != VERSION) {
+                logger.warn("Discarding session attributes written in an unknown format");
+                return attributes;
+            }
+            while (in.available() > 0) {
+                String name = readString(in);
+                attributes.put(name, readValue(in));
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            logger.warn("Discarding unreadable session attributes: {}", e.getMessage());
+            attributes.clear();
+        }
+        return attributes;
+    }
+
+    private static byte[] encodeValue(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(STRING);
+            writeString(out, s);
+        } else if (value instanceof Integer i) {
+            out.writeByte(INTEGER);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(LONG);
+            out.writeLong(l);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof User u) {
+            out.writeByte(USER);
+            out.writeInt(u.user_id());
+            writeString(out, u.email());
+            writeString(out, u.password_hash());
+            writeDateTime(out, u.created_at());
+            writeString(out, u.status());
+        } else if (value instanceof Organiser_Profile o) {
+            out.writeByte(ORGANISER_PROFILE);
+            out.writeInt(o.organiser_id());
+            out.writeInt(o.user_id());
+            out.writeInt(o.club_id());
+            writeString(out, o.role_title());
+        } else if (value instanceof Student_Profile p) {
+            out.writeByte(STUDENT_PROFILE);
+            out.writeInt(p.user_id());
+            writeString(out, p.name());
+            writeString(out, p.course());
+            writeString(out, p.interest());
+        } else if (value instanceof SessionIdentity id) {
+            out.writeByte(SESSION_IDENTITY);
+            out.writeInt(id.userId());
+            writeString(out, id.email());
+            writeString(out, id.displayName());
+            writeString(out, id.role());
+            writeNullableInt(out, id.organiserId());
+            writeNullableInt(out, id.clubId());
+        } else if (value instanceof Serializable) {
+            byte[] serialized;
+            try {
+                ByteArrayOutputStream objectBytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(objectBytes)) {
+                    oos.writeObject(value);
+                }
+                serialized = objectBytes.toByteArray();
+            } catch (IOException e) {
+                // e.g. a flash map holding a non-serializable form object
+                return null;
+            }
+            out.writeByte(SERIALIZED);
+            out.writeInt(serialized.length);
+            out.write(serialized);
+        } else {
+            return null;
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException, ClassNotFoundException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case BOOLEAN:
+                return in.readBoolean();
+            case USER:
+                return new User(in.readInt(), readString(in), readString(in), readDateTime(in), readString(in));
+            case ORGANISER_PROFILE:
+                return new Organiser_Profile(in.readInt(), in.readInt(), in.readInt(), readString(in));
+            case STUDENT_PROFILE:
+                return new Student_Profile(in.readInt(), readString(in), readString(in), readString(in));
+            case SESSION_IDENTITY:
+                return new SessionIdentity(in.readInt(), readString(in), readString(in), readString(in),
+                                           readNullableInt(in), readNullableInt(in));
+            case SERIALIZED:
+                byte[] serialized = new byte[in.readInt()];
+                in.readFully(serialized);
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+                    return ois.readObject();
+                }
+            default:
+                throw new IOException("Unknown session attribute tag " + tag);
+        }
+    }
+
+    // Strings are length-prefixed UTF-8; -1 marks null
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readNullableInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,157 @@
+package au.edu.rmit.sept.webapp.session;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Swaps the container's HttpSession for one backed by {@link SessionStore}. Controllers
+ * keep calling request.getSession() as before; the session cookie just points at a row
+ * in Http_Sessions instead of memory on one pod.
+ */
+public class SessionRepositoryFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionRepositoryFilter.class);
+
+    private final SessionStore sessionStore;
+    private final String cookieName;
+
+    public SessionRepositoryFilter(SessionStore sessionStore, String cookieName) {
+        this.sessionStore = sessionStore;
+        this.cookieName = cookieName;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SessionRequestWrapper wrapped = new SessionRequestWrapper(request, response);
+        try {
+            chain.doFilter(wrapped, response);
+        } finally {
+            wrapped.commitSessions();
+        }
+    }
+
+    private final class SessionRequestWrapper extends HttpServletRequestWrapper {
+
+        private final HttpServletResponse response;
+        // Every session this request touched, including ones it invalidated or renamed
+        private final List<JdbcHttpSession> sessions = new ArrayList<>();
+        private JdbcHttpSession current;
+        private boolean requestedSessionLoaded;
+        private boolean requestedSessionValid;
+
+        SessionRequestWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(request);
+            this.response = response;
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            if (current != null && !current.isInvalidated()) {
+                return current;
+            }
+            if (!requestedSessionLoaded) {
+                requestedSessionLoaded = true;
+                String requestedId = getRequestedSessionId();
+                if (requestedId != null) {
+                    current = sessionStore.findById(requestedId, getServletContext());
+                    if (current != null) {
+                        requestedSessionValid = true;
+                        sessions.add(current);
+                        return current;
+                    }
+                }
+            }
+            if (!create) {
+                return null;
+            }
+            current = sessionStore.createSession(getServletContext());
+            sessions.add(current);
+            writeCookie(current.getId());
+            return current;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        @Override
+        public String changeSessionId() {
+            HttpSession session = getSession(false);
+            if (session == null) {
+                throw new IllegalStateException("No session to change the id of");
+            }
+            current = sessionStore.changeSessionId(current, getServletContext());
+            sessions.add(current);
+            writeCookie(current.getId());
+            return current.getId();
+        }
+
+        @Override
+        public String getRequestedSessionId() {
+            Cookie[] cookies = getCookies();
+            if (cookies == null) {
+                return null;
+            }
+            for (Cookie cookie : cookies) {
+                if (cookieName.equals(cookie.getName()) && cookie.getValue() != null && !cookie.getValue().isBlank()) {
+                    return cookie.getValue();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            getSession(false);
+            return requestedSessionValid && current != null && !current.isInvalidated();
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromCookie() {
+            return getRequestedSessionId() != null;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromURL() {
+            return false;
+        }
+
+        private void writeCookie(String sessionId) {
+            if (response.isCommitted()) {
+                logger.warn("Session {} created after the response was committed; cookie not sent", sessionId);
+                return;
+            }
+            Cookie cookie = new Cookie(cookieName, sessionId);
+            String contextPath = getContextPath();
+            cookie.setPath(contextPath == null || contextPath.isEmpty() ? "/" : contextPath);
+            cookie.setHttpOnly(true);
+            cookie.setSecure(isSecure());
+            response.addCookie(cookie);
+        }
+
+        void commitSessions() {
+            for (JdbcHttpSession session : sessions) {
+                try {
+                    sessionStore.commit(session);
+                } catch (RuntimeException e) {
+                    logger.error("Failed to persist session {}: {}", session.getId(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package au.edu.rmit.sept.webapp.session;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import au.edu.rmit.sept.webapp.model.Http_Session;
+import au.edu.rmit.sept.webapp.repository.SessionRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.ServletContext;
+
+/**
+ * Sessions persisted in MySQL so any replica can serve any request, with a short-lived
+ * local near-cache in front of the table. Only sessions whose attributes changed are
+ * rewritten at the end of a request; plain access-time bumps are coalesced and written
+ * in batches, and expired rows are removed in bulk.
+ */
+public class SessionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionStore.class);
+
+    private final SessionRepository sessionRepository;
+    private final int defaultMaxInactiveSeconds;
+    private final long nearCacheTtlMillis;
+    private final long touchIntervalMillis;
+    private final int cleanupBatchSize;
+
+    private final Map<String, CachedSession> nearCache = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingTouches = new ConcurrentHashMap<>();
+
+    // persistedAccess is the last_access_time currently in the table
+    private record CachedSession(JdbcHttpSession session, long loadedAt, long persistedAccess) {}
+
+    public SessionStore(SessionRepository sessionRepository, int defaultMaxInactiveSeconds,
+                        long nearCacheTtlMillis, long touchIntervalMillis, int cleanupBatchSize) {
+        this.sessionRepository = sessionRepository;
+        this.defaultMaxInactiveSeconds = defaultMaxInactiveSeconds;
+        this.nearCacheTtlMillis = nearCacheTtlMillis;
+        this.touchIntervalMillis = touchIntervalMillis;
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    JdbcHttpSession createSession(ServletContext servletContext) {
+        long now = System.currentTimeMillis();
+        return new JdbcHttpSession(UUID.randomUUID().toString(), now, now, defaultMaxInactiveSeconds,
+                                   Map.of(), servletContext, true);
+    }
+
+    /**
+     * Copy a session's attributes under a fresh id; the old session is invalidated and
+     * removed when it is committed. The copy has no row yet, so it starts dirty and is
+     * inserted by the same commit.
+     */
+    JdbcHttpSession changeSessionId(JdbcHttpSession session, ServletContext servletContext) {
+        long now = System.currentTimeMillis();
+        JdbcHttpSession renamed = new JdbcHttpSession(UUID.randomUUID().toString(), session.getCreationTime(), now,
+                                                      session.getMaxInactiveInterval(), session.attributes(),
+                                                      servletContext, false);
+        renamed.markDirty();
+        session.invalidate();
+        return renamed;
+    }
+
+    /**
+     * Look a session up by id, near-cache first. Returns null for unknown or expired ids.
+     */
+    JdbcHttpSession findById(String sessionId, ServletContext servletContext) {
+        long now = System.currentTimeMillis();
+        CachedSession cached = nearCache.get(sessionId);
+        JdbcHttpSession session;
+        if (cached != null && now - cached.loadedAt() < nearCacheTtlMillis && !cached.session().isInvalidated()) {
+            session = cached.session();
+        } else {
+            Optional<Http_Session> row = sessionRepository.findById(sessionId);
+            if (row.isEmpty() || row.get().expiry_time() <= now) {
+                nearCache.remove(sessionId);
+                return null;
+            }
+            Http_Session stored = row.get();
+            session = new JdbcHttpSession(stored.session_id(), stored.creation_time(), stored.last_access_time(),
+                                          stored.max_inactive_interval(),
+                                          SessionAttributeCodec.decode(stored.attributes()),
+                                          servletContext, false);
+            nearCache.put(sessionId, new CachedSession(session, now, stored.last_access_time()));
+        }
+
+        if (session.isExpired(now)) {
+            nearCache.remove(sessionId);
+            pendingTouches.remove(sessionId);
+            sessionRepository.deleteById(sessionId);
+            return null;
+        }
+        session.access(now);
+        return session;
+    }
+
+    /**
+     * Persist whatever the request did to the session: delete it, rewrite it, or queue
+     * an access-time bump for the next batch.
+     */
+    void commit(JdbcHttpSession session) {
+        String id = session.getId();
+        if (session.isInvalidated()) {
+            nearCache.remove(id);
+            pendingTouches.remove(id);
+            sessionRepository.deleteById(id);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (session.isDirty()) {
+            long lastAccess = session.lastAccessedTime();
+            int maxInactive = session.getMaxInactiveInterval();
+            sessionRepository.save(new Http_Session(
+                id,
+                session.getCreationTime(),
+                lastAccess,
+                maxInactive,
+                expiryTime(lastAccess, maxInactive),
+                SessionAttributeCodec.encode(session.attributes())
+            ));
+            session.markClean();
+            pendingTouches.remove(id);
+            nearCache.put(id, new CachedSession(session, now, lastAccess));
+            return;
+        }
+
+        CachedSession cached = nearCache.get(id);
+        long persistedAccess = cached != null ? cached.persistedAccess() : 0L;
+        if (session.lastAccessedTime() - persistedAccess >= touchIntervalMillis) {
+            pendingTouches.merge(id, session.lastAccessedTime(), Math::max);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.session.jdbc.flush-interval-ms:1000}")
+    public void flushTouches() {
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+        Map<String, Long> batch = new HashMap<>();
+        Iterator<Map.Entry<String, Long>> it = pendingTouches.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Long> touch = it.next();
+            batch.put(touch.getKey(), touch.getValue());
+            it.remove();
+        }
+        try {
+            sessionRepository.touchAll(batch);
+        } catch (RuntimeException e) {
+            // Put them back; a newer touch for the same session wins
+            batch.forEach((id, time) -> pendingTouches.merge(id, time, Math::max));
+            logger.warn("Failed to write {} session access time(s): {}", batch.size(), e.getMessage());
+            return;
+        }
+        batch.forEach((id, time) -> nearCache.computeIfPresent(id,
+            (key, cached) -> new CachedSession(cached.session(), cached.loadedAt(), Math.max(time, cached.persistedAccess()))));
+    }
+
+    @Scheduled(fixedDelayString = "${app.session.jdbc.cleanup-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        nearCache.values().removeIf(cached -> cached.session().isExpired(now)
+                                              || now - cached.loadedAt() >= nearCacheTtlMillis);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = sessionRepository.deleteExpired(now, cleanupBatchSize);
+            total += deleted;
+        } while (deleted == cleanupBatchSize);
+        if (total > 0) {
+            logger.info("Removed {} expired session(s)", total);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushTouches();
+    }
+
+    int nearCacheSize() {
+        return nearCache.size();
+    }
+
+    int pendingTouchCount() {
+        return pendingTouches.size();
+    }
+
+    private static long expiryTime(long lastAccess, int maxInactiveSeconds) {
+        return maxInactiveSeconds > 0 ? lastAccess + maxInactiveSeconds * 1000L : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,10 @@
+-- V10__create_event_trending_scores.sql
+-- Periodic checkpoint of the in-memory trending scores so a restart starts warm.
+-- score is the decayed value as of scored_at; rows not rewritten by the latest checkpoint are stale.
+
+CREATE TABLE IF NOT EXISTS Event_Trending_Scores (
+    event_id INT NOT NULL PRIMARY KEY,
+    score DOUBLE NOT NULL,
+    scored_at DATETIME NOT NULL,
+    FOREIGN KEY (event_id) REFERENCES Events(event_id) ON DELETE CASCADE
+);
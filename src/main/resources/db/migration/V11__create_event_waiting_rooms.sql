@@ -0,0 +1,10 @@
+-- V11__create_event_waiting_rooms.sql
+-- Events whose RSVPs go through the admission queue instead of straight to the RSVP table.
+-- admit_per_second is the drain rate each application instance applies to its own queue.
+
+CREATE TABLE IF NOT EXISTS Event_Waiting_Rooms (
+    event_id INT NOT NULL PRIMARY KEY,
+    admit_per_second INT NOT NULL,
+    opened_at DATETIME NOT NULL,
+    FOREIGN KEY (event_id) REFERENCES Events(event_id) ON DELETE CASCADE
+);
@@ -0,0 +1,19 @@
+-- V12__add_notification_indexes_and_archive.sql
+-- Unread lists and counts filter on user_id and read_at IS NULL and page by created_at;
+-- InnoDB appends notification_id to every secondary index, which breaks created_at ties.
+CREATE INDEX idx_notifications_user_read_created ON Notifications (user_id, read_at, created_at);
+-- The full history pages by created_at for one user, read or not
+CREATE INDEX idx_notifications_user_created ON Notifications (user_id, created_at);
+
+-- Read notifications past the retention window are moved here in small batches
+CREATE TABLE IF NOT EXISTS Notifications_Archive (
+    notification_id INT NOT NULL PRIMARY KEY,
+    user_id INT,
+    type VARCHAR(100),
+    title VARCHAR(255),
+    message TEXT,
+    link VARCHAR(500),
+    created_at TIMESTAMP NULL,
+    read_at TIMESTAMP NULL,
+    archived_at DATETIME NOT NULL
+);
@@ -0,0 +1,11 @@
+-- V13__add_email_digest.sql
+-- Students get reminders and new-event notices as one daily digest email unless they opt out.
+ALTER TABLE Users
+  ADD COLUMN email_digest BOOLEAN NOT NULL DEFAULT TRUE;
+
+-- Set once a notification has gone out in a digest; NULL means it is still waiting for one
+ALTER TABLE Notifications
+  ADD COLUMN emailed_at DATETIME NULL;
+
+-- Nothing stored before digests existed goes into the first one
+UPDATE Notifications SET emailed_at = created_at;
@@ -0,0 +1,11 @@
+-- V14__create_job_checkpoints.sql
+-- High-water marks for background jobs that work through rows in time order, so each run
+-- only looks at what is new since the last one.
+CREATE TABLE IF NOT EXISTS Job_Checkpoints (
+    job_name VARCHAR(100) NOT NULL PRIMARY KEY,
+    high_water DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL
+);
+
+-- The feedback prompt job selects events by when they finished
+CREATE INDEX idx_events_end_at ON Events (end_at);
@@ -0,0 +1,4 @@
+-- Finished events move from ACTIVE to COMPLETED in the background (EventLifecycle), so the
+-- ACTIVE slice of each index below only holds events that have not ended yet.
+-- The lifecycle job and the "not finished yet" readers filter on status equality plus end_at
+CREATE INDEX idx_events_status_end_at ON Events (status, end_at);
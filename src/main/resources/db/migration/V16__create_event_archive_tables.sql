@@ -0,0 +1,11 @@
+-- Cold tier for events that finished long ago (EventArchiver). LIKE copies columns and indexes
+-- but not foreign keys, so archived rows no longer pin Users or Organiser_Profile deletes.
+CREATE TABLE IF NOT EXISTS Events_Archive LIKE Events;
+ALTER TABLE Events_Archive ADD COLUMN archived_at DATETIME NULL;
+
+CREATE TABLE IF NOT EXISTS Event_Tags_Archive LIKE Event_Tags;
+CREATE TABLE IF NOT EXISTS RSVP_Archive LIKE RSVP;
+CREATE TABLE IF NOT EXISTS Attendance_Archive LIKE Attendance;
+
+-- A user's attended history reads RSVP_Archive by user
+CREATE INDEX idx_rsvp_archive_user ON RSVP_Archive (user_id);
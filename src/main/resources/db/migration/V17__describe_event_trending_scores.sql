@@ -0,0 +1,7 @@
+-- V10 described Event_Trending_Scores as rewritten by each checkpoint, with rows the latest
+-- checkpoint did not touch being stale. Checkpoints now add each instance's new contributions to
+-- the stored score instead, so a row is current as of its scored_at until the next contribution
+-- to that event. V10 can't be edited without changing its checksum, so the table carries the
+-- description instead.
+ALTER TABLE Event_Trending_Scores
+    COMMENT = 'Shared trending totals. score is the decayed value as of scored_at; checkpoints add to it, decaying it to their own time first. Rows that decay below the minimum are deleted.';
@@ -0,0 +1,13 @@
+-- V7__create_http_sessions.sql
+-- Shared HTTP session store so any replica can serve any logged-in user
+
+CREATE TABLE IF NOT EXISTS Http_Sessions (
+    session_id CHAR(36) NOT NULL PRIMARY KEY,
+    creation_time BIGINT NOT NULL,
+    last_access_time BIGINT NOT NULL,
+    max_inactive_interval INT NOT NULL,
+    expiry_time BIGINT NOT NULL,
+    attributes MEDIUMBLOB NOT NULL
+);
+
+CREATE INDEX idx_http_sessions_expiry ON Http_Sessions (expiry_time);
@@ -0,0 +1,18 @@
+-- Canonical start/end instants so upcoming/past filters are plain range scans.
+-- `date`, start_time and finish_time stay for existing readers; the repository writes all of them.
+ALTER TABLE Events
+  ADD COLUMN start_at DATETIME NULL,
+  ADD COLUMN end_at DATETIME NULL;
+
+UPDATE Events
+   SET start_at = TIMESTAMP(`date`, TIME(start_time)),
+       end_at   = CASE
+                    WHEN TIME(finish_time) < TIME(start_time)
+                      THEN TIMESTAMP(`date` + INTERVAL 1 DAY, TIME(finish_time))
+                    ELSE TIMESTAMP(`date`, TIME(finish_time))
+                  END;
+
+-- Listing pages filter on status equality plus a time range
+CREATE INDEX idx_events_status_start_at ON Events (status, start_at);
+-- Past/search pages exclude a status (status <> 'DELETED'), which only the time column can serve
+CREATE INDEX idx_events_start_at ON Events (start_at);
@@ -0,0 +1,5 @@
+-- Coordinates geocoded from the free-text location when an event is saved.
+-- NULL until the geocoder has resolved the location; such events are left out of "near me".
+ALTER TABLE Events
+  ADD COLUMN lat DOUBLE NULL,
+  ADD COLUMN lng DOUBLE NULL;
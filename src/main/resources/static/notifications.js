@@ -27,11 +27,13 @@ class NotificationManager {
         if (!this.userId) return;
 
         try {
-            const response = await fetch(`/api/notifications/${this.userId}/unread`);
+            // The dropdown shows the newest unread page; the badge count comes from its own query
+            const response = await fetch(`/api/notifications/${this.userId}/page?unread=true&size=20`);
             if (response.ok) {
-                this.notifications = await response.json();
-                this.unreadCount = this.notifications.length;
-                this.updateUI();
+                const page = await response.json();
+                this.notifications = page.notifications;
+                this.updateDropdown();
+                this.loadUnreadCount();
             }
         } catch (error) {
             console.error('Error loading notifications:', error);
@@ -0,0 +1,118 @@
+package au.edu.rmit.sept.webapp.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatWebServerFactoryCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.http.HttpServlet;
+
+class LoginThrottleFilterTest {
+
+    private LoginThrottleFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LoginThrottleFilter();
+        ReflectionTestUtils.setField(filter, "ipCapacity", 3);
+        ReflectionTestUtils.setField(filter, "ipRefillPerMinute", 1);
+        ReflectionTestUtils.setField(filter, "userCapacity", 2);
+        ReflectionTestUtils.setField(filter, "userRefillPerMinute", 1);
+    }
+
+    @Test
+    void login_SameAccountOverCapacity_Returns429() throws Exception {
+        assertEquals(200, login("10.0.0.1", "Ada@Example.com"));
+        assertEquals(200, login("10.0.0.2", "ada@example.com"));
+
+        // Third attempt for the same account, from yet another address
+        assertEquals(429, login("10.0.0.3", "ada@example.com"));
+    }
+
+    @Test
+    void login_SameIpOverCapacity_Returns429() throws Exception {
+        assertEquals(200, login("10.0.0.9", "a@example.com"));
+        assertEquals(200, login("10.0.0.9", "b@example.com"));
+        assertEquals(200, login("10.0.0.9", "c@example.com"));
+
+        assertEquals(429, login("10.0.0.9", "d@example.com"));
+    }
+
+    @Test
+    void otherRequests_AreNotThrottled() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/browse");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    @Test
+    void login_BehindTheLoadBalancer_IsKeyedOnTheForwardedClientIp() throws Exception {
+        // Tomcat set up the way application.properties configures the real server
+        Properties properties = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+        ServerProperties server = new Binder(new MapConfigurationPropertySource(properties))
+            .bind("server", ServerProperties.class).get();
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        new TomcatWebServerFactoryCustomizer(new MockEnvironment(), server).customize(factory);
+        WebServer webServer = factory.getWebServer(context -> {
+            context.addFilter("loginThrottle", filter).addMappingForUrlPatterns(null, false, "/*");
+            // Filters only run for requests mapped to a servlet
+            context.addServlet("login", new HttpServlet() {
+                private static final long serialVersionUID = 1L;
+            }).addMapping("/*");
+        });
+        webServer.start();
+        try {
+            String url = "http://127.0.0.1:" + webServer.getPort() + "/users/login";
+            // Every request reaches the app from the proxy's address, on behalf of different clients
+            for (int i = 1; i <= 4; i++) {
+                assertNotEquals(429, post(url, "203.0.113." + i, "user" + i + "@example.com"));
+            }
+            for (int i = 1; i <= 3; i++) {
+                assertNotEquals(429, post(url, "198.51.100.7", "other" + i + "@example.com"));
+            }
+            assertEquals(429, post(url, "198.51.100.7", "other4@example.com"));
+        } finally {
+            webServer.stop();
+        }
+    }
+
+    private int post(String url, String forwardedFor, String email) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .header("X-Forwarded-For", forwardedFor)
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString("email=" + email))
+            .build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int login(String ip, String email) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/login");
+        request.setRemoteAddr(ip);
+        request.setParameter("email", email);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
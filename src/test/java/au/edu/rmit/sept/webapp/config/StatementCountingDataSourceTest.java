@@ -0,0 +1,111 @@
+package au.edu.rmit.sept.webapp.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class StatementCountingDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(pool.getConnection()).thenReturn(connection);
+        // Same wiring as DatabaseConfig
+        dataSource = new TransactionAwareDataSourceProxy(new StatementCountingDataSource(pool));
+        StatementCounter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StatementCounter.stop();
+    }
+
+    @Test
+    void withoutTransaction_EachRepositoryCallChecksOutItsOwnConnection() throws Exception {
+        // Act - two repository-style calls
+        for (int i = 0; i < 2; i++) {
+            try (Connection con = dataSource.getConnection()) {
+                con.prepareStatement("SELECT 1");
+            }
+        }
+
+        // Assert
+        StatementCounter.Counts counts = StatementCounter.stop();
+        assertEquals(2, counts.statements());
+        assertEquals(2, counts.connections());
+    }
+
+    @Test
+    void insideTransaction_RepositoryCallsShareOneConnection() throws Exception {
+        // Arrange
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // Act
+        tx.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                try (Connection con = dataSource.getConnection()) {
+                    con.prepareStatement("UPDATE Events SET status = ? WHERE event_id = ?");
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+
+        // Assert
+        StatementCounter.Counts counts = StatementCounter.stop();
+        assertEquals(3, counts.statements());
+        assertEquals(1, counts.connections());
+        verify(pool, times(1)).getConnection();
+        verify(connection).commit();
+        verify(connection, times(3)).prepareStatement(anyString());
+    }
+
+    @Test
+    void carriedOverTask_CountsAgainstTheCallingThread() throws Exception {
+        // Arrange
+        Callable<Void> task = StatementCounter.carryOver(() -> {
+            try (Connection con = dataSource.getConnection()) {
+                con.prepareStatement("SELECT 1");
+            }
+            return null;
+        });
+
+        // Act - run it on a worker, the way PageLoader does
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            worker.submit(task).get();
+        } finally {
+            worker.shutdown();
+        }
+
+        // Assert
+        StatementCounter.Counts counts = StatementCounter.stop();
+        assertEquals(1, counts.statements());
+        assertEquals(1, counts.connections());
+    }
+}
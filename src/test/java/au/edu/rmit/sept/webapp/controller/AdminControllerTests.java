@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -24,13 +25,15 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
+import au.edu.rmit.sept.webapp.dto.SessionIdentity;
 import au.edu.rmit.sept.webapp.model.DeletedEventLog;
 import au.edu.rmit.sept.webapp.model.Event;
-import au.edu.rmit.sept.webapp.model.Student_Profile;
+import au.edu.rmit.sept.webapp.model.EventSummary;
 import au.edu.rmit.sept.webapp.model.User;
 import au.edu.rmit.sept.webapp.service.AdminService;
 import au.edu.rmit.sept.webapp.service.UserService;
@@ -64,6 +67,20 @@ class AdminControllerTests {
         );
     }
 
+    // helper for list-view rows
+    private EventSummary summary(int id) {
+        return new EventSummary(
+                id, 10L, 20L,
+                "Title " + id,
+                "Venue",
+                LocalDate.now(),
+                LocalDateTime.now(),
+                "22:00",
+                "upcoming",
+                100
+        );
+    }
+
     // helper for creating admin session with user
     private MockHttpSession createAdminSession() {
         MockHttpSession session = new MockHttpSession();
@@ -71,10 +88,8 @@ class AdminControllerTests {
         User adminUser = new User(1, "admin@test.com", "hashedpass", LocalDateTime.now(), "ACTIVE");
         session.setAttribute("user", adminUser);
         session.setAttribute("userId", 1);
-        
-        // Mock the user service call
-        Student_Profile profile = new Student_Profile(1, "Admin User", "Computer Science", "Technology");
-        when(userService.getProfileByUserId(1)).thenReturn(Optional.of(profile));
+        session.setAttribute(SessionIdentity.SESSION_KEY,
+                new SessionIdentity(1, "admin@test.com", "Admin User", "ADMIN", null, null));
         
         return session;
     }
@@ -99,7 +114,7 @@ class AdminControllerTests {
     void listAllEventsReturnsAdminEventsView() throws Exception {
         MockHttpSession session = createAdminSession();
 
-        when(adminService.getAllEvents()).thenReturn(List.of(ev(1), ev(2)));
+        when(adminService.getAllEvents()).thenReturn(List.of(summary(1), summary(2)));
 
         mvc.perform(get("/admin/events").session(session))
                 .andExpect(status().isOk())
@@ -143,6 +158,23 @@ class AdminControllerTests {
                 .andExpect(content().string(containsString("Event not found")));
     }
 
+    @Test
+    void viewEventFallsBackToArchive_WithoutEditOrWaitingRoom() throws Exception {
+        MockHttpSession session = createAdminSession();
+        when(adminService.getEventById(7L)).thenReturn(Optional.empty());
+        when(adminService.getArchivedEventById(7L)).thenReturn(Optional.of(ev(7)));
+
+        mvc.perform(get("/admin/events/7").session(session))
+                .andExpect(status().isOk())
+                .andExpect(view().name("admin/event_detail"))
+                .andExpect(model().attribute("archived", true))
+                .andExpect(content().string(containsString("Title 7")))
+                .andExpect(content().string(not(containsString("Edit Event"))))
+                .andExpect(content().string(not(containsString("RSVP Waiting Room"))));
+
+        verify(adminService, never()).getWaitingRoomRate(7L);
+    }
+
     // --- editEventForm() ---
 
     @Test
@@ -261,7 +293,7 @@ class AdminControllerTests {
     void viewDeletedEventsShowsDeletedList() throws Exception {
         MockHttpSession session = createAdminSession();
 
-        when(adminService.getDeletedEvents()).thenReturn(List.of(ev(1)));
+        when(adminService.getDeletedEvents()).thenReturn(List.of(summary(1)));
         when(adminService.getDeletedEventLogs()).thenReturn(List.of(
                 new DeletedEventLog(1, 1, 1L, "reason", LocalDateTime.now())
         ));
@@ -7,6 +7,7 @@ import static org.hamcrest.Matchers.containsString;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -22,15 +23,19 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
+import au.edu.rmit.sept.webapp.dto.EventPage;
+import au.edu.rmit.sept.webapp.dto.SessionIdentity;
 import au.edu.rmit.sept.webapp.model.Event;
 import au.edu.rmit.sept.webapp.model.User;
 import au.edu.rmit.sept.webapp.repository.UserRepository;
 import au.edu.rmit.sept.webapp.service.EventService;
 import au.edu.rmit.sept.webapp.service.NotificationService;
+import au.edu.rmit.sept.webapp.service.RsvpWaitingRoom;
 import au.edu.rmit.sept.webapp.service.UserService;
 
 @SpringBootTest
@@ -52,6 +57,9 @@ class EventControllerTests {
     @MockBean
     private NotificationService notificationService;
 
+    @MockBean
+    private RsvpWaitingRoom waitingRoom;
+
     private Event ev(int id) {
         return new Event(
                 id, 101L, 202L,
@@ -122,7 +130,7 @@ class EventControllerTests {
     @Test
     void browseWithoutFiltersCallsUpcomingAndPast() throws Exception {
         when(eventService.getUpcomingEvents()).thenReturn(List.of(ev(1), ev(2)));
-        when(eventService.getPastEvents()).thenReturn(List.of(ev(3)));
+        when(eventService.getPastEventsPage(null, null, null, 12)).thenReturn(new EventPage(List.of(ev(3)), null));
 
         mvc.perform(get("/browse"))
                 .andExpect(status().isOk())
@@ -131,7 +139,7 @@ class EventControllerTests {
                 .andExpect(content().string(containsString("Title 3")));
 
         verify(eventService, times(1)).getUpcomingEvents();
-        verify(eventService, times(1)).getPastEvents();
+        verify(eventService, times(1)).getPastEventsPage(null, null, null, 12);
         verify(eventService, times(0)).searchEvents(any(), any(), any(), anyBoolean());
     }
 
@@ -156,7 +164,7 @@ class EventControllerTests {
         verify(eventService, times(1)).searchEvents(q, tag, date, true);
         verify(eventService, times(1)).searchEvents(q, tag, date, false);
         verify(eventService, times(0)).getUpcomingEvents();
-        verify(eventService, times(0)).getPastEvents();
+        verify(eventService, times(0)).getPastEventsPage(any(), any(), any(), anyInt());
     }
 
     @Test
@@ -176,22 +184,24 @@ class EventControllerTests {
         MockHttpSession session = new MockHttpSession();
         session.setAttribute("user", user);
         session.setAttribute("userId", 1);
+        session.setAttribute(SessionIdentity.SESSION_KEY,
+                new SessionIdentity(1, "john@example.com", "John Doe", "STUDENT", null, null));
 
         when(eventService.getUpcomingEvents()).thenReturn(List.of(ev(1)));
-        when(eventService.getPastEvents()).thenReturn(List.of(ev(2)));
+        when(eventService.getPastEventsPage(null, null, null, 12)).thenReturn(new EventPage(List.of(ev(2)), null));
         when(eventService.getRsvpedEventIds(1L)).thenReturn(List.of(1, 2));
-        when(userService.getProfileByUserId(1)).thenReturn(Optional.of(new au.edu.rmit.sept.webapp.model.Student_Profile(1, "John Doe", "CSE", "john@example.com")));
 
         mvc.perform(get("/browse").session(session))
                 .andExpect(status().isOk())
                 .andExpect(view().name("browse"))
                 .andExpect(content().string(containsString("Title 1")))
-                .andExpect(content().string(containsString("Title 2")));
+                .andExpect(content().string(containsString("Title 2")))
+                .andExpect(model().attribute("user_name", "John Doe"));
 
         verify(eventService).getUpcomingEvents();
-        verify(eventService).getPastEvents();
+        verify(eventService).getPastEventsPage(null, null, null, 12);
         verify(eventService).getRsvpedEventIds(1L);
-        verify(userService).getProfileByUserId(1);
+        verify(userService, never()).getProfileByUserId(1);
     }
 
     // === /browse/filtered tests ===
@@ -199,7 +209,7 @@ class EventControllerTests {
     @Test
     void browseFilteredReturnsBrowseView() throws Exception {
         when(eventService.getUpcomingFiltered(any(), any(), any())).thenReturn(List.of(ev(1)));
-        when(eventService.getPastEvents()).thenReturn(List.of(ev(2)));
+        when(eventService.getPastEventsPage(null, null, null, 12)).thenReturn(new EventPage(List.of(ev(2)), null));
 
         mvc.perform(get("/browse/filtered")
                         .param("q", "test")
@@ -211,7 +221,7 @@ class EventControllerTests {
                 .andExpect(content().string(containsString("Title 2")));
 
         verify(eventService, times(1)).getUpcomingFiltered("test", 1, 10);
-        verify(eventService, times(1)).getPastEvents();
+        verify(eventService, times(1)).getPastEventsPage(null, null, null, 12);
     }
 
     @Test
@@ -28,8 +28,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 import au.edu.rmit.sept.webapp.dto.EventForm;
+import au.edu.rmit.sept.webapp.dto.SessionIdentity;
 import au.edu.rmit.sept.webapp.model.Event;
-import au.edu.rmit.sept.webapp.model.Organiser_Profile;
 import au.edu.rmit.sept.webapp.service.EventService;
 import au.edu.rmit.sept.webapp.service.UserService;
 
@@ -61,13 +61,11 @@ class EventPageControllerTests {
         organiserSession.setAttribute("organiserId", 5L);
         organiserSession.setAttribute("clubId", 2L);
         organiserSession.setAttribute("userId", 5);
+        organiserSession.setAttribute(SessionIdentity.SESSION_KEY,
+                new SessionIdentity(5, "org@test.com", "Organiser", "ORGANISER", 5, 2));
 
         userSession = new MockHttpSession();
         userSession.setAttribute("role", "USER");
-        
-        // Mock organiser profile lookup for the create test
-        Organiser_Profile organiserProfile = new Organiser_Profile(5, 5, 2, "Organiser");
-        when(userService.findOrganiserById(5)).thenReturn(Optional.of(organiserProfile));
     }
 
     // ---------- LIST ----------
@@ -135,7 +133,7 @@ class EventPageControllerTests {
         // ✅ Admin context skips userService call
         adminSession.setAttribute("role", "ADMIN");
 
-        when(eventService.createEvent(any(Event.class))).thenReturn(
+        when(eventService.createEvent(any(Event.class), any())).thenReturn(
                 new Event(1, 1L, null, "Sample", "desc", "loc",
                         LocalDate.now(), LocalDateTime.now(), "18:00", "ACTIVE", 100));
 
@@ -152,7 +150,7 @@ class EventPageControllerTests {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/organiser/events?created=1"));
 
-        verify(eventService, times(1)).createEvent(any(Event.class));
+        verify(eventService, times(1)).createEvent(any(Event.class), any());
         }
 
     @Test
@@ -181,7 +179,7 @@ class EventPageControllerTests {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/organiser/events/new"));
 
-        verify(eventService, never()).createEvent(any());
+        verify(eventService, never()).createEvent(any(), any());
         }
 
 
@@ -372,7 +372,7 @@ class GalleryViewControllerTest {
     @Test
     void deleteMultiplePhotos_WithOrganizer_Success() throws Exception {
         // Arrange
-        when(photoService.getPhotoById(1)).thenReturn(Optional.of(testPhoto));
+        when(photoService.getPhotosByIds(Arrays.asList(1))).thenReturn(testPhotos);
         when(userRepository.getOrganiserIdByUserId(2)).thenReturn(Optional.of(2));
         when(userRepository.isOrganiserForEvent(2, 101)).thenReturn(true);
 
@@ -415,6 +415,34 @@ class GalleryViewControllerTest {
         verify(photoService, never()).deleteMultiplePhotos(anyList());
     }
 
+    // Download Tests
+    @Test
+    void downloadEventAlbum_WithPhotos_StreamsZip() throws Exception {
+        // Arrange
+        when(photoService.getEventPhotos(101)).thenReturn(testPhotos);
+        when(photoService.writePhotosZip(eq(testPhotos), any())).thenReturn(1);
+
+        // Act & Assert
+        mockMvc.perform(get("/gallery/event/101/download.zip"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(header().string("Content-Disposition", containsString("event_101_photos.zip")));
+
+        verify(photoService, times(1)).writePhotosZip(eq(testPhotos), any());
+    }
+
+    @Test
+    void downloadEventAlbum_NoPhotos_NotFound() throws Exception {
+        // Arrange
+        when(photoService.getEventPhotos(101)).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/gallery/event/101/download.zip"))
+                .andExpect(status().isNotFound());
+
+        verify(photoService, never()).writePhotosZip(anyList(), any());
+    }
+
     // API Tests
     @Test
     void getEventPhotosApi_Success() throws Exception {
@@ -3,9 +3,14 @@ package au.edu.rmit.sept.webapp.controller;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.hasSize;
 import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -139,15 +144,18 @@ public class HomeControllerTests {
 
         when(eventService.getRecommendedEvents(42L)).thenReturn(recommendedEvents);
         when(eventService.getRsvpedEventIds(42L)).thenReturn(Collections.emptyList());
-        when(userRepository.isOrganiserForEvent(42, 10)).thenReturn(false);
-        when(userRepository.isOrganiserForEvent(42, 11)).thenReturn(false);
+        when(userRepository.findOrganisedEventIds(42)).thenReturn(Set.of(11, 99));
 
         mvc.perform(get("/events/recommended")
                 .sessionAttr("user", user)
                 .sessionAttr("userId", user.user_id()))
                 .andExpect(status().isOk())
                 .andExpect(view().name("recommendation"))
-                .andExpect(model().attribute("events", hasSize(2)));
+                .andExpect(model().attribute("events", hasSize(2)))
+                .andExpect(model().attribute("authorisedEventIds", List.of(11)));
+
+        verify(userRepository, times(1)).findOrganisedEventIds(42);
+        verify(userRepository, never()).isOrganiserForEvent(anyInt(), anyInt());
     }
 
     @Test
@@ -1,19 +1,32 @@
 package au.edu.rmit.sept.webapp.controller;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import au.edu.rmit.sept.webapp.dto.SessionIdentity;
+import au.edu.rmit.sept.webapp.model.Organiser_Profile;
+import au.edu.rmit.sept.webapp.model.Student_Profile;
+import au.edu.rmit.sept.webapp.model.User;
 import au.edu.rmit.sept.webapp.service.ClubService;
 import au.edu.rmit.sept.webapp.service.OrganiserService;
 import au.edu.rmit.sept.webapp.service.UserService;
@@ -52,6 +65,29 @@ class UserControllerTest {
     verify(userService, times(1)).deleteUser(77L);
   }
 
+  // Login tests
+
+  @Test
+  void login_organiser_cachesIdentityInSession() throws Exception {
+    User user = new User(7, "org@test.com", "hash", LocalDateTime.now(), "ACTIVE");
+    when(userService.findByUsernameAndPassword("org@test.com", "pw")).thenReturn(user);
+    when(userService.getProfileByUserId(7)).thenReturn(Optional.of(new Student_Profile(7, "Olivia", "CS", "Music")));
+    when(userService.findOrganiserById(7)).thenReturn(Optional.of(new Organiser_Profile(3, 7, 2, "President")));
+    when(userService.getUserRoleById(7)).thenReturn("ORGANISER");
+
+    MockHttpSession session = new MockHttpSession();
+    mvc.perform(post("/users/login").session(session)
+            .param("email", "org@test.com")
+            .param("password", "pw"))
+        .andExpect(redirectedUrl("/"));
+
+    SessionIdentity identity = SessionIdentity.from(session);
+    assertEquals(new SessionIdentity(7, "org@test.com", "Olivia", "ORGANISER", 3, 2), identity);
+    assertTrue(identity.isOrganiser());
+    assertEquals(3, session.getAttribute("organiserId"));
+    assertEquals("ORGANISER", session.getAttribute("role"));
+  }
+
   // SaveUser tests
  
 //  @Test
@@ -101,6 +137,21 @@ class UserControllerTest {
     verify(userService, times(1)).updateUser(6, "Dan", "DS", "ML");
   }
 
+  @Test
+  void updateAccount_withEmailDigestChoice_savesIt() throws Exception {
+    mvc.perform(post("/users/update")
+            .session(new MockHttpSession())
+            .param("id", "5")
+            .param("name", "Carol")
+            .param("course", "SE")
+            .param("interest", "Web")
+            .param("emailDigest", "false"))
+        .andExpect(status().is3xxRedirection())
+        .andExpect(redirectedUrl("/"));
+
+    verify(userService, times(1)).setEmailDigest(5, false);
+  }
+
   // DeleteProfile tests
 
   @Test
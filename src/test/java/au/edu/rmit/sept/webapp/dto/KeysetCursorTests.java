@@ -0,0 +1,37 @@
+package au.edu.rmit.sept.webapp.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTests {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 10, 10, 18, 30, 15);
+
+    @Test
+    void encodeThenDecodeRoundTrips() {
+        assertEquals(Map.entry(AT, 42), KeysetCursor.decode(KeysetCursor.encode(AT, 42), Map::entry));
+
+        // Both page cursors go through the same token format
+        PastEventsCursor past = new PastEventsCursor(AT, 42);
+        assertEquals(past, PastEventsCursor.decode(past.encode()));
+        NotificationCursor notification = new NotificationCursor(AT, 7);
+        assertEquals(notification, NotificationCursor.decode(notification.encode()));
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertNull(KeysetCursor.decode(null, Map::entry));
+        assertNull(KeysetCursor.decode("  ", Map::entry));
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("42", Map::entry));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("yesterday_42", Map::entry));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("2025-10-10T18:30_x", Map::entry));
+    }
+}
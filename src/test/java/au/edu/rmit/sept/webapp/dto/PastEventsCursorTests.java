@@ -0,0 +1,22 @@
+package au.edu.rmit.sept.webapp.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PastEventsCursorTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 10, 10, 18, 30);
+
+    @Test
+    void isBeforeFollowsStartDescThenIdDesc() {
+        PastEventsCursor cursor = new PastEventsCursor(START, 42);
+
+        assertTrue(cursor.isBefore(START.minusMinutes(1), 99));
+        assertTrue(cursor.isBefore(START, 41));
+        assertFalse(cursor.isBefore(START, 42));
+        assertFalse(cursor.isBefore(START.plusMinutes(1), 1));
+    }
+}
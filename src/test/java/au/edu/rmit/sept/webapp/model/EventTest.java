@@ -51,5 +51,14 @@ class EventTest {
         String expectedDate = futureDate.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
         assertEquals(expectedDate + " at 18:45", eventFuture.formattedStartDateTime());
     }
-}
 
+    @Test
+    void testEndAtRunsPastMidnight() {
+        LocalDate date = LocalDate.of(2025, 10, 10);
+        Event lateEvent = createDummyEvent(date, date.atTime(23, 0));
+        Event sameDay = createDummyEvent(date, date.atTime(18, 0));
+
+        assertEquals(LocalDateTime.of(2025, 10, 11, 22, 0), lateEvent.endAt());
+        assertEquals(LocalDateTime.of(2025, 10, 10, 22, 0), sameDay.endAt());
+    }
+}
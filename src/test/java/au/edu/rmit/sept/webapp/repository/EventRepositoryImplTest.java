@@ -5,10 +5,12 @@ import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.sql.DataSource;
@@ -24,8 +26,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -36,6 +40,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 
 import au.edu.rmit.sept.webapp.model.DeletedEventLog;
 import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventSummary;
 
 @SpringBootTest
 @ExtendWith(MockitoExtension.class)
@@ -105,9 +110,41 @@ class EventRepositoryImplTest {
         assertFalse(events.isEmpty());
     }
 
+    @Test
+    void upcomingFilter_canUseStatusStartAtIndex() throws Exception {
+        String sql = executedSql(() -> repo.findUpcomingEvents(LocalDateTime.now()));
 
+        Map<String, Object> plan = explain(sql, Timestamp.valueOf(LocalDateTime.now()));
+        assertTrue(String.valueOf(plan.get("possible_keys")).contains("idx_events_status_start_at"));
+    }
+
+    @Test
+    void pastFilter_canUseStartAtIndex() throws Exception {
+        String sql = executedSql(() -> repo.findPastEventsPage(LocalDateTime.now(), null, null, null, 20));
+
+        Map<String, Object> plan = explain(sql, Timestamp.valueOf(LocalDateTime.now()), 20);
+        assertTrue(String.valueOf(plan.get("possible_keys")).contains("idx_events_start_at"));
+    }
+
+    /** The statement the repository prepares for {@code call}, captured through the mocked connection. */
+    private String executedSql(Runnable call) throws SQLException {
+        setupMocks();
+        when(connection.prepareStatement(any())).thenReturn(ps);
+        when(ps.executeQuery()).thenReturn(rs);
+        call.run();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        return sql.getValue();
+    }
+
+    /** The plan row for Events in the real database's EXPLAIN of {@code sql}. */
+    private Map<String, Object> explain(String sql, Object... params) {
+        return new JdbcTemplate(realDataSource).queryForList("EXPLAIN " + sql, params).stream()
+            .filter(row -> "e".equals(row.get("table")))
+            .findFirst()
+            .orElseThrow();
+    }
 
-    
     @Test
     void findRsvpedEventIds_returnsIdsSuccessfully() throws Exception {
         setupMocks();
@@ -151,22 +188,35 @@ class EventRepositoryImplTest {
                 () -> repo.rsvp(3L, 8L));
     }
 
+    @Test
+    void rsvpAll_returnsOnlyUsersWhoseRsvpIsNew() throws Exception {
+        setupMocks();
+        when(connection.prepareStatement(any())).thenReturn(ps);
+        // User 8 already had an RSVP, so its upsert reports 2 rows
+        when(ps.executeBatch()).thenReturn(new int[] {1, 2, 1});
+
+        List<Long> result = repo.rsvpAll(4L, List.of(7L, 8L, 9L));
+
+        assertEquals(List.of(7L, 9L), result);
+        verify(ps, times(3)).addBatch();
+    }
+
     @Test
     void findById_returnsEventWhenFound() throws Exception {
         setupMocks();
         when(connection.prepareStatement(any())).thenReturn(ps);
         when(ps.executeQuery()).thenReturn(rs);
         when(rs.next()).thenReturn(true);
-        when(rs.getInt("event_id")).thenReturn(1);
-        when(rs.getObject("organiser_id", Long.class)).thenReturn(2L);
-        when(rs.getString("title")).thenReturn("Mock Event");
-        when(rs.getString("description")).thenReturn("Mock Description");
-        when(rs.getString("location")).thenReturn("Mock Location");
-        when(rs.getDate("date")).thenReturn(Date.valueOf("2025-10-10"));
-        when(rs.getTimestamp("start_time")).thenReturn(Timestamp.valueOf("2025-10-10 10:00:00"));
-        when(rs.getString("finish_time")).thenReturn("11:00");
-        when(rs.getString("status")).thenReturn("ACTIVE");
-        when(rs.getInt("capacity")).thenReturn(100);
+        when(rs.getInt(1)).thenReturn(1);
+        when(rs.getLong(2)).thenReturn(2L);
+        when(rs.getString(4)).thenReturn("Mock Event");
+        when(rs.getString(5)).thenReturn("Mock Description");
+        when(rs.getString(6)).thenReturn("Mock Location");
+        when(rs.getDate(7)).thenReturn(Date.valueOf("2025-10-10"));
+        when(rs.getTimestamp(8)).thenReturn(Timestamp.valueOf("2025-10-10 10:00:00"));
+        when(rs.getTime(9)).thenReturn(Time.valueOf("11:00:00"));
+        when(rs.getString(10)).thenReturn("ACTIVE");
+        when(rs.getInt(11)).thenReturn(100);
 
         Optional<Event> result = repo.findById(1L);
 
@@ -288,18 +338,17 @@ class EventRepositoryImplTest {
         when(connection.prepareStatement(any())).thenReturn(ps);
         when(ps.executeQuery()).thenReturn(rs);
         when(rs.next()).thenReturn(true, false);
-        when(rs.getInt("event_id")).thenReturn(10);
-        when(rs.getObject("organiser_id", Long.class)).thenReturn(2L);
-        when(rs.getString("title")).thenReturn("Deleted");
-        when(rs.getString("description")).thenReturn("Deleted Description");
-        when(rs.getString("location")).thenReturn("Deleted Location");
-        when(rs.getDate("date")).thenReturn(Date.valueOf("2025-10-01"));
-        when(rs.getTimestamp("start_time")).thenReturn(Timestamp.valueOf("2025-10-01 10:00:00"));
-        when(rs.getString("finish_time")).thenReturn("11:00");
-        when(rs.getString("status")).thenReturn("DELETED");
-        when(rs.getInt("capacity")).thenReturn(100);
-
-        List<Event> result = repo.findDeletedEvents();
+        when(rs.getInt(1)).thenReturn(10);
+        when(rs.getLong(2)).thenReturn(2L);
+        when(rs.getString(4)).thenReturn("Deleted");
+        when(rs.getString(5)).thenReturn("Deleted Location");
+        when(rs.getDate(6)).thenReturn(Date.valueOf("2025-10-01"));
+        when(rs.getTimestamp(7)).thenReturn(Timestamp.valueOf("2025-10-01 10:00:00"));
+        when(rs.getTime(8)).thenReturn(Time.valueOf("11:00:00"));
+        when(rs.getString(9)).thenReturn("DELETED");
+        when(rs.getInt(10)).thenReturn(100);
+
+        List<EventSummary> result = repo.findDeletedEvents();
 
         assertEquals(1, result.size());
         assertEquals("Deleted", result.get(0).title());
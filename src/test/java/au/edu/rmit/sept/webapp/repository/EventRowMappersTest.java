@@ -0,0 +1,68 @@
+package au.edu.rmit.sept.webapp.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventSummary;
+
+class EventRowMappersTest {
+
+    @Test
+    void mapEvent_ReadsClubIdFromItsOwnColumn() throws Exception {
+        // Arrange
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getInt(1)).thenReturn(7);
+        when(rs.getLong(2)).thenReturn(3L);
+        when(rs.getLong(3)).thenReturn(12L);
+        when(rs.getString(4)).thenReturn("Hack Night");
+        when(rs.getString(5)).thenReturn("Bring a laptop");
+        when(rs.getString(6)).thenReturn("Building 80");
+        when(rs.getDate(7)).thenReturn(Date.valueOf("2025-10-10"));
+        when(rs.getTimestamp(8)).thenReturn(Timestamp.valueOf("2025-10-10 18:00:00"));
+        when(rs.getTime(9)).thenReturn(Time.valueOf("21:30:00"));
+        when(rs.getString(10)).thenReturn("ACTIVE");
+        when(rs.getInt(11)).thenReturn(40);
+
+        // Act
+        Event event = EventRowMappers.mapEvent(rs);
+
+        // Assert
+        assertEquals(7, event.event_id());
+        assertEquals(3L, event.organiser_id());
+        assertEquals(12L, event.club_id());
+        assertEquals("Bring a laptop", event.description());
+        assertEquals(LocalDate.of(2025, 10, 10), event.date());
+        assertEquals(LocalDateTime.of(2025, 10, 10, 18, 0), event.start_time());
+        assertEquals("21:30:00", event.finish_time());
+        assertEquals(40, event.capacity());
+    }
+
+    @Test
+    void mapSummary_NullableColumnsStayNull() throws Exception {
+        // Arrange - every getter returns its JDBC default and wasNull() reports SQL NULL
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getInt(1)).thenReturn(9);
+        when(rs.wasNull()).thenReturn(true);
+
+        // Act
+        EventSummary summary = EventRowMappers.mapSummary(rs);
+
+        // Assert
+        assertEquals(9, summary.event_id());
+        assertNull(summary.organiser_id());
+        assertNull(summary.club_id());
+        assertNull(summary.date());
+        assertNull(summary.start_time());
+        assertNull(summary.finish_time());
+    }
+}
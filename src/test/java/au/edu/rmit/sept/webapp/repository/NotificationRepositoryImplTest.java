@@ -1,5 +1,6 @@
 package au.edu.rmit.sept.webapp.repository;
 
+import au.edu.rmit.sept.webapp.dto.NotificationCursor;
 import au.edu.rmit.sept.webapp.model.Notification;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.AfterEach;
@@ -137,6 +138,47 @@ public class NotificationRepositoryImplTest {
         assertEquals(1, user2Notifications.size());
     }
 
+    @Test
+    void testFindPageByUserId() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 5; i++) {
+            notificationRepository.save(new Notification(0, 1, "TEST", "Title " + i, "Message", "/events/1",
+                now.minusMinutes(i), null));
+        }
+        List<Notification> first = notificationRepository.findPageByUserId(1, false, null, 2);
+        List<Notification> second = notificationRepository.findPageByUserId(1, false,
+                NotificationCursor.after(first.get(1)), 2);
+
+        assertEquals(List.of("Title 0", "Title 1"), first.stream().map(Notification::title).toList());
+        assertEquals(List.of("Title 2", "Title 3"), second.stream().map(Notification::title).toList());
+    }
+
+    @Test
+    void testMarkAsReadForUserOnlyTouchesOwnNotifications() {
+        Notification mine = notificationRepository.save(createTestNotification(1, "TEST"));
+        Notification theirs = notificationRepository.save(createTestNotification(2, "TEST"));
+
+        int updated = notificationRepository.markAsReadForUser(1,
+                List.of(mine.notification_id(), theirs.notification_id()));
+
+        assertEquals(1, updated);
+        assertTrue(notificationRepository.findById(theirs.notification_id()).orElseThrow().isUnread());
+    }
+
+    @Test
+    void testArchiveAndDeleteReadNotifications() {
+        Notification read = notificationRepository.save(createTestNotification(1, "TEST"));
+        notificationRepository.save(createTestNotification(1, "TEST"));
+        notificationRepository.markAsRead(read.notification_id());
+
+        List<Integer> ids = notificationRepository.findReadIdsBefore(LocalDateTime.now().plusMinutes(1), 0, 10);
+        assertEquals(List.of(read.notification_id()), ids);
+        assertEquals(1, notificationRepository.archiveByIds(ids));
+        assertEquals(0, notificationRepository.archiveByIds(ids));
+        assertEquals(1, notificationRepository.deleteByIds(ids));
+        assertEquals(1, notificationRepository.findByUserId(1).size());
+    }
+
     private Notification createTestNotification(int userId, String type) {
         return new Notification(
             0,
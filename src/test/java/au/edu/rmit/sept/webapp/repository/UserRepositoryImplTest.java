@@ -2,6 +2,7 @@ package au.edu.rmit.sept.webapp.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -13,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -177,4 +179,20 @@ public class UserRepositoryImplTest {
 
         repo.deleteUser(test_user.user_id());
     }
+
+    @Test
+    void findOrganisedEventIds_should_matchPerEventCheck() {
+        // user 3 is organiser 1 in the sample data
+        Set<Integer> eventIds = repo.findOrganisedEventIds(3);
+
+        assertNotEquals(0, eventIds.size());
+        for (int eventId : eventIds) {
+            assertTrue(repo.isOrganiserForEvent(3, eventId));
+        }
+    }
+
+    @Test
+    void findOrganisedEventIds_should_returnEmpty_forNonOrganiser() {
+        assertTrue(repo.findOrganisedEventIds(9999).isEmpty());
+    }
 }
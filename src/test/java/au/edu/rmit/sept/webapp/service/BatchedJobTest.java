@@ -0,0 +1,95 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class BatchedJobTest {
+
+    @Mock
+    private BatchedJob.Batches batches;
+
+    @Mock
+    private BatchedJob.Step step;
+
+    private BatchedJob job;
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    void run_WalksForwardById_AndStopsAfterAShortBatch() {
+        job = new BatchedJob("test-job", 2, 0);
+        when(batches.after(0, 2)).thenReturn(List.of(3, 8));
+        when(batches.after(8, 2)).thenReturn(List.of(11));
+        when(step.apply(anyList())).thenAnswer(invocation -> invocation.<List<Integer>>getArgument(0).size());
+
+        assertEquals(3, job.run(batches, step));
+
+        InOrder inOrder = inOrder(step);
+        inOrder.verify(step).apply(List.of(3, 8));
+        inOrder.verify(step).apply(List.of(11));
+        // A short batch is the last one; no extra query to find out
+        verify(batches, times(2)).after(anyInt(), anyInt());
+    }
+
+    @Test
+    void run_NothingToDo_NeverCallsTheStep() {
+        job = new BatchedJob("test-job", 10, 0);
+        when(batches.after(0, 10)).thenReturn(List.of());
+
+        assertEquals(0, job.run(batches, step));
+        verifyNoInteractions(step);
+    }
+
+    @Test
+    void run_DatabaseError_StopsAndKeepsWhatWasDone() {
+        job = new BatchedJob("test-job", 1, 0);
+        when(batches.after(0, 1)).thenReturn(List.of(4));
+        when(batches.after(4, 1)).thenReturn(List.of(6));
+        when(step.apply(List.of(4))).thenReturn(1);
+        when(step.apply(List.of(6))).thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertEquals(1, job.run(batches, step));
+        verify(batches, times(2)).after(anyInt(), anyInt());
+    }
+
+    @Test
+    void start_SkipsARunWhileTheLastOneIsStillGoing() throws InterruptedException {
+        job = new BatchedJob("test-job", 10, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        job.start(() -> {
+            runs.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.countDown();
+        });
+        job.start(runs::incrementAndGet);
+        release.countDown();
+
+        assertTrue(finished.await(2, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+    }
+}
@@ -0,0 +1,34 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.repository.EventArchiveRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EventArchiverTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 11, 5, 0, 0);
+
+    @Mock
+    private EventArchiveRepository archiveRepository;
+
+    @Test
+    void archive_MovesEachBatchOfEventsThatEndedBeforeTheCutoff() {
+        EventArchiver archiver = new EventArchiver(archiveRepository, 365, 2, 0);
+        when(archiveRepository.findArchivableIds(CUTOFF, 0, 2)).thenReturn(List.of(3, 8));
+        when(archiveRepository.findArchivableIds(CUTOFF, 8, 2)).thenReturn(List.of(11));
+        when(archiveRepository.archive(List.of(3, 8))).thenReturn(2);
+        when(archiveRepository.archive(List.of(11))).thenReturn(1);
+
+        assertEquals(3, archiver.archive(CUTOFF));
+    }
+}
@@ -0,0 +1,114 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.dto.PastEventsCursor;
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventCalendarEntry;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EventCalendarIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 11, 5);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventCalendarIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.findCalendarEntries()).thenReturn(List.of(
+            new EventCalendarEntry(1, DAY.atTime(18, 0), "ACTIVE"),
+            new EventCalendarEntry(2, DAY.atTime(9, 0), "ACTIVE"),
+            new EventCalendarEntry(3, DAY.plusDays(1).atTime(10, 0), "CANCELLED"),
+            new EventCalendarEntry(4, DAY.minusDays(3).atTime(12, 0), "past"),
+            new EventCalendarEntry(5, DAY.minusDays(2).atTime(12, 0), "DELETED"),
+            new EventCalendarEntry(6, DAY.plusDays(7).atTime(8, 30), "ACTIVE")
+        ));
+        index = new EventCalendarIndex(eventRepository);
+    }
+
+    @Test
+    void upcomingIds_OnlyActive_InStartOrder() {
+        assertEquals(List.of(2, 1, 6), index.upcomingIds(DAY.atStartOfDay()));
+        assertEquals(List.of(1, 6), index.upcomingIds(DAY.atTime(12, 0)));
+    }
+
+    @Test
+    void pastIds_SkipsDeleted_MostRecentFirst() {
+        assertEquals(List.of(1, 2, 4), index.pastIds(DAY.atTime(23, 0), null, 10));
+        assertEquals(List.of(4), index.pastIds(DAY.atStartOfDay(), null, 10));
+    }
+
+    @Test
+    void pastIds_ResumesAfterCursor_StopsAtLimit() {
+        LocalDateTime before = DAY.atTime(23, 0);
+        List<Integer> first = index.pastIds(before, null, 1);
+        assertEquals(List.of(1), first);
+
+        PastEventsCursor cursor = new PastEventsCursor(DAY.atTime(18, 0), 1);
+        assertEquals(List.of(2, 4), index.pastIds(before, cursor, 10));
+    }
+
+    @Test
+    void idsOn_SkipsCancelled() {
+        assertEquals(List.of(2, 1), index.idsOn(DAY));
+        assertEquals(List.of(), index.idsOn(DAY.plusDays(1)));
+    }
+
+    @Test
+    void put_MovedEvent_LeavesOldDay() {
+        // Act - event 2 moves to the following week
+        index.put(event(2, DAY.plusDays(7), DAY.plusDays(7).atTime(7, 0), "ACTIVE"));
+
+        // Assert
+        assertEquals(List.of(1), index.idsOn(DAY));
+        assertEquals(List.of(2, 6), index.idsOn(DAY.plusDays(7)));
+        verify(eventRepository, times(1)).findCalendarEntries();
+    }
+
+    @Test
+    void statusChanged_CancelledEvent_DropsOutOfUpcoming() {
+        index.statusChanged(1, "CANCELLED");
+
+        assertEquals(List.of(2, 6), index.upcomingIds(DAY.atStartOfDay()));
+    }
+
+    @Test
+    void completed_KeepsListings_AndSkipsEventsNoLongerActive() {
+        index.completed(List.of(2, 3));
+
+        assertEquals(List.of(1, 2, 4), index.pastIds(DAY.atTime(23, 0), null, 10));
+        assertEquals(List.of(2, 1), index.idsOn(DAY));
+        // Event 3 was already cancelled, so it stays out of that day's listing
+        assertEquals(List.of(), index.idsOn(DAY.plusDays(1)));
+    }
+
+    @Test
+    void completed_EventThatEndedEarlierToday_StaysInTodaysUpcomingListing() {
+        // Event 2 ran 9:00 to 11:00; by the afternoon the lifecycle job has completed it
+        index.completed(List.of(2));
+
+        assertEquals(List.of(2, 1, 6), index.upcomingIds(DAY.atStartOfDay()));
+        // and the past pages, which stop at the start of today, do not have it yet
+        assertEquals(List.of(4), index.pastIds(DAY.atStartOfDay(), null, 10));
+        assertEquals(List.of(1, 6), index.upcomingIds(DAY.atTime(15, 0)));
+    }
+
+    private static Event event(int id, LocalDate date, LocalDateTime start, String status) {
+        return new Event(id, 1L, 1L, "Title", "Desc", "Venue", date, start, "23:00", status, 50);
+    }
+}
@@ -0,0 +1,110 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.dto.RsvpUserDetail;
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+import au.edu.rmit.sept.webapp.repository.NotificationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EventChangeFanOutTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(7);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    private EventChangeFanOut fanOut;
+
+    @BeforeEach
+    void setUp() {
+        fanOut = new EventChangeFanOut(eventRepository, notificationRepository, emailService, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdown();
+    }
+
+    @Test
+    void cancelled_WritesAllNotificationsInOneStatement_ThenEmailsAttendees() {
+        when(eventRepository.findById(9L)).thenReturn(Optional.of(event("Library", 18, "ACTIVE")));
+        when(notificationRepository.saveForEventRsvps(eq(9), eq("EVENT_CANCELLED"), eq("Event Cancelled"), anyString(), eq("/events/9")))
+            .thenReturn(2);
+        when(eventRepository.findRsvpDetailsByEventId(9L)).thenReturn(List.of(attendee(1, "a@x.y"), attendee(2, "b@x.y")));
+
+        fanOut.cancelled(9);
+
+        verify(emailService, timeout(2000)).sendNotificationEmail(eq("a@x.y"), eq("Event Cancelled: Meetup"), anyString());
+        verify(emailService, timeout(2000)).sendNotificationEmail(eq("b@x.y"), eq("Event Cancelled: Meetup"), anyString());
+        verify(notificationRepository, times(1)).saveForEventRsvps(anyInt(), anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void fanOut_NobodyRsvped_SendsNoEmail() {
+        when(eventRepository.findById(9L)).thenReturn(Optional.of(event("Library", 18, "ACTIVE")));
+        when(notificationRepository.saveForEventRsvps(anyInt(), anyString(), anyString(), anyString(), anyString())).thenReturn(0);
+
+        fanOut.fanOut(9, EventChangeFanOut.Change.DELETED);
+
+        verify(notificationRepository).saveForEventRsvps(eq(9), eq("EVENT_DELETED"), eq("Event Removed"), anyString(), eq("/browse"));
+        verify(eventRepository, never()).findRsvpDetailsByEventId(anyLong());
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void updated_DescriptionOnly_TellsNobody() {
+        fanOut.updated(event("Library", 18, "ACTIVE"), event("Library", 18, "ACTIVE"));
+
+        verifyNoInteractions(eventRepository, notificationRepository, emailService);
+    }
+
+    @Test
+    void updated_NewTimeOrPlace_TellsAttendees() {
+        when(eventRepository.findById(9L)).thenReturn(Optional.of(event("Great Hall", 19, "ACTIVE")));
+
+        fanOut.updated(event("Library", 18, "ACTIVE"), event("Great Hall", 19, "ACTIVE"));
+
+        verify(notificationRepository, timeout(2000))
+            .saveForEventRsvps(eq(9), eq("EVENT_UPDATED"), eq("Event Updated"), contains("Great Hall"), eq("/events/9"));
+    }
+
+    @Test
+    void updated_ToCancelledStatus_IsSentAsACancellation() {
+        when(eventRepository.findById(9L)).thenReturn(Optional.of(event("Library", 18, "CANCELLED")));
+
+        fanOut.updated(event("Library", 18, "ACTIVE"), event("Library", 18, "CANCELLED"));
+
+        verify(notificationRepository, timeout(2000))
+            .saveForEventRsvps(eq(9), eq("EVENT_CANCELLED"), anyString(), anyString(), anyString());
+    }
+
+    private static Event event(String location, int hour, String status) {
+        return new Event(9, 1L, 1L, "Meetup", "Monthly meetup", location,
+                DAY, DAY.atTime(hour, 0), "21:00", status, 50);
+    }
+
+    private static RsvpUserDetail attendee(long userId, String email) {
+        return new RsvpUserDetail(userId, email, "Student " + userId, "BIT", LocalDateTime.now(), "qr-" + userId);
+    }
+}
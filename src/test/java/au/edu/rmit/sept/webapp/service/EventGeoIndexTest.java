@@ -0,0 +1,126 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventGeoEntry;
+import au.edu.rmit.sept.webapp.model.GeoPoint;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EventGeoIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 11, 5);
+    private static final GeoPoint CITY_CAMPUS = new GeoPoint(-37.8085, 144.9631);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final Geocoder geocoder = spy(new OfflineGeocoder());
+
+    private EventGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.findGeoEntries(any())).thenReturn(List.of(
+            new EventGeoEntry(1, new GeoPoint(-37.8136, 144.9631), DAY.atTime(18, 0)),   // ~0.6 km
+            new EventGeoEntry(2, new GeoPoint(-37.8085, 144.9635), DAY.atTime(9, 0)),    // ~0.04 km
+            new EventGeoEntry(3, new GeoPoint(-37.6800, 145.0650), DAY.atTime(12, 0)),   // Bundoora, ~17 km
+            new EventGeoEntry(4, new GeoPoint(-37.8100, 144.9700), DAY.minusDays(1).atTime(12, 0))
+        ));
+        index = new EventGeoIndex(eventRepository, geocoder, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void nearby_WithinRadius_NearestFirst() {
+        List<EventGeoIndex.Hit> hits = index.nearby(CITY_CAMPUS, 5, DAY.atStartOfDay(), 10);
+
+        assertEquals(List.of(2, 1), hits.stream().map(EventGeoIndex.Hit::eventId).toList());
+        assertTrue(hits.get(0).distanceKm() < hits.get(1).distanceKm());
+    }
+
+    @Test
+    void nearby_LargerRadius_ReachesOtherCells() {
+        List<EventGeoIndex.Hit> hits = index.nearby(CITY_CAMPUS, 25, DAY.atStartOfDay(), 10);
+
+        assertEquals(List.of(2, 1, 3), hits.stream().map(EventGeoIndex.Hit::eventId).toList());
+        assertEquals(2, index.nearby(CITY_CAMPUS, 25, DAY.atStartOfDay(), 2).size());
+    }
+
+    @Test
+    void geocode_StoresCoordinatesAndIndexes() {
+        Event event = new Event(9, 1L, 1L, "Title", "Desc", "Library (-37.8087, 144.9640)",
+                                DAY, DAY.atTime(10, 0), "11:00", "ACTIVE", 50);
+        when(eventRepository.updateEventCoordinates(9, new GeoPoint(-37.8087, 144.9640))).thenReturn(1);
+
+        index.geocode(event);
+
+        assertEquals(List.of(2, 9), index.nearby(CITY_CAMPUS, 0.2, DAY.atStartOfDay(), 10)
+                                          .stream().map(EventGeoIndex.Hit::eventId).toList());
+    }
+
+    @Test
+    void geocode_UnresolvedLocation_ClearsCoordinatesAndDropsEvent() {
+        Event moved = new Event(2, 1L, 1L, "Title", "Desc", "Somewhere new",
+                                DAY, DAY.atTime(9, 0), "10:00", "ACTIVE", 50);
+        when(eventRepository.updateEventCoordinates(2, null)).thenReturn(1);
+
+        index.geocode(moved);
+        assertEquals(List.of(1), index.nearby(CITY_CAMPUS, 5, DAY.atStartOfDay(), 10)
+                                      .stream().map(EventGeoIndex.Hit::eventId).toList());
+    }
+
+    @Test
+    void locate_NewLocation_IsGeocodedInTheBackground() {
+        Event event = new Event(9, 1L, 1L, "Title", "Desc", "Library (-37.8087, 144.9640)",
+                                DAY, DAY.atTime(10, 0), "11:00", "ACTIVE", 50);
+        index.warmUp();
+
+        index.locate(null, event);
+
+        verify(eventRepository, timeout(2000)).updateEventCoordinates(9, new GeoPoint(-37.8087, 144.9640));
+    }
+
+    @Test
+    void locate_SameLocation_KeepsIndexedPoint_WithoutGeocoding() {
+        Event before = new Event(2, 1L, 1L, "Title", "Desc", "Building 80",
+                                 DAY, DAY.atTime(9, 0), "10:00", "ACTIVE", 50);
+        Event after = new Event(2, 1L, 1L, "Title", "Desc", "Building 80",
+                                DAY.plusDays(1), DAY.plusDays(1).atTime(9, 0), "10:00", "ACTIVE", 50);
+
+        index.locate(before, after);
+
+        assertEquals(List.of(2), index.nearby(CITY_CAMPUS, 5, DAY.plusDays(1).atStartOfDay(), 10)
+                                      .stream().map(EventGeoIndex.Hit::eventId).toList());
+        verify(geocoder, never()).geocode(any());
+        verify(eventRepository, never()).updateEventCoordinates(anyInt(), any());
+    }
+
+    @Test
+    void remove_CancelledEvent_NoLongerNearby() {
+        index.remove(1);
+
+        assertEquals(List.of(2), index.nearby(CITY_CAMPUS, 5, DAY.atStartOfDay(), 10)
+                                      .stream().map(EventGeoIndex.Hit::eventId).toList());
+        verify(eventRepository, times(1)).findGeoEntries(any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,55 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EventLifecycleTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 11, 5, 20, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventCalendarIndex calendarIndex;
+
+    @Test
+    void complete_UpdatesTheCalendarAfterEachBatch() {
+        EventLifecycle lifecycle = new EventLifecycle(eventRepository, calendarIndex, 2, 0);
+        when(eventRepository.findFinishedActiveIds(NOW, 2))
+                .thenReturn(List.of(4, 9))
+                .thenReturn(List.of(12));
+        when(eventRepository.markCompleted(anyList())).thenAnswer(invocation -> invocation.<List<Integer>>getArgument(0).size());
+
+        assertEquals(3, lifecycle.complete(NOW));
+
+        InOrder inOrder = inOrder(eventRepository, calendarIndex);
+        inOrder.verify(eventRepository).markCompleted(List.of(4, 9));
+        inOrder.verify(calendarIndex).completed(List.of(4, 9));
+        inOrder.verify(eventRepository).markCompleted(List.of(12));
+        inOrder.verify(calendarIndex).completed(List.of(12));
+    }
+
+    @Test
+    void complete_CountsOnlyRowsThisRunChanged() {
+        // Another instance (or a cancel) got to event 9 between the select and the update
+        EventLifecycle lifecycle = new EventLifecycle(eventRepository, calendarIndex, 10, 0);
+        when(eventRepository.findFinishedActiveIds(NOW, 10)).thenReturn(List.of(4, 9));
+        when(eventRepository.markCompleted(List.of(4, 9))).thenReturn(1);
+
+        assertEquals(1, lifecycle.complete(NOW));
+    }
+}
@@ -0,0 +1,167 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import au.edu.rmit.sept.webapp.dto.FeedbackPrompt;
+import au.edu.rmit.sept.webapp.repository.FeedbackRepository;
+import au.edu.rmit.sept.webapp.repository.JobCheckpointRepository;
+import au.edu.rmit.sept.webapp.repository.NotificationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackPrompterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 10, 22, 0);
+    private static final LocalDateTime UP_TO = NOW.minusMinutes(60);
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FeedbackPrompter prompter;
+
+    @BeforeEach
+    void setUp() {
+        prompter = new FeedbackPrompter(feedbackRepository, notificationRepository, checkpointRepository,
+                emailService, transactionManager, 60, 24, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        prompter.shutdown();
+    }
+
+    @Test
+    void prompt_ReadsOnlySinceTheHighWaterMark_AndMovesIt() {
+        LocalDateTime lastRun = UP_TO.minusMinutes(15);
+        when(checkpointRepository.findHighWater(FeedbackPrompter.JOB_NAME)).thenReturn(Optional.of(lastRun));
+        when(checkpointRepository.advanceHighWater(FeedbackPrompter.JOB_NAME, lastRun, UP_TO)).thenReturn(true);
+        when(feedbackRepository.findUnratedAttendances(lastRun, UP_TO)).thenReturn(List.of());
+
+        assertEquals(0, prompter.prompt(NOW));
+
+        verify(checkpointRepository).advanceHighWater(FeedbackPrompter.JOB_NAME, lastRun, UP_TO);
+        verifyNoInteractions(notificationRepository, emailService);
+    }
+
+    @Test
+    void prompt_FirstRun_LooksBackOnlyTheInitialWindow() {
+        when(checkpointRepository.findHighWater(FeedbackPrompter.JOB_NAME)).thenReturn(Optional.empty());
+        when(checkpointRepository.advanceHighWater(FeedbackPrompter.JOB_NAME, null, UP_TO)).thenReturn(true);
+
+        prompter.prompt(NOW);
+
+        verify(feedbackRepository).findUnratedAttendances(UP_TO.minusHours(24), UP_TO);
+    }
+
+    @Test
+    void prompt_AnotherInstanceMovedTheMarkFirst_DoesNothing() {
+        LocalDateTime lastRun = UP_TO.minusMinutes(15);
+        when(checkpointRepository.findHighWater(FeedbackPrompter.JOB_NAME)).thenReturn(Optional.of(lastRun));
+        when(checkpointRepository.advanceHighWater(FeedbackPrompter.JOB_NAME, lastRun, UP_TO)).thenReturn(false);
+
+        assertEquals(0, prompter.prompt(NOW));
+
+        verifyNoInteractions(feedbackRepository, notificationRepository, emailService);
+    }
+
+    @Test
+    void prompt_NotifiesPerEventInChunks_AndEmailsOnlyNonDigestUsers() {
+        when(checkpointRepository.findHighWater(FeedbackPrompter.JOB_NAME)).thenReturn(Optional.of(UP_TO.minusHours(1)));
+        when(checkpointRepository.advanceHighWater(FeedbackPrompter.JOB_NAME, UP_TO.minusHours(1), UP_TO)).thenReturn(true);
+        when(feedbackRepository.findUnratedAttendances(UP_TO.minusHours(1), UP_TO)).thenReturn(List.of(
+                prompt(7, "Quiz Night", 1, false),
+                prompt(7, "Quiz Night", 2, true),
+                prompt(7, "Quiz Night", 3, false),
+                prompt(9, "Career Fair", 4, true)));
+
+        assertEquals(4, prompter.prompt(NOW));
+
+        verify(notificationRepository).saveForUsers(eq(List.of(1L, 2L)), eq("FEEDBACK_REQUEST"), anyString(),
+                contains("Quiz Night"), eq("/feedback/event/7"));
+        verify(notificationRepository).saveForUsers(eq(List.of(3L)), eq("FEEDBACK_REQUEST"), anyString(),
+                anyString(), eq("/feedback/event/7"));
+        verify(notificationRepository).saveForUsers(eq(List.of(4L)), eq("FEEDBACK_REQUEST"), anyString(),
+                contains("Career Fair"), eq("/feedback/event/9"));
+        verify(emailService, timeout(2000)).sendNotificationEmail(eq("u1@student.rmit.edu.au"), anyString(), anyString());
+        verify(emailService, timeout(2000)).sendNotificationEmail(eq("u3@student.rmit.edu.au"), anyString(), anyString());
+        verify(emailService, never()).sendNotificationEmail(eq("u2@student.rmit.edu.au"), anyString(), anyString());
+    }
+
+    @Test
+    void prompt_FailedInsert_GivesTheWindowBack() {
+        when(checkpointRepository.findHighWater(FeedbackPrompter.JOB_NAME)).thenReturn(Optional.of(UP_TO.minusHours(1)));
+        when(checkpointRepository.advanceHighWater(FeedbackPrompter.JOB_NAME, UP_TO.minusHours(1), UP_TO)).thenReturn(true);
+        doReturn(true).when(checkpointRepository).advanceHighWater(FeedbackPrompter.JOB_NAME, UP_TO, UP_TO.minusHours(1));
+        when(feedbackRepository.findUnratedAttendances(any(), any())).thenReturn(List.of(prompt(7, "Quiz Night", 1, false)));
+        when(notificationRepository.saveForUsers(anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThrows(DataAccessException.class, () -> prompter.prompt(NOW));
+
+        verify(checkpointRepository).advanceHighWater(FeedbackPrompter.JOB_NAME, UP_TO, UP_TO.minusHours(1));
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void prompt_InsertFailsPartway_RollsBackTheEarlierInserts_AndGivesTheWindowBack() {
+        SimpleTransactionStatus tx = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(tx);
+        when(checkpointRepository.findHighWater(FeedbackPrompter.JOB_NAME)).thenReturn(Optional.of(UP_TO.minusHours(1)));
+        when(checkpointRepository.advanceHighWater(FeedbackPrompter.JOB_NAME, UP_TO.minusHours(1), UP_TO)).thenReturn(true);
+        doReturn(true).when(checkpointRepository).advanceHighWater(FeedbackPrompter.JOB_NAME, UP_TO, UP_TO.minusHours(1));
+        when(feedbackRepository.findUnratedAttendances(any(), any())).thenReturn(List.of(
+                prompt(7, "Quiz Night", 1, false),
+                prompt(7, "Quiz Night", 2, false),
+                prompt(9, "Career Fair", 3, false)));
+        // The first event's chunk goes in, the second event's fails
+        when(notificationRepository.saveForUsers(eq(List.of(1L, 2L)), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(2);
+        when(notificationRepository.saveForUsers(eq(List.of(3L)), anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThrows(DataAccessException.class, () -> prompter.prompt(NOW));
+
+        // Both inserts ran in the one transaction, which is rolled back before the window is reopened
+        InOrder inOrder = inOrder(transactionManager, notificationRepository, checkpointRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(notificationRepository, times(2))
+                .saveForUsers(anyList(), anyString(), anyString(), anyString(), anyString());
+        inOrder.verify(transactionManager).rollback(tx);
+        inOrder.verify(checkpointRepository).advanceHighWater(FeedbackPrompter.JOB_NAME, UP_TO, UP_TO.minusHours(1));
+        verify(transactionManager, never()).commit(any());
+        verifyNoInteractions(emailService);
+    }
+
+    private static FeedbackPrompt prompt(int eventId, String title, long userId, boolean digest) {
+        return new FeedbackPrompt(eventId, title, userId, "u" + userId + "@student.rmit.edu.au", "User " + userId, digest);
+    }
+}
@@ -0,0 +1,56 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class InterestIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private InterestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findStudentInterests()).thenReturn(Map.of(
+                1L, List.of("Programming, AI"),
+                2L, List.of("Web  Development, UX", "Hackathon"),
+                5L, List.of("ai")));
+        index = new InterestIndex(userRepository);
+    }
+
+    @Test
+    void interestedIn_SplitsProfileTextAndIgnoresCaseAndSpacing() {
+        assertEquals(Set.of(1L, 5L), index.interestedIn(List.of("AI")));
+        assertEquals(Set.of(2L), index.interestedIn(List.of(" web development ")));
+    }
+
+    @Test
+    void interestedIn_UnionsAcrossTags() {
+        assertEquals(Set.of(1L, 2L), index.interestedIn(List.of("Programming", "Hackathon", "Chess")));
+        assertTrue(index.interestedIn(List.of()).isEmpty());
+    }
+
+    @Test
+    void profileSaved_AddsNewInterestsWithoutARebuild() {
+        index.interestedIn(List.of("AI"));
+
+        index.profileSaved(7L, "Chess, Robotics");
+
+        assertEquals(Set.of(7L), index.interestedIn(List.of("robotics")));
+        verify(userRepository, times(1)).findStudentInterests();
+    }
+}
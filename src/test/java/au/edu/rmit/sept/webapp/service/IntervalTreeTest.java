@@ -0,0 +1,60 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IntervalTreeTest {
+
+    @Test
+    void overlapping_HalfOpen_TouchingEndsDoNotClash() {
+        IntervalTree tree = IntervalTree.of(List.of(
+            new IntervalTree.Interval(1, 10, 20),
+            new IntervalTree.Interval(2, 20, 30),
+            new IntervalTree.Interval(3, 5, 50)
+        ));
+
+        assertEquals(List.of(3, 1), tree.overlapping(15, 20, -1));
+        assertEquals(List.of(3, 2), tree.overlapping(20, 21, -1));
+        assertEquals(List.of(3), tree.overlapping(15, 20, 1));
+        assertEquals(List.of(), tree.overlapping(50, 60, -1));
+    }
+
+    @Test
+    void withAndWithout_ReturnNewTrees() {
+        IntervalTree tree = IntervalTree.EMPTY.with(new IntervalTree.Interval(1, 0, 10));
+        IntervalTree moved = tree.with(new IntervalTree.Interval(1, 100, 110));
+
+        assertEquals(List.of(1), tree.overlapping(0, 5, -1));
+        assertEquals(List.of(), moved.overlapping(0, 5, -1));
+        assertEquals(1, moved.size());
+        assertEquals(0, moved.without(1).size());
+        assertSame(moved, moved.without(42));
+    }
+
+    @Test
+    void overlapping_MatchesLinearScan() {
+        Random random = new Random(7);
+        List<IntervalTree.Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(10_000);
+            intervals.add(new IntervalTree.Interval(i, start, start + 1 + random.nextInt(300)));
+        }
+        IntervalTree tree = IntervalTree.of(intervals);
+
+        for (int q = 0; q < 200; q++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(500);
+            List<Integer> expected = intervals.stream()
+                .filter(iv -> iv.start() < end && start < iv.end())
+                .sorted((a, b) -> a.start() != b.start() ? Long.compare(a.start(), b.start()) : Integer.compare(a.id(), b.id()))
+                .map(IntervalTree.Interval::id)
+                .toList();
+            assertEquals(expected, tree.overlapping(start, end, -1));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.Tags;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+import au.edu.rmit.sept.webapp.repository.NotificationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NewEventFanOutTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private InterestIndex interestIndex;
+
+    private NewEventFanOut fanOut;
+
+    @BeforeEach
+    void setUp() {
+        fanOut = new NewEventFanOut(eventRepository, notificationRepository, interestIndex, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdown();
+    }
+
+    @Test
+    void announce_WritesInterestedStudentsInChunks() {
+        when(eventRepository.findById(4L)).thenReturn(Optional.of(event("ACTIVE")));
+        when(eventRepository.findTagsByEventId(4)).thenReturn(List.of(new Tags(1, "AI"), new Tags(2, "Robotics")));
+        when(interestIndex.interestedIn(List.of("AI", "Robotics"))).thenReturn(Set.of(3L, 1L, 2L));
+        when(notificationRepository.saveForUsers(anyList(), anyString(), anyString(), anyString(), anyString()))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        fanOut.announce(4);
+
+        verify(notificationRepository, timeout(2000)).saveForUsers(
+                eq(List.of(1L, 2L)), eq("NEW_EVENT"), eq("New Event Available"), contains("Hack Night"), eq("/events/4"));
+        verify(notificationRepository, timeout(2000)).saveForUsers(
+                eq(List.of(3L)), eq("NEW_EVENT"), anyString(), anyString(), eq("/events/4"));
+    }
+
+    @Test
+    void fanOut_NobodyInterested_WritesNothing() {
+        when(eventRepository.findById(4L)).thenReturn(Optional.of(event("ACTIVE")));
+        when(eventRepository.findTagsByEventId(4)).thenReturn(List.of());
+        when(interestIndex.interestedIn(List.of())).thenReturn(Set.of());
+
+        fanOut.fanOut(4);
+
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void fanOut_EventNoLongerActive_IsNotAnnounced() {
+        when(eventRepository.findById(4L)).thenReturn(Optional.of(event("CANCELLED")));
+
+        fanOut.fanOut(4);
+
+        verifyNoInteractions(interestIndex, notificationRepository);
+    }
+
+    private static Event event(String status) {
+        LocalDate day = LocalDate.now().plusDays(10);
+        return new Event(4, 1L, 1L, "Hack Night", "Build things", "Building 80",
+                day, day.atTime(18, 0), "22:00", status, 80);
+    }
+}
@@ -0,0 +1,130 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.dto.DigestRecipient;
+import au.edu.rmit.sept.webapp.model.Notification;
+import au.edu.rmit.sept.webapp.repository.JobCheckpointRepository;
+import au.edu.rmit.sept.webapp.repository.NotificationRepository;
+import au.edu.rmit.sept.webapp.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDigestTest {
+
+    private static final LocalDateTime WINDOW_END = LocalDateTime.of(2025, 10, 10, 9, 30);
+    private static final List<String> TYPES = NotificationDigest.DIGEST_TYPES;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    private NotificationDigest digest;
+
+    @BeforeEach
+    void setUp() {
+        digest = new NotificationDigest(notificationRepository, userRepository, checkpointRepository, emailService, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        digest.shutdown();
+    }
+
+    @Test
+    void send_OneEmailPerUser_ChunkByChunk_ThenMarksThemEmailed() {
+        claimSucceeds();
+        when(notificationRepository.findDigestRecipients(0L, TYPES, WINDOW_END, 2)).thenReturn(List.of(
+                new DigestRecipient(1, "ann@student.rmit.edu.au", "Ann"),
+                new DigestRecipient(2, "bob@student.rmit.edu.au", null)));
+        when(notificationRepository.findDigestRecipients(2L, TYPES, WINDOW_END, 2)).thenReturn(List.of(
+                new DigestRecipient(5, "cy@student.rmit.edu.au", "Cy")));
+        when(notificationRepository.findUndigested(List.of(1L, 2L), TYPES, WINDOW_END)).thenReturn(List.of(
+                notification(10, 1, "EVENT_REMINDER"), notification(11, 1, "EVENT_REMINDER"), notification(12, 2, "NEW_EVENT")));
+        when(notificationRepository.findUndigested(List.of(5L), TYPES, WINDOW_END)).thenReturn(List.of(
+                notification(20, 5, "NEW_EVENT")));
+
+        assertEquals(3, digest.send(WINDOW_END));
+
+        verify(emailService).sendDigestEmail(eq("ann@student.rmit.edu.au"), eq("Ann"), argThat(list -> list.size() == 2));
+        verify(emailService).sendDigestEmail(eq("bob@student.rmit.edu.au"), eq("bob"), argThat(list -> list.size() == 1));
+        verify(emailService).sendDigestEmail(eq("cy@student.rmit.edu.au"), eq("Cy"), anyList());
+        verify(notificationRepository).markEmailed(List.of(10, 11, 12));
+        verify(notificationRepository).markEmailed(List.of(20));
+        // The second chunk was short, so there is no third query
+        verify(notificationRepository, times(2)).findDigestRecipients(anyLong(), anyList(), any(), anyInt());
+    }
+
+    @Test
+    void send_FailedEmail_LeavesThatUsersNotificationsForNextTime() {
+        claimSucceeds();
+        when(notificationRepository.findDigestRecipients(0L, TYPES, WINDOW_END, 2)).thenReturn(List.of(
+                new DigestRecipient(1, "ann@student.rmit.edu.au", "Ann")));
+        when(notificationRepository.findUndigested(List.of(1L), TYPES, WINDOW_END)).thenReturn(List.of(
+                notification(10, 1, "EVENT_REMINDER")));
+        doThrow(new IllegalStateException("smtp down")).when(emailService).sendDigestEmail(anyString(), anyString(), anyList());
+
+        assertEquals(0, digest.send(WINDOW_END));
+        verify(notificationRepository).markEmailed(List.of());
+    }
+
+    @Test
+    void send_AnotherInstanceClaimedTheDay_SendsNothing() {
+        LocalDateTime yesterday = WINDOW_END.minusDays(1);
+        when(checkpointRepository.findHighWater(NotificationDigest.JOB_NAME)).thenReturn(Optional.of(yesterday));
+        when(checkpointRepository.advanceHighWater(NotificationDigest.JOB_NAME, yesterday, WINDOW_END)).thenReturn(false);
+
+        assertEquals(0, digest.send(WINDOW_END));
+        verifyNoInteractions(notificationRepository, emailService);
+    }
+
+    @Test
+    void send_TodaysDigestAlreadySent_DoesNotClaimAgain() {
+        when(checkpointRepository.findHighWater(NotificationDigest.JOB_NAME))
+                .thenReturn(Optional.of(WINDOW_END.minusSeconds(2)));
+
+        assertEquals(0, digest.send(WINDOW_END));
+        verify(checkpointRepository, never()).advanceHighWater(anyString(), any(), any());
+        verifyNoInteractions(notificationRepository, emailService);
+    }
+
+    @Test
+    void defers_OnlyDigestTypesForDigestUsers() {
+        when(userRepository.isEmailDigest(1)).thenReturn(true);
+        when(userRepository.isEmailDigest(2)).thenReturn(false);
+
+        assertTrue(digest.defers(1, "EVENT_REMINDER"));
+        assertFalse(digest.defers(2, "EVENT_REMINDER"));
+        assertFalse(digest.defers(1, "RSVP_CONFIRMATION"));
+    }
+
+    private void claimSucceeds() {
+        when(checkpointRepository.findHighWater(NotificationDigest.JOB_NAME)).thenReturn(Optional.empty());
+        when(checkpointRepository.advanceHighWater(NotificationDigest.JOB_NAME, null, WINDOW_END)).thenReturn(true);
+    }
+
+    private static Notification notification(int id, int userId, String type) {
+        return new Notification(id, userId, type, "Title " + id, "Message " + id, "/events/1",
+                WINDOW_END.minusHours(3), null);
+    }
+}
@@ -0,0 +1,51 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.repository.NotificationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 7, 1, 0, 0);
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Test
+    void retire_ArchivesThenDeletesEachBatch() {
+        NotificationRetention retention = new NotificationRetention(notificationRepository, 90, 2, 0, true);
+        when(notificationRepository.findReadIdsBefore(CUTOFF, 0, 2)).thenReturn(List.of(3, 8));
+        when(notificationRepository.findReadIdsBefore(CUTOFF, 8, 2)).thenReturn(List.of(11));
+        when(notificationRepository.deleteByIds(anyList())).thenAnswer(invocation -> invocation.<List<Integer>>getArgument(0).size());
+
+        assertEquals(3, retention.retire(CUTOFF));
+
+        InOrder inOrder = inOrder(notificationRepository);
+        inOrder.verify(notificationRepository).archiveByIds(List.of(3, 8));
+        inOrder.verify(notificationRepository).deleteByIds(List.of(3, 8));
+        inOrder.verify(notificationRepository).archiveByIds(List.of(11));
+        inOrder.verify(notificationRepository).deleteByIds(List.of(11));
+    }
+
+    @Test
+    void retire_WithoutArchive_OnlyDeletes() {
+        NotificationRetention retention = new NotificationRetention(notificationRepository, 90, 10, 0, false);
+        when(notificationRepository.findReadIdsBefore(CUTOFF, 0, 10)).thenReturn(List.of(1, 2));
+        when(notificationRepository.deleteByIds(List.of(1, 2))).thenReturn(2);
+
+        assertEquals(2, retention.retire(CUTOFF));
+        verify(notificationRepository, never()).archiveByIds(anyList());
+    }
+}
@@ -0,0 +1,34 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import au.edu.rmit.sept.webapp.model.GeoPoint;
+
+class OfflineGeocoderTest {
+
+    private final OfflineGeocoder geocoder = new OfflineGeocoder();
+
+    @Test
+    void geocode_ReadsCoordinatesEmbeddedInLocation() {
+        assertEquals(Optional.of(new GeoPoint(-37.8085, 144.9631)),
+                     geocoder.geocode("Building 80 (-37.8085, 144.9631)"));
+    }
+
+    @Test
+    void geocode_PlainNameOrBadCoordinates_Unresolved() {
+        assertTrue(geocoder.geocode("Building 80").isEmpty());
+        assertTrue(geocoder.geocode("95, 200").isEmpty());
+        assertTrue(geocoder.geocode(null).isEmpty());
+    }
+
+    @Test
+    void distanceKm_CityToBundoora() {
+        double km = new GeoPoint(-37.8085, 144.9631).distanceKm(new GeoPoint(-37.6800, 145.0650));
+
+        assertEquals(16.8, km, 0.5);
+    }
+}
@@ -0,0 +1,137 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PageLoaderTest {
+
+    private PageLoader loader;
+
+    @AfterEach
+    void tearDown() {
+        if (loader != null) {
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    void partsRunSideBySide() {
+        // Arrange: each part waits for the other, so this only finishes if they overlap
+        loader = new PageLoader(2, 4, 2000);
+        CountDownLatch both = new CountDownLatch(2);
+        PageLoader.Page page = loader.begin();
+
+        // Act
+        PageLoader.Part<String> first = page.fork("first", () -> meet(both, "a"));
+        PageLoader.Part<String> second = page.fork("second", () -> meet(both, "b"));
+        page.join();
+
+        // Assert
+        assertEquals("a", first.get());
+        assertEquals("b", second.get());
+    }
+
+    @Test
+    void failedOptionalPartReadsAsFallback() {
+        // Arrange
+        loader = new PageLoader(2, 4, 2000);
+        PageLoader.Page page = loader.begin();
+
+        // Act
+        PageLoader.Part<List<String>> tags = page.fork("tags", () -> {
+            throw new IllegalStateException("tags down");
+        }, List.of());
+        PageLoader.Part<String> event = page.fork("event", () -> "event");
+        page.join();
+
+        // Assert
+        assertEquals(List.of(), tags.get());
+        assertEquals("event", event.get());
+    }
+
+    @Test
+    void failedRequiredPartThrowsItsOwnException() {
+        // Arrange
+        loader = new PageLoader(2, 4, 2000);
+        PageLoader.Page page = loader.begin();
+
+        // Act
+        PageLoader.Part<String> event = page.fork("event", () -> {
+            throw new IllegalArgumentException("no such event");
+        });
+        page.join();
+
+        // Assert
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, event::get);
+        assertEquals("no such event", e.getMessage());
+    }
+
+    @Test
+    void partsStillRunningAtTheDeadlineAreCancelled() {
+        // Arrange
+        loader = new PageLoader(2, 4, 100);
+        PageLoader.Page page = loader.begin();
+
+        // Act
+        long started = System.nanoTime();
+        PageLoader.Part<String> slow = page.fork("slow", () -> {
+            Thread.sleep(5000);
+            return "late";
+        }, "fallback");
+        PageLoader.Part<String> slowRequired = page.fork("slowRequired", () -> {
+            Thread.sleep(5000);
+            return "late";
+        });
+        page.join();
+
+        // Assert: both share the one deadline rather than waiting 100ms each
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 1000);
+        assertEquals("fallback", slow.get());
+        assertThrows(IllegalStateException.class, slowRequired::get);
+    }
+
+    @Test
+    void fullPoolRunsPartsOnTheCallingThread() {
+        // Arrange: one worker, no queue
+        loader = new PageLoader(1, 1, 2000);
+        CountDownLatch release = new CountDownLatch(1);
+        PageLoader.Page page = loader.begin();
+        page.fork("blocker", () -> release.await(2, TimeUnit.SECONDS), false);
+        page.fork("queued", () -> true, false);
+
+        // Act
+        PageLoader.Part<String> overflow = page.fork("overflow", () -> Thread.currentThread().getName());
+        release.countDown();
+        page.join();
+
+        // Assert
+        assertEquals(Thread.currentThread().getName(), overflow.get());
+    }
+
+    @Test
+    void readingBeforeJoinIsRejected() {
+        // Arrange
+        loader = new PageLoader(1, 1, 2000);
+        PageLoader.Page page = loader.begin();
+
+        // Act
+        PageLoader.Part<String> part = page.fork("part", () -> "value");
+
+        // Assert
+        assertThrows(IllegalStateException.class, part::get);
+    }
+
+    private static String meet(CountDownLatch latch, String value) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(2, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("parts ran one after another");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,84 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_RunOnPoolAndRecordMetrics() {
+        // Arrange
+        hasher = new PasswordHasher(meterRegistry, 4, 2, 4, 5000);
+
+        // Act
+        String hash = hasher.encode("secret");
+
+        // Assert
+        assertTrue(hasher.matches("secret", hash));
+        assertFalse(hasher.matches("wrong", hash));
+        assertEquals(1, meterRegistry.get("eventhub.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("eventhub.password.hash").tag("operation", "matches").timer().count());
+        assertEquals(3, meterRegistry.get("eventhub.password.queue.wait").timer().count());
+    }
+
+    @Test
+    void needsRehash_TrueOnlyForLowerCost() {
+        // Arrange
+        hasher = new PasswordHasher(meterRegistry, 5, 1, 4, 5000);
+        String oldHash = new BCryptPasswordEncoder(4).encode("secret");
+        String currentHash = new BCryptPasswordEncoder(5).encode("secret");
+
+        // Act & Assert
+        assertTrue(hasher.needsRehash(oldHash));
+        assertFalse(hasher.needsRehash(currentHash));
+    }
+
+    @Test
+    void matches_PoolSaturated_FailsFastWithBusyException() throws Exception {
+        // Arrange - one worker, room for one queued task
+        hasher = new PasswordHasher(meterRegistry, 4, 1, 1, 5000);
+        String hash = new BCryptPasswordEncoder(4).encode("secret");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        hasher.rehashInBackground("a", h -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        AtomicReference<String> queued = new AtomicReference<>();
+        hasher.rehashInBackground("b", queued::set);
+
+        // Act & Assert
+        assertThrows(PasswordHashingBusyException.class, () -> hasher.matches("secret", hash));
+
+        release.countDown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
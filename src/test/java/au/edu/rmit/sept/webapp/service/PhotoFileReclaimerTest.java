@@ -0,0 +1,71 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PhotoFileReclaimerTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private PhotoFileReclaimer reclaimer;
+
+    @BeforeEach
+    void setUp() {
+        reclaimer = new PhotoFileReclaimer();
+        ReflectionTestUtils.setField(reclaimer, "uploadDir", uploadDir.toString());
+    }
+
+    @Test
+    void sweep_DeletesQueuedFilesFromUploadDir() throws Exception {
+        // Arrange
+        Path photo1 = Files.createFile(uploadDir.resolve("photo1.jpg"));
+        Path photo2 = Files.createFile(uploadDir.resolve("photo2.png"));
+        reclaimer.reclaim(List.of("/event_photos/photo1.jpg", "/event_photos/photo2.png"));
+
+        // Act
+        reclaimer.sweep();
+
+        // Assert
+        assertFalse(Files.exists(photo1));
+        assertFalse(Files.exists(photo2));
+        assertEquals(0, reclaimer.pendingCount());
+    }
+
+    @Test
+    void sweep_MissingFile_IsNotRetried() {
+        // Arrange
+        reclaimer.reclaim(List.of("/event_photos/already-gone.jpg"));
+
+        // Act
+        reclaimer.sweep();
+
+        // Assert
+        assertEquals(0, reclaimer.pendingCount());
+    }
+
+    @Test
+    void sweep_FailingDelete_RetriesThenGivesUp() throws Exception {
+        // Arrange - a non-empty directory cannot be deleted
+        Path stuck = Files.createDirectory(uploadDir.resolve("stuck.jpg"));
+        Files.createFile(stuck.resolve("inner"));
+        reclaimer.reclaim(List.of("/event_photos/stuck.jpg"));
+
+        // Act & Assert
+        for (int i = 1; i < PhotoFileReclaimer.MAX_ATTEMPTS; i++) {
+            reclaimer.sweep();
+            assertEquals(1, reclaimer.pendingCount());
+        }
+        reclaimer.sweep();
+        assertEquals(0, reclaimer.pendingCount());
+        assertTrue(Files.exists(stuck));
+    }
+}
@@ -4,21 +4,31 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import au.edu.rmit.sept.webapp.model.Event_Photos;
 import au.edu.rmit.sept.webapp.repository.PhotoRepository;
 
@@ -28,9 +38,18 @@ class PhotoServiceImplTest {
     @Mock
     private PhotoRepository photoRepository;
 
+    @Mock
+    private PhotoFileReclaimer fileReclaimer;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
     @InjectMocks
     private PhotoServiceImpl photoService;
 
+    @TempDir
+    Path uploadDir;
+
     private Event_Photos testPhoto;
     private MockMultipartFile validImageFile;
     private MockMultipartFile invalidFile;
@@ -40,7 +59,7 @@ class PhotoServiceImplTest {
     @BeforeEach
     void setUp() {
         // Set upload directory for testing
-        ReflectionTestUtils.setField(photoService, "uploadDir", "test-uploads");
+        ReflectionTestUtils.setField(photoService, "uploadDir", uploadDir.toString());
         
         testPhoto = new Event_Photos(
             1,
@@ -310,6 +329,7 @@ class PhotoServiceImplTest {
         // Assert
         verify(photoRepository, times(1)).findById(1);
         verify(photoRepository, times(1)).deleteById(1);
+        verify(fileReclaimer, times(1)).reclaim(List.of(testPhoto.url()));
     }
 
     @Test
@@ -332,16 +352,30 @@ class PhotoServiceImplTest {
         Event_Photos photo1 = new Event_Photos(1, 101, 201, "/event_photos/photo1.jpg", LocalDateTime.now());
         Event_Photos photo2 = new Event_Photos(2, 101, 201, "/event_photos/photo2.jpg", LocalDateTime.now());
         
-        when(photoRepository.findById(1)).thenReturn(Optional.of(photo1));
-        when(photoRepository.findById(2)).thenReturn(Optional.of(photo2));
+        when(photoRepository.findAllByIds(photoIds)).thenReturn(Arrays.asList(photo1, photo2));
 
         // Act
         photoService.deleteMultiplePhotos(photoIds);
 
         // Assert
-        verify(photoRepository, times(1)).findById(1);
-        verify(photoRepository, times(1)).findById(2);
+        verify(photoRepository, times(1)).findAllByIds(photoIds);
+        verify(photoRepository, never()).findById(anyInt());
         verify(photoRepository, times(1)).deleteMultipleById(photoIds);
+        verify(fileReclaimer, times(1)).reclaim(List.of(photo1.url(), photo2.url()));
+    }
+
+    @Test
+    void deleteMultiplePhotos_NoneFound_NoDelete() {
+        // Arrange
+        List<Integer> photoIds = Arrays.asList(998, 999);
+        when(photoRepository.findAllByIds(photoIds)).thenReturn(List.of());
+
+        // Act
+        photoService.deleteMultiplePhotos(photoIds);
+
+        // Assert
+        verify(photoRepository, never()).deleteMultipleById(anyList());
+        verifyNoInteractions(fileReclaimer);
     }
 
     @Test
@@ -393,4 +427,29 @@ class PhotoServiceImplTest {
         assertTrue(result.isEmpty());
         verify(photoRepository, times(1)).findByEventId(101);
     }
-}
\ No newline at end of file
+
+    @Test
+    void writePhotosZip_StoresImagesAndSkipsMissingFiles(@TempDir Path dir) throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(photoService, "uploadDir", dir.toString());
+        byte[] content = "fake jpeg bytes".getBytes();
+        Files.write(dir.resolve("a.jpg"), content);
+        Event_Photos present = new Event_Photos(1, 101, 201, "/event_photos/a.jpg", LocalDateTime.now());
+        Event_Photos missing = new Event_Photos(2, 101, 201, "/event_photos/missing.png", LocalDateTime.now());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        int written = photoService.writePhotosZip(Arrays.asList(present, missing), out);
+
+        // Assert
+        assertEquals(1, written);
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry = zip.getNextEntry();
+            assertNotNull(entry);
+            assertEquals("a.jpg", entry.getName());
+            assertEquals(ZipEntry.STORED, entry.getMethod());
+            assertArrayEquals(content, zip.readAllBytes());
+            assertNull(zip.getNextEntry());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import au.edu.rmit.sept.webapp.dto.WaitingRoomStatus;
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.Event_Waiting_Room;
+import au.edu.rmit.sept.webapp.repository.WaitingRoomRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RsvpWaitingRoomTest {
+
+    private static final int EVENT_ID = 5;
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private WaitingRoomRepository repository;
+
+    private RsvpWaitingRoom waitingRoom;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findAll()).thenReturn(List.of(new Event_Waiting_Room(EVENT_ID, 2, LocalDateTime.now())));
+        waitingRoom = new RsvpWaitingRoom(eventService, notificationService, repository, 3, 100, 600000, 0, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        waitingRoom.shutdown();
+    }
+
+    @Test
+    void enqueue_NumbersTicketsInArrivalOrder_AndReusesAUsersTicket() {
+        WaitingRoomStatus first = join(1L);
+        WaitingRoomStatus second = join(2L);
+
+        assertEquals(1, first.position());
+        assertEquals(2, second.position());
+        assertEquals(first.token(), join(1L).token());
+    }
+
+    @Test
+    void enqueue_WithoutAnOpenRoom_IsRejected() {
+        assertTrue(waitingRoom.admitRate(99).isEmpty());
+        assertThrows(IllegalStateException.class, () -> waitingRoom.enqueue(99, 1L, "a@b.c", "a"));
+    }
+
+    @Test
+    void enqueue_FullLine_ReturnsEmpty() {
+        join(1L);
+        join(2L);
+        join(3L);
+
+        assertTrue(waitingRoom.enqueue(EVENT_ID, 4L, "d@x.y", "d").isEmpty());
+    }
+
+    @Test
+    void drain_AdmitsInOrderAtTheRoomsRate_InOneBatch() {
+        WaitingRoomStatus first = join(1L);
+        WaitingRoomStatus second = join(2L);
+        WaitingRoomStatus third = join(3L);
+
+        waitingRoom.drain(System.nanoTime() + ONE_SECOND);
+
+        verify(eventService).rsvpAll(5L, List.of(1L, 2L));
+        assertEquals("ADMITTED", waitingRoom.status(first.token(), 1L).orElseThrow().state());
+        assertEquals("ADMITTED", waitingRoom.status(second.token(), 2L).orElseThrow().state());
+        WaitingRoomStatus stillWaiting = waitingRoom.status(third.token(), 3L).orElseThrow();
+        assertEquals("WAITING", stillWaiting.state());
+        assertEquals(1, stillWaiting.position());
+    }
+
+    @Test
+    void warmUp_StartsTheDrainerOnItsOwnThread() {
+        join(1L);
+
+        waitingRoom.warmUp();
+
+        verify(eventService, timeout(2000)).rsvpAll(5L, List.of(1L));
+    }
+
+    @Test
+    void drain_SendsConfirmationsOffTheDrainer() {
+        join(1L);
+        when(eventService.getEventById(5L)).thenReturn(Optional.of(event()));
+
+        waitingRoom.drain(System.nanoTime() + ONE_SECOND);
+
+        verify(notificationService, timeout(2000)).notifyRsvpConfirmation(
+                eq(1), eq("u1@student.rmit.edu.au"), eq("u1"), eq(EVENT_ID), eq("Grad Ball"), anyString(), eq("Great Hall"));
+    }
+
+    @Test
+    void drain_FailedInsert_MarksTicketsFailed_AndLetsUsersQueueAgain() {
+        WaitingRoomStatus ticket = join(1L);
+        doThrow(new DataAccessResourceFailureException("down")).when(eventService).rsvpAll(anyLong(), anyList());
+
+        waitingRoom.drain(System.nanoTime() + ONE_SECOND);
+
+        assertEquals("FAILED", waitingRoom.status(ticket.token(), 1L).orElseThrow().state());
+        assertNotEquals(ticket.token(), join(1L).token());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void listen_GetsCurrentPositionThenTheResult() {
+        WaitingRoomStatus ticket = join(1L);
+        List<WaitingRoomStatus> seen = new ArrayList<>();
+
+        assertTrue(waitingRoom.listen(ticket.token(), 1L, seen::add));
+        waitingRoom.drain(System.nanoTime() + ONE_SECOND);
+
+        assertEquals(List.of("WAITING", "ADMITTED"), seen.stream().map(WaitingRoomStatus::state).toList());
+    }
+
+    @Test
+    void tickets_AreOnlyVisibleToTheirOwner() {
+        WaitingRoomStatus ticket = join(1L);
+
+        assertTrue(waitingRoom.status(ticket.token(), 2L).isEmpty());
+        assertFalse(waitingRoom.listen(ticket.token(), 2L, status -> { }));
+    }
+
+    private WaitingRoomStatus join(long userId) {
+        return waitingRoom.enqueue(EVENT_ID, userId, "u" + userId + "@student.rmit.edu.au", "u" + userId).orElseThrow();
+    }
+
+    private static Event event() {
+        return new Event(EVENT_ID, 1L, 1L, "Grad Ball", "Black tie", "Great Hall",
+                LocalDate.now().plusDays(3), LocalDate.now().plusDays(3).atTime(19, 0), "23:00", "ACTIVE", 500);
+    }
+}
@@ -0,0 +1,85 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.model.Event;
+import au.edu.rmit.sept.webapp.model.EventSlot;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleClashIndexTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(10);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private ScheduleClashIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.findUpcomingSlots(any())).thenReturn(List.of(
+            new EventSlot(1, "Building 80, Level 7", DAY.atTime(10, 0), DAY.atTime(12, 0)),
+            new EventSlot(2, "Building 80,  level 7", DAY.atTime(11, 0), DAY.atTime(13, 0)),
+            new EventSlot(3, "Library", DAY.atTime(11, 30), DAY.atTime(12, 30)),
+            new EventSlot(4, "Library", DAY.atTime(14, 0), DAY.atTime(15, 0))
+        ));
+        when(eventRepository.findUpcomingRsvpEventIds(any())).thenReturn(Map.of(7L, List.of(1, 4)));
+        index = new ScheduleClashIndex(eventRepository);
+    }
+
+    @Test
+    void rsvpClashes_OverlapWithOwnRsvps() {
+        assertEquals(List.of(1), index.rsvpClashes(7L, 3));
+        assertEquals(List.of(), index.rsvpClashes(7L, 4));
+        assertEquals(List.of(), index.rsvpClashes(8L, 3));
+    }
+
+    @Test
+    void venueClashes_NormalisesLocation_ExcludesSelf() {
+        assertEquals(List.of(1, 2), index.venueClashes("building 80, level 7", DAY.atTime(11, 0), DAY.atTime(11, 30), -1));
+        assertEquals(List.of(2), index.venueClashes("Building 80, Level 7", DAY.atTime(10, 0), DAY.atTime(12, 0), 1));
+        assertEquals(List.of(), index.venueClashes("Library", DAY.atTime(12, 30), DAY.atTime(14, 0), -1));
+    }
+
+    @Test
+    void rsvpAndCancel_UpdateUserSchedule() {
+        index.rsvped(7L, 2);
+        assertEquals(List.of(1, 2), index.rsvpClashes(7L, 3));
+
+        index.rsvpCancelled(7L, 1);
+        assertEquals(List.of(2), index.rsvpClashes(7L, 3));
+    }
+
+    @Test
+    void put_MovedEvent_UpdatesVenueAndAttendees() {
+        // Act - event 1 moves to the library in the afternoon
+        index.put(new Event(1, 1L, 1L, "Title", "Desc", "Library", DAY, DAY.atTime(14, 30), "15:30", "ACTIVE", 50));
+
+        // Assert
+        assertEquals(List.of(2), index.venueClashes("Building 80, Level 7", DAY.atTime(10, 0), DAY.atTime(12, 0), -1));
+        assertEquals(List.of(4, 1), index.venueClashes("Library", DAY.atTime(14, 0), DAY.atTime(16, 0), -1));
+        assertEquals(List.of(), index.rsvpClashes(7L, 3));
+        verify(eventRepository, times(1)).findUpcomingSlots(any());
+    }
+
+    @Test
+    void remove_CancelledEvent_NoLongerClashes() {
+        index.remove(1);
+
+        assertEquals(List.of(), index.rsvpClashes(7L, 3));
+        assertEquals(List.of(2), index.venueClashes("Building 80, Level 7", DAY.atTime(10, 0), DAY.atTime(12, 0), -1));
+    }
+}
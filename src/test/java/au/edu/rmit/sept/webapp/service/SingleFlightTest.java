@@ -0,0 +1,147 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsForTheSameKeyShareOneQuery() throws Exception {
+        // Arrange: the leader holds the flight open until every follower has joined it
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<String>> leader = pool.submit(() -> singleFlight.run("eventById", 7, () -> {
+            queries.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return List.of("event 7");
+        }));
+        assertTrue(leaderStarted.await(2, TimeUnit.SECONDS));
+
+        // Act
+        Future<List<String>> first = pool.submit(() -> singleFlight.run("eventById", 7, () -> query(queries)));
+        Future<List<String>> second = pool.submit(() -> singleFlight.run("eventById", 7, () -> query(queries)));
+        waitForCoalesced(2);
+        release.countDown();
+
+        // Assert
+        assertEquals(List.of("event 7"), leader.get(2, TimeUnit.SECONDS));
+        assertEquals(List.of("event 7"), first.get(2, TimeUnit.SECONDS));
+        assertEquals(List.of("event 7"), second.get(2, TimeUnit.SECONDS));
+        assertEquals(1, queries.get());
+        assertEquals(1, count("executed"));
+    }
+
+    @Test
+    void differentKeysRunSeparately() {
+        // Act
+        String a = singleFlight.run("eventById", 1, () -> "one");
+        String b = singleFlight.run("eventById", 2, () -> "two");
+        String c = singleFlight.run("tagsByEventId", 1, () -> "tags");
+
+        // Assert
+        assertEquals("one", a);
+        assertEquals("two", b);
+        assertEquals("tags", c);
+        assertEquals(0, count("coalesced"));
+    }
+
+    @Test
+    void nothingIsKeptAfterTheCallReturns() {
+        // Act
+        singleFlight.run("eventById", 1, () -> "first");
+        String second = singleFlight.run("eventById", 1, () -> "second");
+
+        // Assert
+        assertEquals("second", second);
+    }
+
+    @Test
+    void leaderFailureReachesFollowersAndClearsTheFlight() throws Exception {
+        // Arrange
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = pool.submit(() -> singleFlight.run("eventById", 3, () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new IllegalStateException("database down");
+        }));
+        assertTrue(leaderStarted.await(2, TimeUnit.SECONDS));
+
+        // Act
+        Future<String> follower = pool.submit(() -> singleFlight.run("eventById", 3, () -> "unused"));
+        waitForCoalesced(1);
+        release.countDown();
+
+        // Assert
+        Exception e = assertThrows(Exception.class, () -> follower.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertThrows(Exception.class, () -> leader.get(2, TimeUnit.SECONDS));
+        assertEquals("recovered", singleFlight.run("eventById", 3, () -> "recovered"));
+    }
+
+    @Test
+    void callsInsideATransactionAreNotCoalesced() {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // Act
+            String result = singleFlight.run("eventById", 1, () -> "own read");
+
+            // Assert
+            assertEquals("own read", result);
+            assertEquals(1, count("bypassed"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private double count(String outcome) {
+        var counter = meterRegistry.find("eventhub.singleflight.calls").tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private void waitForCoalesced(int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (count("coalesced") < followers && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(followers, count("coalesced"));
+    }
+
+    private static List<String> query(AtomicInteger queries) {
+        queries.incrementAndGet();
+        return List.of("follower ran its own query");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import au.edu.rmit.sept.webapp.model.Tags;
+import au.edu.rmit.sept.webapp.repository.EventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TagDictionaryTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private TagDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.findAllTags()).thenReturn(List.of(new Tags(1, "Tech"), new Tags(2, "art")));
+        dictionary = new TagDictionary(eventRepository);
+    }
+
+    @Test
+    void idFor_KnownTag_IsServedFromMemoryIgnoringCase() {
+        assertEquals(1, dictionary.idFor("tech"));
+        assertEquals(2, dictionary.idFor(" ART "));
+
+        verify(eventRepository, times(1)).findAllTags();
+        verify(eventRepository, never()).findOrCreateTag(anyString());
+    }
+
+    @Test
+    void idFor_NewTag_CreatedOnceThenRemembered() {
+        // Arrange
+        when(eventRepository.findOrCreateTag("Music")).thenReturn(3);
+
+        // Act
+        int first = dictionary.idFor("Music");
+        int second = dictionary.idFor("music");
+
+        // Assert
+        assertEquals(3, first);
+        assertEquals(3, second);
+        verify(eventRepository, times(1)).findOrCreateTag("Music");
+        assertEquals(List.of("art", "Music", "Tech"), dictionary.all().stream().map(Tags::tag_name).toList());
+    }
+
+    @Test
+    void idFor_DatabaseError_LeavesTheCacheAlone() {
+        when(eventRepository.findOrCreateTag("Games")).thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> dictionary.idFor("Games"));
+        assertEquals(2, dictionary.all().size());
+    }
+}
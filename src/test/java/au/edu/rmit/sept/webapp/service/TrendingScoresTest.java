@@ -0,0 +1,124 @@
+package au.edu.rmit.sept.webapp.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import au.edu.rmit.sept.webapp.model.Event_Trending_Score;
+import au.edu.rmit.sept.webapp.repository.TrendingScoreRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingScoresTest {
+
+    private static final long HOUR = 3600;
+
+    @Mock
+    private TrendingScoreRepository repository;
+
+    private TrendingScores scores;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        scores = new TrendingScores(repository, 24);
+        now = System.currentTimeMillis() / 1000;
+    }
+
+    @Test
+    void score_HalvesEachHalfLife() {
+        scores.record(1, 4.0, now);
+
+        assertEquals(4.0, scores.decayed(1, now), 1e-9);
+        assertEquals(2.0, scores.decayed(1, now + 24 * HOUR), 1e-9);
+        assertEquals(1.0, scores.decayed(1, now + 48 * HOUR), 1e-9);
+    }
+
+    @Test
+    void top_RecentActivityOutranksOlderBurst() {
+        // Three RSVPs two days ago are worth 0.75 now; one RSVP today is worth 1
+        for (int i = 0; i < 3; i++) {
+            scores.record(1, TrendingScores.RSVP_WEIGHT, now - 48 * HOUR);
+        }
+        scores.record(2, TrendingScores.RSVP_WEIGHT, now);
+        scores.record(3, TrendingScores.RSVP_WEIGHT, now);
+        scores.record(3, TrendingScores.CANCEL_WEIGHT, now);
+
+        assertEquals(List.of(2, 1), scores.top(10, id -> true));
+        assertEquals(List.of(2), scores.top(1, id -> true));
+        assertEquals(List.of(1), scores.top(10, id -> id != 2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void checkpoint_AddsOnlyNewContributions_AndReadsBackOtherInstancesScores() {
+        scores.record(1, 2.0, now);
+        long at = now + 24 * HOUR;
+        LocalDateTime checkpointAt = LocalDateTime.ofInstant(Instant.ofEpochSecond(at), ZoneId.systemDefault());
+        // The table now also holds another instance's contribution to event 7
+        when(repository.findAll()).thenReturn(List.of(
+            new Event_Trending_Score(1, 1.0, checkpointAt),
+            new Event_Trending_Score(7, 3.0, checkpointAt)));
+
+        scores.checkpoint(at);
+
+        ArgumentCaptor<List<Event_Trending_Score>> added = ArgumentCaptor.forClass(List.class);
+        verify(repository).addAll(added.capture(), anyDouble());
+        assertEquals(1, added.getValue().size());
+        assertEquals(1.0, added.getValue().get(0).score(), 1e-9);
+        verify(repository).deleteBelow(anyDouble(), anyDouble(), eq(checkpointAt));
+        assertEquals(1.0, scores.decayed(1, at), 1e-9);
+        assertEquals(3.0, scores.decayed(7, at), 1e-9);
+
+        // Nothing new since: the next checkpoint adds nothing
+        scores.checkpoint(at);
+        verify(repository).addAll(eq(List.of()), anyDouble());
+    }
+
+    @Test
+    void checkpoint_FailedWrite_KeepsContributionsForNextTime() {
+        scores.record(1, 2.0, now);
+        doThrow(new DataAccessResourceFailureException("down")).when(repository).addAll(anyList(), anyDouble());
+
+        assertThrows(DataAccessResourceFailureException.class, () -> scores.checkpoint(now));
+
+        assertEquals(2.0, scores.decayed(1, now), 1e-9);
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    void checkpoint_MovesTheLandmark_SoLongUptimeDoesNotOverflow() {
+        // Against the startup landmark, three years of one-day half-lives is past e^709
+        long later = now + 3 * 365 * 24 * HOUR;
+        scores.record(1, 4.0, now);
+
+        scores.checkpoint(later);
+        scores.record(2, 2.0, later);
+
+        assertEquals(2.0, scores.decayed(2, later), 1e-9);
+        assertEquals(1.0, scores.decayed(2, later + 24 * HOUR), 1e-9);
+        assertEquals(List.of(2), scores.top(10, id -> true));
+    }
+
+    @Test
+    void warmUp_RestoresCheckpointAsOfItsTime() {
+        LocalDateTime dayAgo = LocalDateTime.now().minusHours(24).withNano(0);
+        when(repository.findAll()).thenReturn(List.of(new Event_Trending_Score(5, 8.0, dayAgo)));
+
+        scores.warmUp();
+
+        assertEquals(4.0, scores.score(5), 0.01);
+    }
+}
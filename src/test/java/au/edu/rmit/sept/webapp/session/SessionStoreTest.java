@@ -0,0 +1,193 @@
+package au.edu.rmit.sept.webapp.session;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import au.edu.rmit.sept.webapp.dto.SessionIdentity;
+import au.edu.rmit.sept.webapp.model.Http_Session;
+import au.edu.rmit.sept.webapp.model.Organiser_Profile;
+import au.edu.rmit.sept.webapp.model.User;
+import au.edu.rmit.sept.webapp.repository.SessionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SessionStoreTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    private SessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        // touch interval 0 so every clean request queues an access-time bump
+        store = new SessionStore(sessionRepository, 1800, 60_000, 0, 2);
+    }
+
+    @Test
+    void codec_RoundTripsLoginAttributes() {
+        // Arrange
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("user", new User(7, "org@test.com", "hash", LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123), "ACTIVE"));
+        attributes.put("userId", 7);
+        attributes.put("role", "ORGANISER");
+        attributes.put("is_organiser", true);
+        attributes.put("organiser", new Organiser_Profile(3, 7, 2, "President"));
+        attributes.put(SessionIdentity.SESSION_KEY, new SessionIdentity(7, "org@test.com", "Olivia", "ORGANISER", 3, null));
+        attributes.put("organiserIdLong", 5L);
+
+        // Act
+        Map<String, Object> decoded = SessionAttributeCodec.decode(SessionAttributeCodec.encode(attributes));
+
+        // Assert
+        assertEquals(attributes, decoded);
+    }
+
+    @Test
+    void codec_SkipsValuesThatCannotBeEncoded() {
+        // Arrange
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("userId", 7);
+        attributes.put("localCache", new Object());
+
+        // Act
+        Map<String, Object> decoded = SessionAttributeCodec.decode(SessionAttributeCodec.encode(attributes));
+
+        // Assert
+        assertEquals(Map.of("userId", 7), decoded);
+    }
+
+    @Test
+    void commit_NewSession_SavesRowAndServesNextReadFromNearCache() {
+        // Arrange
+        JdbcHttpSession session = store.createSession(null);
+        session.setAttribute("userId", 7);
+
+        // Act
+        store.commit(session);
+        JdbcHttpSession found = store.findById(session.getId(), null);
+
+        // Assert
+        ArgumentCaptor<Http_Session> saved = ArgumentCaptor.forClass(Http_Session.class);
+        verify(sessionRepository).save(saved.capture());
+        assertEquals(session.getId(), saved.getValue().session_id());
+        assertEquals(1800, saved.getValue().max_inactive_interval());
+        assertSame(session, found);
+        assertFalse(found.isDirty());
+        verify(sessionRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void commit_CleanSession_OnlyQueuesTouchForBatch() {
+        // Arrange
+        JdbcHttpSession session = store.createSession(null);
+        store.commit(session);
+        JdbcHttpSession found = store.findById(session.getId(), null);
+
+        // Act
+        store.commit(found);
+
+        // Assert - no second full write, one pending touch
+        verify(sessionRepository, times(1)).save(any());
+        assertEquals(1, store.pendingTouchCount());
+
+        store.flushTouches();
+        verify(sessionRepository).touchAll(argThat(batch -> batch.containsKey(session.getId())));
+        assertEquals(0, store.pendingTouchCount());
+    }
+
+    @Test
+    void findById_LoadsFromRepositoryAndDecodesAttributes() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        byte[] attributes = SessionAttributeCodec.encode(Map.of("role", "STUDENT"));
+        when(sessionRepository.findById("abc"))
+            .thenReturn(Optional.of(new Http_Session("abc", now, now, 1800, now + 1_800_000, attributes)));
+
+        // Act
+        JdbcHttpSession session = store.findById("abc", null);
+
+        // Assert
+        assertNotNull(session);
+        assertEquals("STUDENT", session.getAttribute("role"));
+        assertFalse(session.isNew());
+        assertEquals(1, store.nearCacheSize());
+    }
+
+    @Test
+    void findById_ExpiredRow_ReturnsNull() {
+        // Arrange
+        long past = System.currentTimeMillis() - 10_000;
+        when(sessionRepository.findById("old"))
+            .thenReturn(Optional.of(new Http_Session("old", past, past, 1, past + 1000, new byte[0])));
+
+        // Act & Assert
+        assertNull(store.findById("old", null));
+    }
+
+    @Test
+    void commit_InvalidatedSession_DeletesRow() {
+        // Arrange
+        JdbcHttpSession session = store.createSession(null);
+        store.commit(session);
+
+        // Act
+        session.invalidate();
+        store.commit(session);
+
+        // Assert
+        verify(sessionRepository).deleteById(session.getId());
+        assertEquals(0, store.nearCacheSize());
+    }
+
+    @Test
+    void changeSessionId_RenamedSessionIsSaved_AndReloadsUnderTheNewId() {
+        // Arrange
+        JdbcHttpSession session = store.createSession(null);
+        session.setAttribute("userId", 7);
+        store.commit(session);
+
+        // Act - the filter commits both the old and the renamed session
+        JdbcHttpSession renamed = store.changeSessionId(session, null);
+        store.commit(session);
+        store.commit(renamed);
+
+        // Assert - a store with a cold near-cache finds the new id in the table
+        ArgumentCaptor<Http_Session> saved = ArgumentCaptor.forClass(Http_Session.class);
+        verify(sessionRepository, times(2)).save(saved.capture());
+        verify(sessionRepository).deleteById(session.getId());
+        Http_Session row = saved.getValue();
+        assertEquals(renamed.getId(), row.session_id());
+        assertNotEquals(session.getId(), renamed.getId());
+        when(sessionRepository.findById(renamed.getId())).thenReturn(Optional.of(row));
+
+        JdbcHttpSession reloaded = new SessionStore(sessionRepository, 1800, 60_000, 0, 2)
+            .findById(renamed.getId(), null);
+        assertNotNull(reloaded);
+        assertEquals(7, reloaded.getAttribute("userId"));
+    }
+
+    @Test
+    void purgeExpired_DeletesInBatchesUntilDrained() {
+        // Arrange - batch size is 2
+        when(sessionRepository.deleteExpired(anyLong(), eq(2))).thenReturn(2, 2, 1);
+
+        // Act
+        store.purgeExpired();
+
+        // Assert
+        verify(sessionRepository, times(3)).deleteExpired(anyLong(), eq(2));
+    }
+}